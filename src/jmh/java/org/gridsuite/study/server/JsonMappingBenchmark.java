@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.loadflow.LoadFlowParameters;
+import org.gridsuite.study.server.dto.LoadFlowParametersInfos;
+import org.gridsuite.study.server.dto.impacts.AbstractBaseImpact;
+import org.gridsuite.study.server.dto.impacts.SimpleElementImpact;
+import org.gridsuite.study.server.dto.modification.NetworkModificationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (de)serialization with the object mapper of {@link RestTemplateConfig} and its powsybl modules,
+ * used for the messages payloads and the remote services responses
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    @Param({"10", "1000"})
+    private int impactCount;
+
+    private ObjectMapper objectMapper;
+
+    private NetworkModificationResult networkModificationResult;
+
+    private String networkModificationResultJson;
+
+    private LoadFlowParametersInfos loadFlowParametersInfos;
+
+    private String loadFlowParametersInfosJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        objectMapper = new RestTemplateConfig().objectMapper();
+
+        List<AbstractBaseImpact> impacts = new ArrayList<>(impactCount);
+        for (int i = 0; i < impactCount; i++) {
+            impacts.add(SimpleElementImpact.builder()
+                .simpleImpactType(SimpleElementImpact.SimpleImpactType.MODIFICATION)
+                .elementType(IdentifiableType.LINE)
+                .elementId("LINE_" + i)
+                .substationIds(Set.of("S" + i, "S" + (i + 1)))
+                .build());
+        }
+        networkModificationResult = NetworkModificationResult.builder().networkImpacts(impacts).build();
+        networkModificationResultJson = objectMapper.writeValueAsString(networkModificationResult);
+
+        loadFlowParametersInfos = LoadFlowParametersInfos.builder()
+            .provider("OpenLoadFlow")
+            .commonParameters(new LoadFlowParameters())
+            .specificParametersPerProvider(Map.of("OpenLoadFlow", Map.of("maxOuterLoopIterations", "30")))
+            .build();
+        loadFlowParametersInfosJson = objectMapper.writeValueAsString(loadFlowParametersInfos);
+    }
+
+    @Benchmark
+    public String writeNetworkModificationResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(networkModificationResult);
+    }
+
+    @Benchmark
+    public NetworkModificationResult readNetworkModificationResult() throws JsonProcessingException {
+        return objectMapper.readValue(networkModificationResultJson, NetworkModificationResult.class);
+    }
+
+    @Benchmark
+    public String writeLoadFlowParameters() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(loadFlowParametersInfos);
+    }
+
+    @Benchmark
+    public LoadFlowParametersInfos readLoadFlowParameters() throws JsonProcessingException {
+        return objectMapper.readValue(loadFlowParametersInfosJson, LoadFlowParametersInfos.class);
+    }
+}
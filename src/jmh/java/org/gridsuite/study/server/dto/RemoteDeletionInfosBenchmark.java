@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregation of the remote resources to delete when a node tree is invalidated or deleted
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoteDeletionInfosBenchmark {
+
+    @Param({"100", "1000"})
+    private int nodeCount;
+
+    private List<InvalidateNodeInfos> nodesInvalidateInfos;
+
+    @Setup
+    public void setup() {
+        nodesInvalidateInfos = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            InvalidateNodeInfos infos = new InvalidateNodeInfos();
+            infos.addNodeUuid(UUID.randomUUID());
+            infos.addGroupUuids(List.of(UUID.randomUUID()));
+            infos.addVariantId("variant_" + i);
+            infos.addReportUuid(UUID.randomUUID());
+            infos.addLoadFlowResultUuid(UUID.randomUUID());
+            infos.addSecurityAnalysisResultUuid(UUID.randomUUID());
+            infos.addSensitivityAnalysisResultUuid(UUID.randomUUID());
+            infos.addShortCircuitAnalysisResultUuid(UUID.randomUUID());
+            infos.addOneBusShortCircuitAnalysisResultUuid(UUID.randomUUID());
+            infos.addVoltageInitResultUuid(UUID.randomUUID());
+            infos.addStateEstimationResultUuid(UUID.randomUUID());
+            infos.addPccMinResultUuid(UUID.randomUUID());
+            infos.addDynamicSimulationResultUuid(UUID.randomUUID());
+            nodesInvalidateInfos.add(infos);
+        }
+    }
+
+    @Benchmark
+    public RemoteDeletionInfos aggregate() {
+        InvalidateNodeInfos invalidateNodeInfos = new InvalidateNodeInfos();
+        nodesInvalidateInfos.forEach(invalidateNodeInfos::add);
+        return invalidateNodeInfos.toRemoteDeletionInfos(invalidateNodeInfos);
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escaping of the user input and building of the equipment search query, done for every searched string
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EquipmentSearchQueryBenchmark {
+
+    @Param({"GEN", "P.DEPART-1 (LINE:400kV)"})
+    private String userInput;
+
+    @Param({"", "LOAD"})
+    private String equipmentType;
+
+    private EquipmentInfosService equipmentInfosService;
+
+    private UUID networkUuid;
+
+    @Setup
+    public void setup() {
+        // the query building does not use the repositories nor the elasticsearch client
+        equipmentInfosService = new EquipmentInfosService(null, null, null);
+        networkUuid = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public String escapeLucene() {
+        return EquipmentInfosService.escapeLucene(userInput);
+    }
+
+    @Benchmark
+    public BoolQuery buildSearchEquipmentsQuery() {
+        return equipmentInfosService.buildSearchEquipmentsQuery(userInput, EquipmentInfosService.FieldSelector.NAME, networkUuid,
+            VariantManagerConstants.INITIAL_VARIANT_ID, equipmentType);
+    }
+}
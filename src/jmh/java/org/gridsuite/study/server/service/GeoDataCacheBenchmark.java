@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.study.server.RemoteServicesProperties;
+import org.gridsuite.study.server.RestTemplateConfig;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Geo data of the lines of a 50k lines network, asked by the map on each refresh, done by {@link GeoDataService#getLinesGraphics} :
+ * without cache, the geo data of all the lines is serialized by the geo-data server, with the cache only the geo data
+ * of the missing lines is requested and merged with the cached one. The geo-data server is replaced by a serialization
+ * of the requested lines geo data, so the network transfer saved by the cache is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoDataCacheBenchmark {
+
+    private static final int LINE_COUNT = 50_000;
+
+    private static final int MISSING_LINE_COUNT = 500;
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+
+    private static final String VARIANT_ID = "variant_1";
+
+    private GeoDataService geoDataService;
+
+    private GeoDataService cachedGeoDataService;
+
+    private List<String> linesIds;
+
+    private List<String> partiallyCachedLinesIds;
+
+    private int partialHitsCount;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new RestTemplateConfig().objectMapper();
+        RemoteServicesProperties remoteServicesProperties = new RemoteServicesProperties();
+        remoteServicesProperties.setServices(List.of(new RemoteServicesProperties.Service("geo-data-server", "http://geo-data-server", false)));
+        RestTemplate geoDataServer = new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T postForObject(String url, Object request, Class<T> responseType, Object... uriVariables) {
+                return (T) ((List<String>) ((HttpEntity<?>) request).getBody()).stream()
+                    .map(id -> "{\"id\":\"" + id + "\",\"country1\":\"FR\",\"country2\":\"FR\",\"substationStart\":\"s1\",\"substationEnd\":\"s2\"," +
+                        "\"coordinates\":[{\"lat\":48.856614,\"lon\":2.3522219},{\"lat\":45.764043,\"lon\":4.835659}]}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            }
+        };
+        // variants never rebuilt, at their first version
+        RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository = mock(RootNetworkNodeInfoRepository.class);
+        geoDataService = new GeoDataService(remoteServicesProperties, geoDataServer, objectMapper,
+            new VariantDataCacheService(new SimpleMeterRegistry(), objectMapper, rootNetworkNodeInfoRepository), Duration.ZERO, DataSize.ofMegabytes(128));
+        cachedGeoDataService = new GeoDataService(remoteServicesProperties, geoDataServer, objectMapper,
+            new VariantDataCacheService(new SimpleMeterRegistry(), objectMapper, rootNetworkNodeInfoRepository), Duration.ofHours(1), DataSize.ofMegabytes(128));
+        linesIds = IntStream.range(0, LINE_COUNT).mapToObj(i -> "line_" + i).toList();
+        cachedGeoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, linesIds);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupPartialHits() {
+        // lines never requested before are added to the cached ones
+        partiallyCachedLinesIds = new ArrayList<>(linesIds.subList(MISSING_LINE_COUNT, LINE_COUNT));
+        int first = partialHitsCount++ * MISSING_LINE_COUNT;
+        IntStream.range(first, first + MISSING_LINE_COUNT).forEach(i -> partiallyCachedLinesIds.add("new_line_" + i));
+    }
+
+    @Benchmark
+    public String getLinesGraphics() {
+        return geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, linesIds);
+    }
+
+    @Benchmark
+    public String getCachedLinesGraphics() {
+        return cachedGeoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, linesIds);
+    }
+
+    @Benchmark
+    public String getPartiallyCachedLinesGraphics() {
+        return cachedGeoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, partiallyCachedLinesIds);
+    }
+}
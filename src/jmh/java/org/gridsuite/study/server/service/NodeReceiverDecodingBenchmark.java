@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.gridsuite.study.server.RestTemplateConfig;
+import org.gridsuite.study.server.dto.NodeReceiver;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of the receiver header of the computation and build result messages, done by {@link ConsumerService}
+ * for every consumed message : with the object mapper, as done before, and with the object reader of the consumer.
+ * A voltage init result message used to be decoded 5 times by its handlers, it is now decoded once in a {@link ConsumedMessageContext}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeReceiverDecodingBenchmark {
+
+    private static final int VOLTAGE_INIT_RESULT_DECODINGS = 5;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectReader nodeReceiverReader;
+
+    private String receiver;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        objectMapper = new RestTemplateConfig().objectMapper();
+        nodeReceiverReader = objectMapper.readerFor(NodeReceiver.class);
+        receiver = URLEncoder.encode(objectMapper.writeValueAsString(new NodeReceiver(UUID.randomUUID(), UUID.randomUUID())), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public NodeReceiver decodeReceiver() throws JsonProcessingException {
+        return objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8), NodeReceiver.class);
+    }
+
+    @Benchmark
+    public NodeReceiver decodeReceiverWithReader() throws JsonProcessingException {
+        return ConsumedMessageContext.decodeNodeReceiver(receiver, nodeReceiverReader);
+    }
+
+    @Benchmark
+    public void decodeVoltageInitResultReceiverByHandler(Blackhole blackhole) throws JsonProcessingException {
+        for (int i = 0; i < VOLTAGE_INIT_RESULT_DECODINGS; i++) {
+            blackhole.consume(objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8), NodeReceiver.class));
+        }
+    }
+}
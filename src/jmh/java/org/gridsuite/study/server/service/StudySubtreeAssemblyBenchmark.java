@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import org.gridsuite.study.server.networkmodificationtree.dto.AbstractNode;
+import org.gridsuite.study.server.networkmodificationtree.dto.NetworkModificationNode;
+import org.gridsuite.study.server.networkmodificationtree.dto.RootNode;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In memory assembly of the study tree from the loaded nodes, done by {@link NetworkModificationTreeService#getStudySubtree}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudySubtreeAssemblyBenchmark {
+
+    @Param({"100", "1000"})
+    private int nodeCount;
+
+    private UUID rootNodeUuid;
+
+    private List<NodeEntity> nodes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        NodeEntity rootNode = new NodeEntity();
+        rootNode.setIdNode(UUID.randomUUID());
+        rootNode.setType(NodeType.ROOT);
+        rootNodeUuid = rootNode.getIdNode();
+
+        List<NodeEntity> allNodes = new ArrayList<>(List.of(rootNode));
+        for (int i = 1; i < nodeCount; i++) {
+            NodeEntity node = new NodeEntity();
+            node.setIdNode(UUID.randomUUID());
+            node.setType(NodeType.NETWORK_MODIFICATION);
+            node.setParentNode(allNodes.get(random.nextInt(allNodes.size())));
+            allNodes.add(node);
+        }
+        // the root node is not one of its own children
+        nodes = allNodes.subList(1, allNodes.size());
+    }
+
+    @Benchmark
+    public AbstractNode assembleSubtree() {
+        // the node infos are rebuilt for each assembly, as they are by getStudySubtree
+        List<AbstractNode> nodeInfos = new ArrayList<>(nodeCount);
+        nodeInfos.add(RootNode.builder().id(rootNodeUuid).type(NodeType.ROOT).build());
+        nodes.forEach(node -> nodeInfos.add(NetworkModificationNode.builder().id(node.getIdNode()).type(NodeType.NETWORK_MODIFICATION).build()));
+        return NetworkModificationTreeService.assembleSubtree(rootNodeUuid, nodes, nodeInfos);
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service.client.timeseries;
+
+import com.powsybl.timeseries.IrregularTimeSeriesIndex;
+import com.powsybl.timeseries.TimeSeries;
+import com.powsybl.timeseries.TimeSeriesIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Decoding of the dynamic simulation curves returned by the time-series server, for a group of 2 millions points,
+ * run with -prof gc to compare the allocations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class TimeSeriesDecodingBenchmark {
+    private static final int CURVE_COUNT = 20;
+    private static final int POINT_COUNT = 100_000;
+
+    @Param({"1", "20"})
+    private int requestedCurveCount;
+
+    private byte[] timeSeriesJson;
+
+    private List<String> timeSeriesNames;
+
+    @Setup
+    public void setup() {
+        TimeSeriesIndex index = new IrregularTimeSeriesIndex(IntStream.range(0, POINT_COUNT).mapToLong(i -> i * 10L).toArray());
+        List<TimeSeries> timeSeries = new ArrayList<>(CURVE_COUNT);
+        for (int curve = 0; curve < CURVE_COUNT; curve++) {
+            int offset = curve;
+            timeSeries.add(TimeSeries.createDouble("curve_" + curve, index, IntStream.range(0, POINT_COUNT).mapToDouble(i -> offset + i / 1000.).toArray()));
+        }
+        timeSeriesJson = TimeSeries.toJson(timeSeries).getBytes(StandardCharsets.UTF_8);
+        timeSeriesNames = IntStream.range(0, requestedCurveCount).mapToObj(curve -> "curve_" + curve).toList();
+    }
+
+    @Benchmark
+    public List<TimeSeries> parseJsonString() {
+        // previous decoding : whole json text, then all the time series
+        return TimeSeries.parseJson(new String(timeSeriesJson, StandardCharsets.UTF_8)).stream()
+            .filter(series -> timeSeriesNames.contains(series.getMetadata().getName()))
+            .toList();
+    }
+
+    @Benchmark
+    public List<TimeSeries> decodeJsonStream() throws IOException {
+        return TimeSeriesJsonDecoder.decode(new ByteArrayInputStream(timeSeriesJson), timeSeriesNames);
+    }
+}
@@ -11,10 +11,13 @@ import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.NetworkListener;
 import org.gridsuite.study.server.elasticsearch.EquipmentInfosService;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
+ * Collects the variants removed from a network, to delete their indexed equipments all at once
+ *
  * @author Nicolas Noir <nicolas.noir at rte-france.com>
  */
 public class NetworkVariantsListener implements NetworkListener {
@@ -23,6 +26,8 @@ public class NetworkVariantsListener implements NetworkListener {
 
     private final EquipmentInfosService equipmentInfosService;
 
+    private final List<String> removedVariantIds = new ArrayList<>();
+
     public NetworkVariantsListener(UUID networkUuid, EquipmentInfosService equipmentInfosService) {
         this.networkUuid = networkUuid;
         this.equipmentInfosService = equipmentInfosService;
@@ -50,7 +55,14 @@ public class NetworkVariantsListener implements NetworkListener {
 
     @Override
     public void onVariantRemoved(String variantId) {
-        equipmentInfosService.deleteVariants(networkUuid, List.of(variantId));
+        removedVariantIds.add(variantId);
+    }
+
+    public void deleteRemovedVariants() {
+        if (!removedVariantIds.isEmpty()) {
+            equipmentInfosService.deleteVariants(networkUuid, List.copyOf(removedVariantIds));
+            removedVariantIds.clear();
+        }
     }
 
     @Override
@@ -18,6 +18,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
@@ -36,6 +37,7 @@ public class RemoteServicesProperties {
     private List<Service> services;
     @NotNull private EnumMap<FrontService, EnumSet<RemoteServiceName>> remoteServiceViewFilter = new EnumMap<>(FrontService.class);
     @NotNull private EnumSet<RemoteServiceName> remoteServiceViewDefault = EnumSet.allOf(RemoteServiceName.class);
+    @NotNull private HttpClientSettings httpClient = new HttpClientSettings();
 
     @AllArgsConstructor
     @NoArgsConstructor
@@ -44,6 +46,35 @@ public class RemoteServicesProperties {
         @NotBlank private String name;
         @NotBlank @URL private String baseUri;
         private boolean optional = false;
+        // overrides of the http client settings for this service
+        private Integer maxConnections;
+        private Duration connectTimeout;
+        private Duration readTimeout;
+
+        public Service(String name, String baseUri, boolean optional) {
+            this.name = name;
+            this.baseUri = baseUri;
+            this.optional = optional;
+        }
+    }
+
+    /**
+     * Settings of the pooled http client used to call the remote services, by default for each service.
+     * There is no limit of the connections of all the services, each service has its own pool.
+     * Without max connections per service, a pool has as many connections as the threads that may send requests at the
+     * same time : the study server executor max concurrency plus the servlet max threads.
+     */
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Data
+    public static class HttpClientSettings {
+        private Integer maxConnectionsPerService;
+        @NotNull private Duration connectTimeout = Duration.ofSeconds(5);
+        @NotNull private Duration readTimeout = Duration.ofMinutes(5);
+        // maximum time waiting for a connection of the pool
+        @NotNull private Duration connectionRequestTimeout = Duration.ofSeconds(30);
+        // pooled connections unused for this duration are closed
+        @NotNull private Duration idleTimeout = Duration.ofMinutes(1);
     }
 
     public String getServiceUri(String serviceName) {
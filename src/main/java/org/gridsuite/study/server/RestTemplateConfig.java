@@ -20,6 +20,8 @@ import com.powsybl.security.json.SecurityAnalysisJsonModule;
 import com.powsybl.sensitivity.json.SensitivityJsonModule;
 import com.powsybl.shortcircuit.json.ShortCircuitAnalysisJsonModule;
 import com.powsybl.timeseries.json.TimeSeriesJsonModule;
+import org.gridsuite.study.server.service.client.RemoteServiceMetricsInterceptor;
+import org.gridsuite.study.server.service.client.RemoteServicesClientHttpRequestFactory;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,8 +34,13 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        final RestTemplate restTemplate = builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     RemoteServicesClientHttpRequestFactory remoteServicesClientHttpRequestFactory,
+                                     RemoteServiceMetricsInterceptor remoteServiceMetricsInterceptor) {
+        final RestTemplate restTemplate = builder
+            .requestFactory(() -> remoteServicesClientHttpRequestFactory)
+            .additionalInterceptors(remoteServiceMetricsInterceptor)
+            .build();
 
         //find and replace Jackson message converter with our own
         for (int i = 0; i < restTemplate.getMessageConverters().size(); i++) {
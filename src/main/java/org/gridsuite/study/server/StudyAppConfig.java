@@ -9,8 +9,10 @@ package org.gridsuite.study.server;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableAsync
+@EnableScheduling
 @EnableConfigurationProperties
 @Configuration
 public class StudyAppConfig {
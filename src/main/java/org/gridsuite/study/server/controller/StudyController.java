@@ -1595,11 +1595,17 @@ public class StudyController {
 
     @GetMapping(value = "/studies/{studyUuid}/root-networks/{rootNetworkUuid}/nodes/{nodeUuid}/computations/status")
     @Operation(summary = "Get all computation status on study")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "all status are returned")})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "all status are returned"),
+        @ApiResponse(responseCode = "207", description = "Partial result because some computation servers haven't responded in time or threw an error")})
     public ResponseEntity<Map<ComputationType, String>> getAllComputationsStatus(@Parameter(description = "Study UUID") @PathVariable("studyUuid") UUID studyUuid,
                                                                                  @Parameter(description = "Root network UUID") @PathVariable("rootNetworkUuid") UUID rootNetworkUuid,
                                                                                  @Parameter(description = "Node UUID") @PathVariable("nodeUuid") UUID nodeUuid) {
-        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(studyService.getAllComputationsStatus(studyUuid, rootNetworkUuid, nodeUuid));
+        try {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(studyService.getAllComputationsStatus(studyUuid, rootNetworkUuid, nodeUuid));
+        } catch (final PartialResultException e) {
+            return ResponseEntity.status(HttpStatus.MULTI_STATUS).contentType(MediaType.APPLICATION_JSON).body((Map<ComputationType, String>) e.getResult());
+        }
     }
 
     @GetMapping(value = "/studies/{studyUuid}/export/{studyName}", produces = "application/zip")
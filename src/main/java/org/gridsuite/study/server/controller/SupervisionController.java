@@ -15,6 +15,7 @@ import org.apache.http.HttpHost;
 import org.elasticsearch.client.RestClient;
 import org.gridsuite.study.server.StudyApi;
 import org.gridsuite.study.server.dto.ComputationType;
+import org.gridsuite.study.server.dto.supervision.ComputationResultsPurgeInfos;
 import org.gridsuite.study.server.dto.supervision.SupervisionStudyInfos;
 import org.gridsuite.study.server.elasticsearch.EquipmentInfosService;
 import org.gridsuite.study.server.service.RootNetworkService;
@@ -83,6 +84,13 @@ public class SupervisionController {
         return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(supervisionService.deleteComputationResults(computationType, dryRun));
     }
 
+    @GetMapping(value = "/computation/results/purges")
+    @Operation(summary = "get the progress of the current and last computation results deletions")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "the progress of the computation results deletions")})
+    public ResponseEntity<List<ComputationResultsPurgeInfos>> getComputationResultsPurges() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(supervisionService.getComputationResultsPurges());
+    }
+
     @GetMapping(value = "/elasticsearch-host")
     @Operation(summary = "get the elasticsearch address")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "the elasticsearch address")})
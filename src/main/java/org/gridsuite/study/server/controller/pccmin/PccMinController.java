@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.gridsuite.study.server.StudyApi;
 import org.gridsuite.study.server.service.RootNetworkNodeInfoService;
 import org.gridsuite.study.server.service.StudyService;
@@ -49,14 +50,15 @@ public class PccMinController {
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Csv of pcc min results"),
         @ApiResponse(responseCode = "204", description = "No pcc min has been done yet"),
         @ApiResponse(responseCode = "404", description = "The pcc min has not been found")})
-    public ResponseEntity<byte[]> exportPccMinResultsAsCsv(
+    public void exportPccMinResultsAsCsv(
             @Parameter(description = "study UUID") @PathVariable("studyUuid") UUID studyUuid,
             @Parameter(description = "rootNetworkUuid") @PathVariable("rootNetworkUuid") UUID rootNetworkUuid,
             @Parameter(description = "nodeUuid") @PathVariable("nodeUuid") UUID nodeUuid,
             @Parameter(description = "JSON array of filters") @RequestParam(name = "filters", required = false) String filters,
             @Parameter(description = "JSON array of global filters") @RequestParam(name = "globalFilters", required = false) String globalFilters,
-            Sort sort, @RequestBody String csvHeaders) {
-        return rootNetworkNodeInfoService.exportPccMinResultsAsCsv(nodeUuid, rootNetworkUuid, csvHeaders, sort, filters, globalFilters);
+            Sort sort, @RequestBody String csvHeaders,
+            HttpServletResponse response) {
+        rootNetworkNodeInfoService.exportPccMinResultsAsCsv(nodeUuid, rootNetworkUuid, csvHeaders, sort, filters, globalFilters, response);
     }
 
     @PostMapping(value = "/run")
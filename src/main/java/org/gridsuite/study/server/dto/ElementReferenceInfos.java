@@ -0,0 +1,17 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.dto;
+
+import java.util.UUID;
+
+/**
+ * Reference to a shared element stored in directory server
+ * @param elementUuid uuid of the referenced shared element in the directory-server
+ * @param referenceUuid uuid of the composite or node where the 'Modification reference' is located
+ */
+public record ElementReferenceInfos(UUID elementUuid, UUID referenceUuid) {
+}
@@ -47,7 +47,9 @@ public class BasicEquipmentInfos {
         mainField = @Field(name = "equipmentId", type = FieldType.Text),
         otherFields = {
             @InnerField(suffix = "fullascii", type = FieldType.Keyword, normalizer = "fullascii"),
-            @InnerField(suffix = "raw", type = FieldType.Keyword)
+            @InnerField(suffix = "raw", type = FieldType.Keyword),
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "fullascii_ngram", searchAnalyzer = "fullascii_keyword"),
+            @InnerField(suffix = "prefix", type = FieldType.Text, analyzer = "fullascii_edge_ngram", searchAnalyzer = "fullascii_keyword")
         }
     )
     protected String id;
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.dto.supervision;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.gridsuite.study.server.dto.ComputationType;
+
+import java.time.Instant;
+
+/**
+ * Progress of the purge of the results of a computation, the purged count is the count of root network node infos
+ * whose results were removed
+ */
+@Schema(description = "Computation results purge progress")
+public record ComputationResultsPurgeInfos(ComputationType computationType, Status status, int purgedCount, Instant startDate, Instant endDate) {
+    public enum Status {
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    public ComputationResultsPurgeInfos progress(int purgedCount) {
+        return new ComputationResultsPurgeInfos(computationType, status, purgedCount, startDate, endDate);
+    }
+
+    public ComputationResultsPurgeInfos end(Status status) {
+        return new ComputationResultsPurgeInfos(computationType, status, purgedCount, startDate, Instant.now());
+    }
+}
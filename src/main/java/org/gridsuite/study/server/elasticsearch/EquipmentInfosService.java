@@ -10,7 +10,7 @@ import co.elastic.clients.elasticsearch._types.*;
 import co.elastic.clients.elasticsearch._types.aggregations.*;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
-import co.elastic.clients.json.JsonData;
+import co.elastic.clients.elasticsearch.core.search.FieldCollapse;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -26,12 +26,16 @@ import org.springframework.data.elasticsearch.client.elc.*;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import static java.util.Map.entry;
 
 /**
@@ -77,6 +81,22 @@ public class EquipmentInfosService {
     static final String EQUIPMENT_NAME = "equipmentName.fullascii";
     static final String EQUIPMENT_ID = "equipmentId.fullascii";
     static final String EQUIPMENT_TYPE = "equipmentType.keyword";
+    static final String EQUIPMENT_NAME_NGRAM = "equipmentName.ngram";
+    static final String EQUIPMENT_ID_NGRAM = "equipmentId.ngram";
+    static final String EQUIPMENT_NAME_PREFIX = "equipmentName.prefix";
+    static final String EQUIPMENT_ID_PREFIX = "equipmentId.prefix";
+    static final String EQUIPMENT_ID_RAW = "equipmentId.raw";
+    static final String EQUIPMENT_TYPE_FIELD = "equipmentType";
+    static final String INDEX = "_index";
+
+    // Inner hits of the equipments collapsed by id, with the copy of highest variant precedence first
+    private static final String VARIANT_PRECEDENCE_HITS = "variantPrecedence";
+
+    // Keep in sync with the max_gram of the ngram filters in elasticsearch_settings.json
+    private static final int NGRAM_MAX_LENGTH = 12;
+
+    // Added to the score of the equipments starting with the user input : lower than the gap between two type scores
+    private static final double PREFIX_MATCH_WEIGHT = 0.5;
 
     private final EquipmentInfosRepository equipmentInfosRepository;
 
@@ -96,6 +116,14 @@ public class EquipmentInfosService {
     @Getter
     private String tombstonedEquipmentsIndexName;
 
+    // Number of slices of the variants deletion by query, not sliced when lower than 2
+    @Value("${study.elasticsearch.variants-deletion.slices:0}")
+    private long variantsDeletionSlices;
+
+    // Refresh the indices after the variants deletion, to make it visible to the next searches
+    @Value("${study.elasticsearch.variants-deletion.refresh:true}")
+    private boolean variantsDeletionRefresh;
+
     public EquipmentInfosService(EquipmentInfosRepository equipmentInfosRepository, TombstonedEquipmentInfosRepository tombstonedEquipmentInfosRepository, ElasticsearchOperations
             elasticsearchOperations) {
         this.equipmentInfosRepository = equipmentInfosRepository;
@@ -127,10 +155,32 @@ public class EquipmentInfosService {
     }
 
     public void deleteVariants(@NonNull UUID networkUuid, List<String> variantIds) {
-        variantIds.forEach(variantId -> {
-            equipmentInfosRepository.deleteAllByNetworkUuidAndVariantId(networkUuid, variantId);
-            tombstonedEquipmentInfosRepository.deleteAllByNetworkUuidAndVariantId(networkUuid, variantId);
-        });
+        if (variantIds.isEmpty()) {
+            return;
+        }
+        // a single delete by query per index for all the variants
+        DeleteQuery deleteQuery = buildDeleteVariantsQuery(networkUuid, variantIds);
+        long startTime = System.nanoTime();
+        ByQueryResponse equipmentsResponse = elasticsearchOperations.delete(deleteQuery, EquipmentInfos.class, IndexCoordinates.of(equipmentsIndexName));
+        ByQueryResponse tombstonedEquipmentsResponse = elasticsearchOperations.delete(deleteQuery, TombstonedEquipmentInfos.class, IndexCoordinates.of(tombstonedEquipmentsIndexName));
+        LOGGER.trace("Indexes deletion for {} variants of network '{}' : {} equipments and {} tombstoned equipments in {} ms", variantIds.size(), networkUuid,
+            equipmentsResponse.getDeleted(), tombstonedEquipmentsResponse.getDeleted(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private DeleteQuery buildDeleteVariantsQuery(UUID networkUuid, List<String> variantIds) {
+        TermQuery networkUuidQuery = Queries.termQuery(NETWORK_UUID, networkUuid.toString());
+        TermsQuery variantIdsQuery = new TermsQuery.Builder().field(VARIANT_ID)
+            .terms(new TermsQueryField.Builder().value(variantIds.stream().map(FieldValue::of).toList()).build())
+            .build();
+        BoolQuery query = new BoolQuery.Builder()
+            .filter(networkUuidQuery._toQuery(), variantIdsQuery._toQuery())
+            .build();
+        DeleteQuery.Builder builder = DeleteQuery.builder(new NativeQuery(query._toQuery()))
+            .withRefresh(variantsDeletionRefresh);
+        if (variantsDeletionSlices > 1) {
+            builder.withSlices(variantsDeletionSlices);
+        }
+        return builder.build();
     }
 
     public long getEquipmentInfosCount() {
@@ -304,10 +354,51 @@ public class EquipmentInfosService {
         return functionScores;
     }
 
-    private BoolQuery buildSearchEquipmentsQuery(String userInput, EquipmentInfosService.FieldSelector fieldSelector, UUID networkUuid, String variantId, String equipmentType) {
-        // If search requires boolean logic or advanced text analysis, then use queryStringQuery.
-        // Otherwise, use wildcardQuery for simple text search.
-        WildcardQuery equipmentSearchQuery = Queries.wildcardQuery(getSelectedEquipmentField(fieldSelector), "*" + escapeLucene(userInput) + "*");
+    /**
+     * The user input is searched as a single normalized term in the ngram indexed fields, which contain all the substrings
+     * of the equipment ids and names up to {@link #NGRAM_MAX_LENGTH} characters.
+     * Longer inputs are not indexed this way, and fall back to a wildcard query on the normalized keyword.
+     */
+    private static boolean isSearchableByNgram(String userInput) {
+        // asciifolding may turn a non ascii character into several ones
+        int maxNormalizedLength = userInput.chars().map(c -> c < 128 ? 1 : 4).sum();
+        return !userInput.isEmpty() && maxNormalizedLength <= NGRAM_MAX_LENGTH;
+    }
+
+    private Query buildContainsQuery(String userInput, EquipmentInfosService.FieldSelector fieldSelector) {
+        if (isSearchableByNgram(userInput)) {
+            String ngramField = fieldSelector == EquipmentInfosService.FieldSelector.NAME ? EQUIPMENT_NAME_NGRAM : EQUIPMENT_ID_NGRAM;
+            return Queries.matchQuery(ngramField, userInput, Operator.And, null)._toQuery();
+        }
+        return Queries.wildcardQuery(getSelectedEquipmentField(fieldSelector), "*" + escapeLucene(userInput) + "*")._toQuery();
+    }
+
+    private Query buildStartsWithQuery(String userInput, EquipmentInfosService.FieldSelector fieldSelector) {
+        if (isSearchableByNgram(userInput)) {
+            String prefixField = fieldSelector == EquipmentInfosService.FieldSelector.NAME ? EQUIPMENT_NAME_PREFIX : EQUIPMENT_ID_PREFIX;
+            return Queries.matchQuery(prefixField, userInput, Operator.And, null)._toQuery();
+        }
+        return Query.of(q -> q.prefix(p -> p.field(getSelectedEquipmentField(fieldSelector)).value(userInput)));
+    }
+
+    /**
+     * Add {@link #PREFIX_MATCH_WEIGHT} to the score of the equipments starting with the user input, so they come first
+     * among the equipments of the same type score
+     */
+    private Query buildPrefixBoostQuery(Query query, String userInput, EquipmentInfosService.FieldSelector fieldSelector) {
+        return new FunctionScoreQuery.Builder()
+                .query(query)
+                .functions(
+                        new FunctionScore.Builder().weight(1.).build(),
+                        new FunctionScore.Builder().filter(buildStartsWithQuery(userInput, fieldSelector)).weight(PREFIX_MATCH_WEIGHT).build()
+                )
+                .scoreMode(FunctionScoreMode.Sum)
+                .boostMode(FunctionBoostMode.Sum)
+                .build()._toQuery();
+    }
+
+    BoolQuery buildSearchEquipmentsQuery(String userInput, EquipmentInfosService.FieldSelector fieldSelector, UUID networkUuid, String variantId, String equipmentType) {
+        Query equipmentSearchQuery = buildContainsQuery(userInput, fieldSelector);
         TermQuery networkUuidSearchQuery = Queries.termQuery(NETWORK_UUID, networkUuid.toString());
         TermsQuery variantIdSearchQuery = variantId.equals(VariantManagerConstants.INITIAL_VARIANT_ID) ?
                 new TermsQuery.Builder().field(VARIANT_ID).terms(new TermsQueryField.Builder().value(List.of(FieldValue.of(VariantManagerConstants.INITIAL_VARIANT_ID))).build()).build() :
@@ -316,45 +407,30 @@ public class EquipmentInfosService {
 
         BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder()
                 .filter(
-                        equipmentSearchQuery._toQuery(),
+                        equipmentSearchQuery,
                         networkUuidSearchQuery._toQuery(),
                         variantIdSearchQuery._toQuery()
                 );
 
         if (!StringUtils.isEmpty(equipmentType)) {
             boolQueryBuilder.filter(Queries.termQuery(EQUIPMENT_TYPE, equipmentType)._toQuery());
+            boolQueryBuilder.must(buildPrefixBoostQuery(Query.of(q -> q.matchAll(m -> m)), userInput, fieldSelector));
         } else {
             List<FunctionScore> functionScores = buildFunctionScores(fieldSelector, userInput);
             FunctionScoreQuery functionScoreQuery = new FunctionScoreQuery.Builder().functions(functionScores).build();
-            boolQueryBuilder.must(functionScoreQuery._toQuery());
+            boolQueryBuilder.must(buildPrefixBoostQuery(functionScoreQuery._toQuery(), userInput, fieldSelector));
         }
         return boolQueryBuilder.build();
     }
 
-    private List<SortOptions> buildSearchEquipmentsSortOptions(String userInput, EquipmentInfosService.FieldSelector fieldSelector) {
-        // Sort by score -> defined by equipmentType
+    private List<SortOptions> buildSearchEquipmentsSortOptions() {
+        // Sort by score -> defined by equipmentType, then by elements starting by userInput (see buildPrefixBoostQuery)
         SortOptions scoreSort = SortOptions.of(s -> s
             .score(sc -> sc
                 .order(SortOrder.Desc)
             )
         );
 
-        // Then sort by elements starting by userInput
-        SortOptions prefixSort = SortOptions.of(s -> s
-            .script(sc -> sc
-                .type(ScriptSortType.Number)
-                .order(SortOrder.Asc)
-                .script(Script.of(scr -> scr
-                    .source("""
-                        String value = doc[params.field].value;
-                        return value.startsWith(params.prefix) ? 0 : 1;
-                    """)
-                    .params("field", JsonData.of(getSelectedEquipmentField(fieldSelector)))
-                    .params("prefix", JsonData.of(userInput))
-                ))
-            )
-        );
-
         // Then sort alphabetically
         SortOptions alphabeticalOrder = SortOptions.of(s -> s
             .field(sc -> sc
@@ -364,44 +440,100 @@ public class EquipmentInfosService {
         );
 
         // Sort order is important
-        return List.of(scoreSort, prefixSort, alphabeticalOrder);
+        return List.of(scoreSort, alphabeticalOrder);
     }
 
-    private void cleanModifiedEquipments(List<EquipmentInfos> equipmentInfos) {
-        Set<EquipmentInfos> equipmentToDelete = new HashSet<>();
-        Map<String, List<EquipmentInfos>> groupedById = equipmentInfos.stream()
-                .collect(Collectors.groupingBy(EquipmentInfos::getId));
+    private List<SortOptions> buildVariantPrecedenceSortOptions(String variantId) {
+        // The variant before the initial variant
+        SortOrder variantOrder = variantId.compareTo(VariantManagerConstants.INITIAL_VARIANT_ID) < 0 ? SortOrder.Asc : SortOrder.Desc;
+        SortOptions variantSort = SortOptions.of(s -> s
+            .field(sc -> sc
+                .field(VARIANT_ID)
+                .order(variantOrder)
+            )
+        );
 
-        groupedById.forEach((id, equipments) -> {
-            if (equipments.size() > 1) {
-                equipmentToDelete.addAll(
-                        equipments.stream()
-                                .filter(e -> VariantManagerConstants.INITIAL_VARIANT_ID.equals(e.getVariantId()))
-                                .collect(Collectors.toList())
-                );
-            }
-        });
-        equipmentInfos.removeAll(equipmentToDelete);
+        // Then the equipment before its tombstone : both index names have the same prefix
+        SortOptions indexSort = SortOptions.of(s -> s
+            .field(sc -> sc
+                .field(INDEX)
+                .order(SortOrder.Asc)
+            )
+        );
+
+        return List.of(variantSort, indexSort);
     }
 
-    private List<EquipmentInfos> cleanRemovedEquipments(UUID networkUuid, String variantId, List<EquipmentInfos> equipmentInfos) {
-        List<String> equipmentIds = equipmentInfos.stream().map(EquipmentInfos::getId).toList();
-        Set<String> tombstonedEquipmentIdsInVariant = findTombstonedEquipmentInfosByIdIn(networkUuid, variantId, equipmentIds)
-                .stream()
-                .map(TombstonedEquipmentInfos::getId)
-                .collect(Collectors.toSet());
+    private Query buildVariantTombstonedEquipmentsQuery(UUID networkUuid, String variantId) {
+        // Only the tombstoned equipments have no type, they are not scored
+        return new BoolQuery.Builder()
+                .filter(
+                        Queries.termQuery(NETWORK_UUID, networkUuid.toString())._toQuery(),
+                        Queries.termQuery(VARIANT_ID, variantId)._toQuery()
+                )
+                .mustNot(Query.of(q -> q.exists(e -> e.field(EQUIPMENT_TYPE_FIELD))))
+                .build()._toQuery();
+    }
 
-        return equipmentInfos
-                .stream()
-                .filter(ei -> !tombstonedEquipmentIdsInVariant.contains(ei.getId()) ||
-                        // If the equipment has been recreated after the creation of a deletion hypothesis
-                        !ei.getVariantId().equals(VariantManagerConstants.INITIAL_VARIANT_ID))
-                .collect(Collectors.toList());
+    private boolean isTombstoned(SearchHit<?> searchHit) {
+        return tombstonedEquipmentsIndexName.equals(searchHit.getIndex());
     }
 
-    private List<EquipmentInfos> cleanModifiedAndRemovedEquipments(UUID networkUuid, String variantId, List<EquipmentInfos> equipmentInfos) {
-        cleanModifiedEquipments(equipmentInfos);
-        return cleanRemovedEquipments(networkUuid, variantId, equipmentInfos);
+    /**
+     * Search the equipments of a variant in a single query : the equipments of the variant and of the initial variant
+     * are collapsed by id with the tombstoned equipments of the variant, and an equipment is kept when its copy of
+     * highest variant precedence is not a tombstone. The page is not shrunk by the copies of the initial variant.
+     */
+    private List<EquipmentInfos> searchVariantEquipments(UUID networkUuid, String variantId, BoolQuery equipmentsQuery, List<SortOptions> sortOptions) {
+        Query query = new BoolQuery.Builder()
+                .should(
+                        new BoolQuery.Builder()
+                                .must(equipmentsQuery._toQuery())
+                                .filter(Query.of(q -> q.exists(e -> e.field(EQUIPMENT_TYPE_FIELD))))
+                                .build()._toQuery(),
+                        buildVariantTombstonedEquipmentsQuery(networkUuid, variantId)
+                )
+                .minimumShouldMatch("1")
+                .build()._toQuery();
+
+        List<SortOptions> variantPrecedenceSortOptions = buildVariantPrecedenceSortOptions(variantId);
+        NativeQueryBuilder nativeQueryBuilder = new NativeQueryBuilder()
+                .withQuery(query)
+                .withFieldCollapse(FieldCollapse.of(c -> c
+                        .field(EQUIPMENT_ID_RAW)
+                        .innerHits(ih -> ih
+                                .name(VARIANT_PRECEDENCE_HITS)
+                                .size(1)
+                                .sort(variantPrecedenceSortOptions)
+                                .source(sc -> sc.fetch(false))
+                        )
+                ))
+                .withPageable(PageRequest.of(0, PAGE_MAX_SIZE));
+
+        // With equal scores, the copy of the variant is the one returned
+        Stream.concat(sortOptions.stream(), variantPrecedenceSortOptions.stream()).forEach(nativeQueryBuilder::withSort);
+
+        SearchHits<EquipmentInfos> searchHits = elasticsearchOperations.search(nativeQueryBuilder.build(), EquipmentInfos.class,
+                IndexCoordinates.of(equipmentsIndexName, tombstonedEquipmentsIndexName));
+
+        List<EquipmentInfos> equipmentInfos = new ArrayList<>();
+        Map<String, Integer> variantEquipmentPositions = new HashMap<>();
+        for (SearchHit<EquipmentInfos> searchHit : searchHits) {
+            SearchHit<?> variantPrecedenceHit = searchHit.getInnerHits(VARIANT_PRECEDENCE_HITS).getSearchHit(0);
+            if (isTombstoned(variantPrecedenceHit)) {
+                continue;
+            }
+            if (!Objects.equals(variantPrecedenceHit.getId(), searchHit.getId())) {
+                // The copy of the variant scored lower than the initial one, when renamed for instance
+                variantEquipmentPositions.put(variantPrecedenceHit.getId(), equipmentInfos.size());
+            }
+            equipmentInfos.add(searchHit.getContent());
+        }
+        if (!variantEquipmentPositions.isEmpty()) {
+            equipmentInfosRepository.findAllById(variantEquipmentPositions.keySet())
+                    .forEach(variantEquipment -> equipmentInfos.set(variantEquipmentPositions.get(variantEquipment.getUniqueId()), variantEquipment));
+        }
+        return equipmentInfos;
     }
 
     public List<EquipmentInfos> searchEquipments(@lombok.NonNull UUID networkUuid, @lombok.NonNull String variantId, @lombok.NonNull String userInput, @lombok.NonNull FieldSelector fieldSelector,
@@ -410,9 +542,8 @@ public class EquipmentInfosService {
 
         BoolQuery query = buildSearchEquipmentsQuery(userInput, fieldSelector, networkUuid,
                 variantId, equipmentType);
-        List<SortOptions> sortOptions = buildSearchEquipmentsSortOptions(userInput, fieldSelector);
-        List<EquipmentInfos> equipmentInfos = searchEquipments(query, sortOptions);
-        return effectiveVariantId.equals(VariantManagerConstants.INITIAL_VARIANT_ID) ? equipmentInfos : cleanModifiedAndRemovedEquipments(networkUuid, effectiveVariantId, equipmentInfos);
+        List<SortOptions> sortOptions = buildSearchEquipmentsSortOptions();
+        return effectiveVariantId.equals(VariantManagerConstants.INITIAL_VARIANT_ID) ? searchEquipments(query, sortOptions) : searchVariantEquipments(networkUuid, effectiveVariantId, query, sortOptions);
     }
 
     public List<EquipmentInfos> searchEquipments(@NonNull final BoolQuery query, @NonNull List<SortOptions> sortOptions) {
@@ -34,7 +34,8 @@ public enum StudyBusinessErrorCode implements BusinessErrorCode {
     ELEMENT_ALREADY_EXISTS("study.elementAlreadyExists"),
     UNPROCESSABLE_IMPORT_PARAMETER("study.unprocessableImportParameter"),
     MAX_OPERATION_TYPE_EXCEEDED("study.maxOperationTypeExceeded"),
-    EXPORT_STUDY_ERROR("study.exportStudyError");
+    EXPORT_STUDY_ERROR("study.exportStudyError"),
+    EXECUTOR_SATURATED("study.executorSaturated");
 
     private final String value;
 
@@ -49,6 +49,7 @@ public class StudyExceptionHandler extends AbstractBusinessExceptionHandler<Stud
                  MAX_NODE_BUILDS_EXCEEDED
                 -> HttpStatus.FORBIDDEN;
             case TIME_SERIES_BAD_TYPE -> HttpStatus.BAD_REQUEST;
+            case EXECUTOR_SATURATED -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -8,6 +8,7 @@
 package org.gridsuite.study.server.networkmodificationtree.entities;
 
 import jakarta.persistence.*;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -17,8 +18,11 @@ import org.gridsuite.study.server.repository.rootnetwork.RootNetworkEntity;
 
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Le Saulnier Kevin <lesaulnier.kevin at rte-france.com>
@@ -33,6 +37,7 @@ import java.util.UUID;
         @Index(name = "rootNetworkNodeEntity_rootNetworkId_idx", columnList = "root_network_id"),
         @Index(name = "rootNetworkNodeEntity_nodeId_idx", columnList = "node_info_id"),
         @Index(name = "rootNetworkNodeEntity_nodeId_rootNeworkId_idx", columnList = "node_info_id, root_network_id", unique = true),
+        @Index(name = "rootNetworkNodeEntity_variantId_idx", columnList = "variant_id"),
 
     })
 public class RootNetworkNodeInfoEntity {
@@ -57,6 +62,10 @@ public class RootNetworkNodeInfoEntity {
     @Column
     private String variantId;
 
+    // incremented by update queries only, each time the content of the variant changes
+    @Column(name = "variantVersion", nullable = false, updatable = false)
+    private long variantVersion;
+
     @ElementCollection
     @CollectionTable(name = "computationReports",
         indexes = {@Index(name = "root_network_node_info_entity_computationReports_idx1", columnList = "root_network_node_info_entity_id")},
@@ -125,6 +134,18 @@ public class RootNetworkNodeInfoEntity {
         foreignKey = @ForeignKey(name = "root_network_node_info_entity_modificationsUuidsToExclude_fk1"))
     private Set<UUID> modificationsUuidsToExclude = new HashSet<>();
 
+    /**
+     * Results of the computations whose result or failure message was received : these computations are not running
+     */
+    @ElementCollection
+    @CollectionTable(name = "RootNetworkNodeInfoTerminatedComputations",
+        joinColumns = @JoinColumn(name = "root_network_node_info_id"),
+        indexes = {@Index(name = "root_network_node_info_entity_terminatedComputations_idx1", columnList = "root_network_node_info_id")},
+        foreignKey = @ForeignKey(name = "root_network_node_info_entity_terminatedComputations_fk1"))
+    @Column(name = "result_uuid")
+    @Builder.Default
+    private Set<UUID> terminatedComputationResultUuids = new HashSet<>();
+
     public RootNetworkNodeInfo toDto() {
         return RootNetworkNodeInfo.builder()
             .id(id)
@@ -155,4 +176,24 @@ public class RootNetworkNodeInfoEntity {
     public void removeModificationsFromExclude(Set<UUID> uuids) {
         modificationsUuidsToExclude.removeAll(uuids);
     }
+
+    public boolean isComputationTerminated(UUID resultUuid) {
+        return terminatedComputationResultUuids.contains(resultUuid);
+    }
+
+    public void setComputationTerminated(UUID resultUuid, boolean terminated) {
+        if (terminated) {
+            terminatedComputationResultUuids.add(resultUuid);
+        } else {
+            terminatedComputationResultUuids.remove(resultUuid);
+        }
+        // the results replaced since are forgotten
+        Set<UUID> resultUuids = Stream.of(loadFlowResultUuid, securityAnalysisResultUuid, sensitivityAnalysisResultUuid,
+                shortCircuitAnalysisResultUuid, oneBusShortCircuitAnalysisResultUuid, voltageInitResultUuid, dynamicSimulationResultUuid,
+                dynamicSecurityAnalysisResultUuid, dynamicMarginCalculationResultUuid, stateEstimationResultUuid, pccMinResultUuid,
+                asymmetricalLoadResultUuid)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        terminatedComputationResultUuids.retainAll(resultUuids);
+    }
 }
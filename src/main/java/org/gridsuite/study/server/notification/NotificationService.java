@@ -167,10 +167,14 @@ public class NotificationService {
 
     private final ObjectMapper objectMapper;
 
+    private final StudyUpdateCoalescer studyUpdateCoalescer;
+
     public NotificationService(StreamBridge updatePublisher,
-                               ObjectMapper objectMapper) {
+                               ObjectMapper objectMapper,
+                               StudyUpdateCoalescer studyUpdateCoalescer) {
         this.updatePublisher = updatePublisher;
         this.objectMapper = objectMapper;
+        this.studyUpdateCoalescer = studyUpdateCoalescer;
     }
 
     // For publishStudyUpdate-out-0 queue
@@ -178,7 +182,8 @@ public class NotificationService {
         // Always give the concerned studyUuid and define a notification type
         Message<?> message = builder.setHeader(HEADER_STUDY_UUID, studyUuid).setHeader(HEADER_UPDATE_TYPE, type).build();
         MESSAGE_OUTPUT_LOGGER.debug(MESSAGE_LOG, message);
-        updatePublisher.send("publishStudyUpdate-out-0", message);
+        // node update messages sent in bursts are merged before being published
+        studyUpdateCoalescer.send(studyUuid, message);
     }
 
     @PostCompletion
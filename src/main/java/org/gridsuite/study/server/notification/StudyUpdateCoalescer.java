@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.notification;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.gridsuite.study.server.notification.NotificationService.*;
+
+/**
+ * Merge the study update messages concerning a set of nodes ({@link NotificationService#NODE_UPDATED},
+ * {@link NotificationService#NODE_BUILD_STATUS_UPDATED}) sent for the same study in a short window,
+ * into a single message carrying the union of the nodes.
+ * Only consecutive messages of a study are merged: any other message of the study first flushes the pending one,
+ * so the order of the messages of a study is kept.
+ */
+@Component
+public class StudyUpdateCoalescer {
+
+    static final String STUDY_UPDATE_BINDING = "publishStudyUpdate-out-0";
+
+    private static final Set<String> COALESCED_UPDATE_TYPES = Set.of(NODE_UPDATED, NODE_BUILD_STATUS_UPDATED);
+
+    private final StreamBridge updatePublisher;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Duration window;
+
+    private final Map<UUID, StudyBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flushExecutor;
+
+    public StudyUpdateCoalescer(StreamBridge updatePublisher,
+                                MeterRegistry meterRegistry,
+                                @Value("${study.notifications.coalescing-window:200ms}") Duration window) {
+        this.updatePublisher = updatePublisher;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.flushExecutor = window.isZero() ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "study-update-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void send(UUID studyUuid, Message<?> message) {
+        String updateType = (String) message.getHeaders().get(HEADER_UPDATE_TYPE);
+        boolean coalesced = flushExecutor != null && COALESCED_UPDATE_TYPES.contains(updateType);
+        if (coalesced) {
+            meterRegistry.counter("study.notifications.coalescing.received", "updateType", updateType).increment();
+        }
+
+        while (true) {
+            StudyBuffer buffer = coalesced ? buffers.computeIfAbsent(studyUuid, uuid -> new StudyBuffer()) : buffers.get(studyUuid);
+            if (buffer == null) {
+                // nothing pending for this study
+                updatePublisher.send(STUDY_UPDATE_BINDING, message);
+                return;
+            }
+            synchronized (buffer) {
+                if (buffer.removed) {
+                    // buffer flushed and removed concurrently
+                    continue;
+                }
+                if (buffer.pending != null && (!coalesced || !buffer.canMerge(message))) {
+                    publishPending(buffer);
+                }
+                if (!coalesced) {
+                    updatePublisher.send(STUDY_UPDATE_BINDING, message);
+                    remove(studyUuid, buffer);
+                } else if (buffer.pending == null) {
+                    buffer.pending = message;
+                    buffer.pendingNodes = new LinkedHashSet<>(getNodes(message));
+                    flushExecutor.schedule(() -> flush(studyUuid, buffer, message), window.toMillis(), TimeUnit.MILLISECONDS);
+                } else {
+                    buffer.pendingNodes.addAll(getNodes(message));
+                }
+                return;
+            }
+        }
+    }
+
+    private void flush(UUID studyUuid, StudyBuffer buffer, Message<?> message) {
+        synchronized (buffer) {
+            // the pending message may already have been published before a message of another kind
+            if (buffer.pending == message) {
+                publishPending(buffer);
+                remove(studyUuid, buffer);
+            }
+        }
+    }
+
+    // must be called with the buffer lock held
+    private void publishPending(StudyBuffer buffer) {
+        Message<?> mergedMessage = MessageBuilder.fromMessage(buffer.pending)
+            .setHeader(HEADER_NODES, new ArrayList<>(buffer.pendingNodes))
+            .build();
+        buffer.pending = null;
+        buffer.pendingNodes = null;
+        meterRegistry.counter("study.notifications.coalescing.sent", "updateType", (String) mergedMessage.getHeaders().get(HEADER_UPDATE_TYPE)).increment();
+        updatePublisher.send(STUDY_UPDATE_BINDING, mergedMessage);
+    }
+
+    // must be called with the buffer lock held
+    private void remove(UUID studyUuid, StudyBuffer buffer) {
+        buffer.removed = true;
+        buffers.remove(studyUuid, buffer);
+    }
+
+    @PreDestroy
+    private void preDestroy() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        buffers.forEach((studyUuid, buffer) -> {
+            synchronized (buffer) {
+                if (buffer.pending != null) {
+                    publishPending(buffer);
+                }
+                remove(studyUuid, buffer);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<UUID> getNodes(Message<?> message) {
+        Object nodes = message.getHeaders().get(HEADER_NODES);
+        return nodes != null ? (Collection<UUID>) nodes : List.of();
+    }
+
+    private static final class StudyBuffer {
+        private Message<?> pending;
+        private Set<UUID> pendingNodes;
+        private boolean removed;
+
+        private boolean canMerge(Message<?> message) {
+            return Objects.equals(pending.getHeaders().get(HEADER_UPDATE_TYPE), message.getHeaders().get(HEADER_UPDATE_TYPE))
+                && Objects.equals(pending.getHeaders().get(HEADER_ROOT_NETWORK_UUID), message.getHeaders().get(HEADER_ROOT_NETWORK_UUID));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.repository.remotedeletion;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Remote resource whose deletion has been recorded in the same transaction as the study data referencing it
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "remote_deletion", indexes = {@Index(name = "remote_deletion_status_next_attempt_date_idx", columnList = "status, next_attempt_date")})
+public class RemoteDeletionEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", nullable = false)
+    private RemoteResourceType resourceType;
+
+    @Column(name = "resource_uuid", nullable = false)
+    private UUID resourceUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private RemoteDeletionStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "creation_date", columnDefinition = "timestamptz", nullable = false)
+    private Instant creationDate;
+
+    @Column(name = "next_attempt_date", columnDefinition = "timestamptz", nullable = false)
+    private Instant nextAttemptDate;
+
+    @Column(name = "last_error")
+    private String lastError;
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.repository.remotedeletion;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RemoteDeletionRepository extends JpaRepository<RemoteDeletionEntity, UUID> {
+    // rows already locked by another instance are skipped ("SKIP LOCKED") so that several instances can drain the table
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    List<RemoteDeletionEntity> findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(RemoteDeletionStatus status, Instant date, Pageable pageable);
+
+    long countByStatus(RemoteDeletionStatus status);
+
+    Optional<RemoteDeletionEntity> findFirstByStatusOrderByCreationDate(RemoteDeletionStatus status);
+}
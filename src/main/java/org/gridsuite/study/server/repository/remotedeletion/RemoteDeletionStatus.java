@@ -0,0 +1,13 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.repository.remotedeletion;
+
+public enum RemoteDeletionStatus {
+    PENDING,
+    // max attempts reached, the deletion is not retried anymore
+    DEAD_LETTER
+}
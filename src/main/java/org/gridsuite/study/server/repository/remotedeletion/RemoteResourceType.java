@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.repository.remotedeletion;
+
+/**
+ * Kind of remote resource referenced by a pending deletion
+ */
+public enum RemoteResourceType {
+    REPORT,
+    LOAD_FLOW_RESULT,
+    SECURITY_ANALYSIS_RESULT,
+    SENSITIVITY_ANALYSIS_RESULT,
+    SHORT_CIRCUIT_ANALYSIS_RESULT,
+    ONE_BUS_SHORT_CIRCUIT_ANALYSIS_RESULT,
+    VOLTAGE_INIT_RESULT,
+    DYNAMIC_SIMULATION_RESULT,
+    DYNAMIC_SECURITY_ANALYSIS_RESULT,
+    DYNAMIC_MARGIN_CALCULATION_RESULT,
+    STATE_ESTIMATION_RESULT,
+    PCC_MIN_RESULT,
+    ASYMMETRICAL_LOAD_RESULT
+}
@@ -11,8 +11,11 @@ import org.gridsuite.study.server.networkmodificationtree.entities.NetworkModifi
 import org.gridsuite.study.server.networkmodificationtree.entities.RootNetworkNodeInfoEntity;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -21,7 +24,7 @@ import java.util.UUID;
 /**
  * @author Le Saulnier Kevin <lesaulnier.kevin at rte-france.com>
  */
-public interface RootNetworkNodeInfoRepository extends JpaRepository<RootNetworkNodeInfoEntity, UUID> {
+public interface RootNetworkNodeInfoRepository extends JpaRepository<RootNetworkNodeInfoEntity, UUID>, RootNetworkNodeInfoRepositoryCustom {
     List<RootNetworkNodeInfoEntity> findAllByLoadFlowResultUuidNotNull();
 
     List<RootNetworkNodeInfoEntity> findAllByDynamicSimulationResultUuidNotNull();
@@ -62,10 +65,21 @@ public interface RootNetworkNodeInfoRepository extends JpaRepository<RootNetwork
 
     List<RootNetworkNodeInfoEntity> findAllByRootNetworkStudyIdAndLoadFlowResultUuidNotNull(UUID studyUuid);
 
+    long countByRootNetworkStudyIdAndLoadFlowResultUuidNotNull(UUID studyUuid);
+
+    @Query(value = "SELECT DISTINCT rnni.rootNetwork.study.id FROM RootNetworkNodeInfoEntity rnni WHERE rnni.loadFlowResultUuid IS NOT NULL")
+    List<UUID> findAllStudyUuidsByLoadFlowResultUuidNotNull();
+
     List<RootNetworkNodeInfoEntity> findAllByRootNetworkStudyIdAndNodeInfoNodeTypeAndLoadFlowResultUuidNotNull(UUID studyUuid, NetworkModificationNodeType nodeType);
 
     List<RootNetworkNodeInfoEntity> getAllByRootNetworkIdAndNodeInfoIdIn(UUID rootNetworkUuid, List<UUID> nodesUuids);
 
+    @EntityGraph(attributePaths = {"terminatedComputationResultUuids"}, type = EntityGraph.EntityGraphType.LOAD)
+    List<RootNetworkNodeInfoEntity> getAllWithTerminatedComputationsByRootNetworkIdAndNodeInfoIdIn(UUID rootNetworkUuid, List<UUID> nodesUuids);
+
+    @EntityGraph(attributePaths = {"nodeInfo", "computationReports", "modificationReports"}, type = EntityGraph.EntityGraphType.LOAD)
+    List<RootNetworkNodeInfoEntity> getAllWithNodeInfoAndReportsByRootNetworkIdAndNodeInfoIdIn(UUID rootNetworkUuid, List<UUID> nodesUuids);
+
     @Query(value = "SELECT count(rnni) > 0 FROM RootNetworkNodeInfoEntity rnni WHERE rnni.rootNetwork.id = :rootNetworkUuid AND rnni.nodeInfo.idNode IN :nodesUuids AND rnni.blockedNode = true ")
     boolean existsByNodeUuidsAndBlockedNode(UUID rootNetworkUuid, List<UUID> nodesUuids);
 
@@ -121,4 +135,13 @@ public interface RootNetworkNodeInfoRepository extends JpaRepository<RootNetwork
         AND KEY(rnni.modificationReports) = :targetNodeUuid
         """)
     Set<UUID> findReportUuidsForNodeInRootNetwork(UUID targetNodeUuid, UUID rootNetworkUuid);
+
+    @Query("SELECT MAX(rnni.variantVersion) FROM RootNetworkNodeInfoEntity rnni WHERE rnni.rootNetwork.networkUuid = :networkUuid AND rnni.variantId = :variantId")
+    Optional<Long> findVariantVersion(UUID networkUuid, String variantId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RootNetworkNodeInfoEntity rnni SET rnni.variantVersion = rnni.variantVersion + 1 WHERE rnni.variantId IN :variantIds" +
+        " AND rnni.rootNetwork.id IN (SELECT rn.id FROM RootNetworkEntity rn WHERE rn.networkUuid = :networkUuid)")
+    void incrementVariantVersions(UUID networkUuid, Collection<String> variantIds);
 }
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.repository.rootnetwork;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk operations on the computation results of the root network node infos, used to purge the results chunk by chunk.
+ * The result attributes are the names of the result uuid attributes of {@code RootNetworkNodeInfoEntity}.
+ */
+public interface RootNetworkNodeInfoRepositoryCustom {
+
+    /**
+     * @param lastId the last id of the previous chunk, null for the first chunk
+     * @return the ids, ordered, of the root network node infos following lastId with one of the results not null
+     */
+    List<UUID> findIdsWithResults(List<String> resultAttributes, UUID lastId, int limit);
+
+    List<UUID> findComputationReportUuids(List<UUID> ids, String computationReportType);
+
+    void clearResults(List<UUID> ids, List<String> resultAttributes);
+
+    void deleteComputationReports(List<UUID> ids, String computationReportType);
+}
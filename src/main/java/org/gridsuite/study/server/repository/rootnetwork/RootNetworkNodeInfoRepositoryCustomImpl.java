@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.repository.rootnetwork;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Queries built from the result attributes, which are constants of the study server and never user inputs
+ */
+public class RootNetworkNodeInfoRepositoryCustomImpl implements RootNetworkNodeInfoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UUID> findIdsWithResults(List<String> resultAttributes, UUID lastId, int limit) {
+        String resultsCondition = resultAttributes.stream()
+            .map(resultAttribute -> "rnni." + resultAttribute + " IS NOT NULL")
+            .collect(Collectors.joining(" OR ", "(", ")"));
+        TypedQuery<UUID> query = entityManager.createQuery("SELECT rnni.id FROM RootNetworkNodeInfoEntity rnni WHERE " + resultsCondition
+            + (lastId != null ? " AND rnni.id > :lastId" : "") + " ORDER BY rnni.id", UUID.class);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<UUID> findComputationReportUuids(List<UUID> ids, String computationReportType) {
+        return entityManager.createQuery("SELECT VALUE(cr) FROM RootNetworkNodeInfoEntity rnni JOIN rnni.computationReports cr"
+                + " WHERE rnni.id IN :ids AND KEY(cr) = :computationReportType", UUID.class)
+            .setParameter("ids", ids)
+            .setParameter("computationReportType", computationReportType)
+            .getResultList();
+    }
+
+    @Override
+    public void clearResults(List<UUID> ids, List<String> resultAttributes) {
+        String resultsAssignment = resultAttributes.stream()
+            .map(resultAttribute -> "rnni." + resultAttribute + " = NULL")
+            .collect(Collectors.joining(", "));
+        entityManager.createQuery("UPDATE RootNetworkNodeInfoEntity rnni SET " + resultsAssignment + " WHERE rnni.id IN :ids")
+            .setParameter("ids", ids)
+            .executeUpdate();
+    }
+
+    @Override
+    public void deleteComputationReports(List<UUID> ids, String computationReportType) {
+        // element collection : no bulk delete in JPQL
+        entityManager.createNativeQuery("DELETE FROM computation_reports WHERE root_network_node_info_entity_id IN (:ids) AND computation_reports_key = :computationReportType")
+            .setParameter("ids", ids)
+            .setParameter("computationReportType", computationReportType)
+            .executeUpdate();
+    }
+}
@@ -16,13 +16,19 @@ import org.gridsuite.study.server.error.StudyException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.gridsuite.study.server.StudyConstants.CASE_API_VERSION;
 import static org.gridsuite.study.server.StudyConstants.DELIMITER;
@@ -96,11 +102,28 @@ public class CaseService {
         return restTemplate.exchange(caseServerBaseUri + path, HttpMethod.POST, null, UUID.class).getBody();
     }
 
-    public ResponseEntity<byte[]> getCaseContent(UUID caseUuid) {
+    /**
+     * Download the content of a case to the given file, without holding it in memory
+     * @return false if the case server sent no content
+     */
+    public boolean downloadCaseContent(UUID caseUuid, Path target) {
         String path = UriComponentsBuilder.fromPath(DELIMITER + CASE_API_VERSION + "/cases/{caseUuid}")
                 .buildAndExpand(caseUuid)
                 .toUriString();
 
-        return restTemplate.exchange(caseServerBaseUri + path, HttpMethod.GET, null, byte[].class);
+        return Boolean.TRUE.equals(restTemplate.execute(caseServerBaseUri + path, HttpMethod.GET, null, response -> {
+            InputStream body = new BufferedInputStream(response.getBody());
+            body.mark(1);
+            if (body.read() == -1) {
+                return false;
+            }
+            body.reset();
+            // plain file cases are gzip by the case-server and need to be decompressed
+            if ("gzip".equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+                body = new GZIPInputStream(body);
+            }
+            Files.copy(body, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        }));
     }
 }
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.gridsuite.study.server.dto.NodeReceiver;
+import org.springframework.messaging.Message;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Receiver of a consumed computation message, decoded once and shared by all the handlers of the message,
+ * with the study of the receiver node, looked up on first use
+ */
+final class ConsumedMessageContext {
+    private final Message<String> message;
+
+    private final NodeReceiver nodeReceiver;
+
+    private final Function<UUID, UUID> studyUuidProvider;
+
+    private UUID studyUuid;
+
+    ConsumedMessageContext(Message<String> message, NodeReceiver nodeReceiver, Function<UUID, UUID> studyUuidProvider) {
+        this.message = message;
+        this.nodeReceiver = nodeReceiver;
+        this.studyUuidProvider = studyUuidProvider;
+    }
+
+    static NodeReceiver decodeNodeReceiver(String receiver, ObjectReader nodeReceiverReader) throws JsonProcessingException {
+        return nodeReceiverReader.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8));
+    }
+
+    Message<String> getMessage() {
+        return message;
+    }
+
+    Optional<NodeReceiver> getNodeReceiver() {
+        return Optional.ofNullable(nodeReceiver);
+    }
+
+    Optional<UUID> getStudyUuid() {
+        if (studyUuid == null && nodeReceiver != null) {
+            studyUuid = studyUuidProvider.apply(nodeReceiver.getNodeUuid());
+        }
+        return Optional.ofNullable(studyUuid);
+    }
+}
@@ -9,6 +9,7 @@ package org.gridsuite.study.server.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.util.Strings;
 import org.gridsuite.study.server.StudyConstants;
@@ -38,6 +39,8 @@ import org.springframework.stereotype.Service;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -75,6 +78,9 @@ public class ConsumerService {
     private final ComputationParametersService computationParametersService;
     private final UserAdminService userAdminService;
     private final LoadFlowService loadFlowService;
+    private final StudyServerExecutionService studyServerExecutionService;
+
+    private final ObjectReader nodeReceiverReader;
 
     public ConsumerService(ObjectMapper objectMapper,
                            NotificationService notificationService,
@@ -87,7 +93,8 @@ public class ConsumerService {
                            DirectoryService directoryService,
                            ComputationParametersService computationParametersService,
                            UserAdminService userAdminService,
-                           LoadFlowService loadFlowService) {
+                           LoadFlowService loadFlowService,
+                           StudyServerExecutionService studyServerExecutionService) {
         this.objectMapper = objectMapper;
         this.notificationService = notificationService;
         this.studyService = studyService;
@@ -100,6 +107,8 @@ public class ConsumerService {
         this.computationParametersService = computationParametersService;
         this.userAdminService = userAdminService;
         this.loadFlowService = loadFlowService;
+        this.studyServerExecutionService = studyServerExecutionService;
+        this.nodeReceiverReader = objectMapper.readerFor(NodeReceiver.class);
     }
 
     @Bean
@@ -110,8 +119,7 @@ public class ConsumerService {
                 NodeReceiver receiverObj;
                 try {
                     NetworkModificationResult networkModificationResult = message.getPayload();
-                    receiverObj = objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8),
-                        NodeReceiver.class);
+                    receiverObj = decodeNodeReceiver(receiver);
 
                     if (!networkModificationTreeService.getNodeBuildStatus(receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid()).isBuilding()) {
                         throw new StudyException(NODE_NOT_BUILDING);
@@ -147,8 +155,7 @@ public class ConsumerService {
             if (receiver != null) {
                 NodeReceiver receiverObj;
                 try {
-                    receiverObj = objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8),
-                        NodeReceiver.class);
+                    receiverObj = decodeNodeReceiver(receiver);
 
                     LOGGER.info("Build stopped for node '{}'", receiverObj.getNodeUuid());
 
@@ -173,8 +180,7 @@ public class ConsumerService {
             if (receiver != null) {
                 NodeReceiver receiverObj;
                 try {
-                    receiverObj = objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8),
-                        NodeReceiver.class);
+                    receiverObj = decodeNodeReceiver(receiver);
 
                     LOGGER.info("Build failed for node '{}'", receiverObj.getNodeUuid());
 
@@ -281,14 +287,49 @@ public class ConsumerService {
                              Map<String, Object> importParameters, UUID importReportUuid) {
         UserProfileInfos userProfileInfos = studyService.getUserProfile(userId);
 
-        ComputationParameterUUIDs computationParameterUUIDs = computationParametersService.createDefaultComputationParameters(userId, userProfileInfos);
-        UUID networkVisualizationParametersUuid = createDefaultNetworkVisualizationParameters(userId, userProfileInfos);
-        UUID spreadsheetConfigCollectionUuid = createDefaultSpreadsheetConfigCollection(userId, userProfileInfos);
-        UUID workspacesConfigUuid = createWorkspacesConfig(userProfileInfos);
+        // the default resources are independent, they are created concurrently
+        CompletableFuture<ComputationParameterUUIDs> computationParameterUUIDs = null;
+        CompletableFuture<UUID> networkVisualizationParametersUuid = null;
+        CompletableFuture<UUID> spreadsheetConfigCollectionUuid = null;
+        CompletableFuture<UUID> workspacesConfigUuid = null;
+        try {
+            computationParameterUUIDs = studyServerExecutionService.supplyAsync(() ->
+                computationParametersService.createDefaultComputationParameters(userId, userProfileInfos));
+            networkVisualizationParametersUuid = studyServerExecutionService.supplyAsync(() ->
+                createDefaultNetworkVisualizationParameters(userId, userProfileInfos));
+            spreadsheetConfigCollectionUuid = studyServerExecutionService.supplyAsync(() ->
+                createDefaultSpreadsheetConfigCollection(userId, userProfileInfos));
+            workspacesConfigUuid = studyServerExecutionService.supplyAsync(() ->
+                createWorkspacesConfig(userProfileInfos));
+
+            CompletableFuture.allOf(computationParameterUUIDs, networkVisualizationParametersUuid, spreadsheetConfigCollectionUuid, workspacesConfigUuid).join();
+            studyService.insertStudy(studyUuid, userId, networkInfos, caseInfos, computationParameterUUIDs.join(),
+                networkVisualizationParametersUuid.join(), spreadsheetConfigCollectionUuid.join(), workspacesConfigUuid.join(),
+                importParameters, importReportUuid);
+        } catch (Exception e) {
+            // the study is not created, or a creation could not be submitted : the default resources already created would
+            // not be referenced by any study
+            deleteIfCreated(computationParameterUUIDs, computationParametersService::deleteComputationsParameters, "computation parameters");
+            deleteIfCreated(networkVisualizationParametersUuid, studyConfigService::deleteNetworkVisualizationParameters, "network visualization parameters");
+            deleteIfCreated(spreadsheetConfigCollectionUuid, studyConfigService::deleteSpreadsheetConfigCollection, "spreadsheet config collection");
+            deleteIfCreated(workspacesConfigUuid, studyConfigService::deleteWorkspacesConfig, "workspaces config");
+            throw e;
+        }
+    }
 
-        studyService.insertStudy(studyUuid, userId, networkInfos, caseInfos, computationParameterUUIDs,
-            networkVisualizationParametersUuid, spreadsheetConfigCollectionUuid, workspacesConfigUuid,
-            importParameters, importReportUuid);
+    private static <T> void deleteIfCreated(CompletableFuture<T> resource, Consumer<T> deleter, String resourceName) {
+        if (resource == null) {
+            return;
+        }
+        // a creation still running when another one could not be submitted is waited for
+        resource.exceptionally(t -> null).join();
+        if (resource.state() == Future.State.SUCCESS && resource.resultNow() != null) {
+            try {
+                deleter.accept(resource.resultNow());
+            } catch (Exception e) {
+                LOGGER.error("Could not remove {} with id '{}'", resourceName, resource.resultNow(), e);
+            }
+        }
     }
 
     private UUID createDefaultNetworkVisualizationParameters(String userId, UserProfileInfos userProfileInfos) {
@@ -397,13 +438,16 @@ public class ConsumerService {
         if (!Strings.isBlank(receiver)) {
             NodeReceiver receiverObj = null;
             try {
-                receiverObj = objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8), NodeReceiver.class);
+                receiverObj = decodeNodeReceiver(receiver);
 
                 LOGGER.info("{} failed for node '{}' with error message: {}", computationType.getLabel(), receiverObj.getNodeUuid(), errorMessage);
 
                 // delete computation results from the databases
                 // ==> will probably be removed soon because it prevents the front from recovering the resultId ; or 'null' parameter will be replaced by null like in VOLTAGE_INITIALIZATION
                 rootNetworkNodeInfoService.updateComputationResultUuid(receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid(), resultUuid, computationType);
+                if (resultUuid != null) {
+                    rootNetworkNodeInfoService.setComputationTerminated(receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid(), resultUuid);
+                }
             } catch (JsonProcessingException e) {
                 LOGGER.error(e.toString());
             } finally {
@@ -428,7 +472,7 @@ public class ConsumerService {
         if (!Strings.isBlank(receiver)) {
             NodeReceiver receiverObj = null;
             try {
-                receiverObj = objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8), NodeReceiver.class);
+                receiverObj = decodeNodeReceiver(receiver);
 
                 // delete computation results from the database
                 rootNetworkNodeInfoService.updateComputationResultUuid(receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid(), null, computationType);
@@ -460,7 +504,7 @@ public class ConsumerService {
         if (!Strings.isBlank(receiver)) {
             NodeReceiver receiverObj;
             try {
-                receiverObj = objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8), NodeReceiver.class);
+                receiverObj = decodeNodeReceiver(receiver);
                 UUID studyUuid = networkModificationTreeService.getStudyUuidForNodeId(receiverObj.getNodeUuid());
                 String errorMessage = msg.getHeaders().get(HEADER_MESSAGE, String.class);
                 String userId = msg.getHeaders().get(HEADER_USER_ID, String.class);
@@ -489,10 +533,11 @@ public class ConsumerService {
     }
 
     public void consumeCalculationDebug(Message<String> msg, ComputationType computationType) {
+        ConsumedMessageContext context = createMessageContext(msg);
         Optional.ofNullable(msg.getHeaders().get(RESULT_UUID, String.class))
             .map(UUID::fromString)
-            .ifPresent(resultUuid -> getNodeReceiver(msg).ifPresent(receiverObj -> {
-                UUID studyUuid = networkModificationTreeService.getStudyUuidForNodeId(receiverObj.getNodeUuid());
+            .ifPresent(resultUuid -> context.getNodeReceiver().ifPresent(receiverObj -> {
+                UUID studyUuid = context.getStudyUuid().orElse(null);
 
                 String errorMessage = (String) msg.getHeaders().get(HEADER_ERROR_MESSAGE);
                 String userId = (String) msg.getHeaders().get(HEADER_USER_ID);
@@ -500,11 +545,16 @@ public class ConsumerService {
             }));
     }
 
-    @SuppressWarnings("checkstyle:LambdaBodyLength")
     public void consumeCalculationResult(Message<String> msg, ComputationType computationType) {
+        consumeCalculationResult(createMessageContext(msg), computationType);
+    }
+
+    @SuppressWarnings("checkstyle:LambdaBodyLength")
+    void consumeCalculationResult(ConsumedMessageContext context, ComputationType computationType) {
+        Message<String> msg = context.getMessage();
         Optional.ofNullable(msg.getHeaders().get(RESULT_UUID, String.class))
             .map(UUID::fromString)
-            .ifPresent(resultUuid -> getNodeReceiver(msg).ifPresent(receiverObj -> {
+            .ifPresent(resultUuid -> context.getNodeReceiver().ifPresent(receiverObj -> {
                 LOGGER.info("{} result '{}' available for node '{}'",
                     computationType.getLabel(),
                     resultUuid,
@@ -517,11 +567,12 @@ public class ConsumerService {
                 } else {
                     rootNetworkNodeInfoService.updateComputationResultUuid(receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid(), resultUuid, computationType);
                 }
+                rootNetworkNodeInfoService.setComputationTerminated(receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid(), resultUuid);
 
                 // unblock node
                 handleUnblockNode(receiverObj, computationType);
 
-                UUID studyUuid = networkModificationTreeService.getStudyUuidForNodeId(receiverObj.getNodeUuid());
+                UUID studyUuid = context.getStudyUuid().orElse(null);
                 if (computationType == LOAD_FLOW) {
                     String userId = (String) msg.getHeaders().get(HEADER_USER_ID);
                     handleLoadFlowSuccess(studyUuid, receiverObj.getNodeUuid(), receiverObj.getRootNetworkUuid(), resultUuid, userId);
@@ -549,22 +600,24 @@ public class ConsumerService {
         }
     }
 
-    Optional<NodeReceiver> getNodeReceiver(Message<String> msg) {
+    /**
+     * Decode the receiver of the message once, for all the handlers of the message
+     */
+    ConsumedMessageContext createMessageContext(Message<String> msg) {
         String receiver = msg.getHeaders().get(HEADER_RECEIVER, String.class);
-        if (Strings.isBlank(receiver)) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(objectMapper.readValue(URLDecoder.decode(receiver, StandardCharsets.UTF_8), NodeReceiver.class));
-        } catch (JsonProcessingException e) {
-            LOGGER.error(e.toString());
-            return Optional.empty();
+        NodeReceiver nodeReceiver = null;
+        if (!Strings.isBlank(receiver)) {
+            try {
+                nodeReceiver = decodeNodeReceiver(receiver);
+            } catch (JsonProcessingException e) {
+                LOGGER.error(e.toString());
+            }
         }
+        return new ConsumedMessageContext(msg, nodeReceiver, networkModificationTreeService::getStudyUuidForNodeId);
     }
 
-    Optional<UUID> getStudyUuid(Message<String> msg) {
-        Optional<NodeReceiver> receiverObj = getNodeReceiver(msg);
-        return receiverObj.map(r -> networkModificationTreeService.getStudyUuidForNodeId(r.getNodeUuid()));
+    private NodeReceiver decodeNodeReceiver(String receiver) throws JsonProcessingException {
+        return ConsumedMessageContext.decodeNodeReceiver(receiver, nodeReceiverReader);
     }
 
     @Bean
@@ -11,6 +11,7 @@ import lombok.NonNull;
 import lombok.Setter;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.ElementAttributes;
+import org.gridsuite.study.server.dto.ElementReferenceInfos;
 import org.gridsuite.study.server.dto.ReferenceAttributes;
 import org.gridsuite.study.server.dto.networkexport.PermissionType;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -158,6 +159,28 @@ public class DirectoryService {
         restTemplate.exchange(getDirectoryServerServerBaseUri() + path, HttpMethod.DELETE, requestEntity, ElementAttributes.class);
     }
 
+    /**
+     * remove references from shared modifications in directory server, in one request
+     * @param references references to remove
+     * @param userId id of the user who caused the unreferencing
+     */
+    public void removeReferences(@NonNull List<ElementReferenceInfos> references, String userId) {
+        if (references.isEmpty()) {
+            return;
+        }
+        var path = UriComponentsBuilder.fromPath(
+                        DELIMITER + DIRECTORY_API_VERSION + DELIMITER + "elements/references")
+                .buildAndExpand()
+                .toUriString();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HEADER_USER_ID, userId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpEntity<List<ElementReferenceInfos>> requestEntity = new HttpEntity<>(references, headers);
+        restTemplate.exchange(getDirectoryServerServerBaseUri() + path, HttpMethod.DELETE, requestEntity, Void.class);
+    }
+
     public void createElement(UUID directoryUuid, String description, UUID elementUuid, String elementName, String type, String userId) {
         UriComponentsBuilder pathBuilder = UriComponentsBuilder.fromPath(DELIMITER + DIRECTORY_API_VERSION + "/directories/{directoryUuid}/elements");
         ElementAttributes elementAttributes = new ElementAttributes(elementUuid, elementName, type, userId, 0, description);
@@ -11,33 +11,106 @@ package org.gridsuite.study.server.service;
  * @author Kevin Le Saulnier <kevin.lesaulnier at rte-france.com>
  */
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.gridsuite.study.server.StudyConstants.*;
 
 @Service
 public class GeoDataService {
 
+    private enum GeoDataType {
+        LINE,
+        SUBSTATION
+    }
+
+    private record GeoDataKey(GeoDataType type, String equipmentId) { }
+
+    // cached for the equipments without geo data, so that they are not requested again
+    private static final String NO_GEO_DATA = "";
+
+    private static final String GEO_DATA_ID = "id";
+
     private final RestTemplate restTemplate;
 
+    private final ObjectMapper objectMapper;
+
     private String geoDataServerBaseUri;
 
-    public GeoDataService(RemoteServicesProperties remoteServicesProperties, RestTemplate restTemplate) {
+    // the map asks again and again the geo data of the same equipments of a variant : only the missing ones are requested
+    private final VariantDataCacheService.VariantDataCache<GeoDataKey, String> geoDataCache;
+
+    public GeoDataService(RemoteServicesProperties remoteServicesProperties,
+                          RestTemplate restTemplate,
+                          ObjectMapper objectMapper,
+                          VariantDataCacheService variantDataCacheService,
+                          @Value("${study.geo-data.cache-ttl:1h}") Duration geoDataCacheTtl,
+                          @Value("${study.geo-data.cache-max-size:128MB}") DataSize geoDataCacheMaxSize) {
         this.geoDataServerBaseUri = remoteServicesProperties.getServiceUri("geo-data-server");
         this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.geoDataCache = variantDataCacheService.createCache("geoData", geoDataCacheTtl, geoDataCacheMaxSize, String::length);
+    }
+
+    /**
+     * Get the geo data of equipments, merging the cached geo data and the one requested for the equipments missing from the cache
+     */
+    private String getGeoData(UUID networkUuid, String variantId, GeoDataType type, List<String> equipmentsIds, Function<List<String>, String> geoDataGetter) {
+        if (!geoDataCache.isEnabled() || equipmentsIds == null || equipmentsIds.isEmpty()) {
+            // all the geo data of the network is requested when no equipment is given
+            return geoDataGetter.apply(equipmentsIds);
+        }
+        List<GeoDataKey> keys = equipmentsIds.stream().distinct().map(equipmentId -> new GeoDataKey(type, equipmentId)).toList();
+        Map<GeoDataKey, String> geoData = geoDataCache.getAll(networkUuid, variantId, keys, missingKeys -> {
+            Map<GeoDataKey, String> missingGeoData = splitGeoData(type, geoDataGetter.apply(missingKeys.stream().map(GeoDataKey::equipmentId).toList()));
+            missingKeys.forEach(key -> missingGeoData.putIfAbsent(key, NO_GEO_DATA));
+            return missingGeoData;
+        });
+        StringJoiner mergedGeoData = new StringJoiner(",", "[", "]");
+        keys.stream().map(geoData::get).filter(data -> data != null && !data.isEmpty()).forEach(mergedGeoData::add);
+        return mergedGeoData.toString();
+    }
+
+    private Map<GeoDataKey, String> splitGeoData(GeoDataType type, String geoData) {
+        Map<GeoDataKey, String> geoDataByKey = new HashMap<>();
+        if (geoData == null) {
+            return geoDataByKey;
+        }
+        try {
+            for (JsonNode equipmentGeoData : objectMapper.readTree(geoData)) {
+                geoDataByKey.put(new GeoDataKey(type, equipmentGeoData.path(GEO_DATA_ID).asText()), objectMapper.writeValueAsString(equipmentGeoData));
+            }
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return geoDataByKey;
     }
 
     public String getLinesGraphics(UUID networkUuid, String variantId, List<String> linesIds) {
+        return getGeoData(networkUuid, variantId, GeoDataType.LINE, linesIds, ids -> requestLinesGraphics(networkUuid, variantId, ids));
+    }
+
+    private String requestLinesGraphics(UUID networkUuid, String variantId, List<String> linesIds) {
         var uriComponentsBuilder = UriComponentsBuilder.fromPath(DELIMITER + GEO_DATA_API_VERSION + "/lines/infos")
                 .queryParam(NETWORK_UUID, networkUuid);
 
@@ -55,6 +128,10 @@ public class GeoDataService {
     }
 
     public String getSubstationsGraphics(UUID networkUuid, String variantId, List<String> substationsIds) {
+        return getGeoData(networkUuid, variantId, GeoDataType.SUBSTATION, substationsIds, ids -> requestSubstationsGraphics(networkUuid, variantId, ids));
+    }
+
+    private String requestSubstationsGraphics(UUID networkUuid, String variantId, List<String> substationsIds) {
         var uriComponentsBuilder = UriComponentsBuilder.fromPath(DELIMITER + GEO_DATA_API_VERSION + "/substations/infos")
                 .queryParam(NETWORK_UUID, networkUuid);
 
@@ -16,31 +16,63 @@ import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.IdentifiableInfos;
 import org.gridsuite.study.server.dto.InfoTypeParameters;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.gridsuite.study.server.StudyConstants.*;
 
 @Service
 public class NetworkMapService {
+
+    private enum MapDataType {
+        ELEMENTS_INFOS,
+        ALL_ELEMENTS_INFOS,
+        COUNTRIES,
+        NOMINAL_VOLTAGES,
+        EQUIPMENTS_MAP_DATA
+    }
+
+    private record MapDataKey(MapDataType type, String elementType, String infoType, String requestHash) { }
+
     private final RestTemplate restTemplate;
 
     private String networkMapServerBaseUri;
 
-    public NetworkMapService(RemoteServicesProperties remoteServicesProperties, RestTemplate restTemplate) {
+    private final VariantDataCacheService variantDataCacheService;
+
+    // the map and the spreadsheet tabs fetch the same data of a built variant on each move : it is kept until the variant changes
+    private final VariantDataCacheService.VariantDataCache<MapDataKey, String> mapDataCache;
+
+    public NetworkMapService(RemoteServicesProperties remoteServicesProperties,
+                             RestTemplate restTemplate,
+                             VariantDataCacheService variantDataCacheService,
+                             @Value("${study.network-map.cache-ttl:30m}") Duration mapDataCacheTtl,
+                             @Value("${study.network-map.cache-max-size:256MB}") DataSize mapDataCacheMaxSize) {
         this.networkMapServerBaseUri = remoteServicesProperties.getServiceUri("network-map-server");
         this.restTemplate = restTemplate;
+        this.variantDataCacheService = variantDataCacheService;
+        this.mapDataCache = variantDataCacheService.createCache("networkMapData", mapDataCacheTtl, mapDataCacheMaxSize, String::length);
+    }
+
+    private String getMapData(UUID networkUuid, String variantId, MapDataType type, String elementType, String infoType, Supplier<String> mapDataGetter, Object... requestParameters) {
+        MapDataKey key = new MapDataKey(type, elementType, infoType, variantDataCacheService.hashRequest(Arrays.asList(requestParameters)));
+        return mapDataCache.get(networkUuid, variantId, key, mapDataGetter);
     }
 
     public String getElementSchema(String elementType, String infoType) {
@@ -56,6 +88,18 @@ public class NetworkMapService {
                                    List<Double> nominalVoltages,
                                    String infoType,
                                    Map<String, String> optionalParameters) {
+        return getMapData(networkUuid, variantId, MapDataType.ELEMENTS_INFOS, elementType, infoType,
+            () -> requestElementsInfos(networkUuid, variantId, substationsIds, elementType, nominalVoltages, infoType, optionalParameters),
+            substationsIds, nominalVoltages, optionalParameters);
+    }
+
+    private String requestElementsInfos(UUID networkUuid,
+                                        String variantId,
+                                        List<String> substationsIds,
+                                        String elementType,
+                                        List<Double> nominalVoltages,
+                                        String infoType,
+                                        Map<String, String> optionalParameters) {
         String path = DELIMITER + NETWORK_MAP_API_VERSION + "/networks/{networkUuid}/elements";
         UriComponentsBuilder builder = UriComponentsBuilder.fromPath(path);
         if (!StringUtils.isBlank(variantId)) {
@@ -120,6 +164,15 @@ public class NetworkMapService {
                                       String variantId,
                                       List<String> substationsIds,
                                       Map<String, Map<String, String>> optionalParameters) {
+        return getMapData(networkUuid, variantId, MapDataType.ALL_ELEMENTS_INFOS, null, "TAB",
+            () -> requestAllElementsInfos(networkUuid, variantId, substationsIds, optionalParameters),
+            substationsIds, optionalParameters);
+    }
+
+    private String requestAllElementsInfos(UUID networkUuid,
+                                           String variantId,
+                                           List<String> substationsIds,
+                                           Map<String, Map<String, String>> optionalParameters) {
         String path = DELIMITER + NETWORK_MAP_API_VERSION + "/networks/{networkUuid}/all";
         UriComponentsBuilder builder = UriComponentsBuilder.fromPath(path);
         if (!StringUtils.isBlank(variantId)) {
@@ -140,6 +193,10 @@ public class NetworkMapService {
     }
 
     public String getCountries(UUID networkUuid, String variantId) {
+        return getMapData(networkUuid, variantId, MapDataType.COUNTRIES, null, null, () -> requestCountries(networkUuid, variantId));
+    }
+
+    private String requestCountries(UUID networkUuid, String variantId) {
         String path = DELIMITER + NETWORK_MAP_API_VERSION + "/networks/{networkUuid}/countries";
         UriComponentsBuilder builder = UriComponentsBuilder.fromPath(path);
         if (!StringUtils.isBlank(variantId)) {
@@ -150,6 +207,10 @@ public class NetworkMapService {
     }
 
     public String getNominalVoltages(UUID networkUuid, String variantId) {
+        return getMapData(networkUuid, variantId, MapDataType.NOMINAL_VOLTAGES, null, null, () -> requestNominalVoltages(networkUuid, variantId));
+    }
+
+    private String requestNominalVoltages(UUID networkUuid, String variantId) {
         String path = DELIMITER + NETWORK_MAP_API_VERSION + "/networks/{networkUuid}/nominal-voltages";
         UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromPath(path);
         if (!StringUtils.isBlank(variantId)) {
@@ -179,6 +240,11 @@ public class NetworkMapService {
     }
 
     public String getEquipmentsMapData(UUID networkUuid, String variantId, List<String> substationsIds, String equipmentPath) {
+        return getMapData(networkUuid, variantId, MapDataType.EQUIPMENTS_MAP_DATA, equipmentPath, null,
+            () -> requestEquipmentsMapData(networkUuid, variantId, substationsIds, equipmentPath), substationsIds);
+    }
+
+    private String requestEquipmentsMapData(UUID networkUuid, String variantId, List<String> substationsIds, String equipmentPath) {
         String path = DELIMITER + NETWORK_MAP_API_VERSION + "/networks/{networkUuid}/" + equipmentPath;
         UriComponentsBuilder builder = UriComponentsBuilder
             .fromPath(path);
@@ -26,6 +26,7 @@ import org.gridsuite.study.server.repository.networkmodificationtree.RootNodeInf
 import org.gridsuite.study.server.repository.rootnetwork.RootNetworkEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
@@ -67,9 +68,12 @@ public class NetworkModificationTreeService {
     private final NetworkService networkStoreService;
     private final ReportService reportService;
     private final UserAdminService userAdminService;
+    private final VariantDataCacheService variantDataCacheService;
 
     private final StudyServerExecutionService studyServerExecutionService;
 
+    private final int maxConcurrentModificationGroupDuplications;
+
     public NetworkModificationTreeService(NodeRepository nodesRepository,
                                           RootNodeInfoRepository rootNodeInfoRepository,
                                           NetworkModificationNodeInfoRepository networkModificationNodeInfoRepository,
@@ -81,7 +85,9 @@ public class NetworkModificationTreeService {
                                           NetworkService networkStoreService,
                                           ReportService reportService,
                                           UserAdminService userAdminService,
-                                          StudyServerExecutionService studyServerExecutionService) {
+                                          VariantDataCacheService variantDataCacheService,
+                                          StudyServerExecutionService studyServerExecutionService,
+                                          @Value("${study.duplication.max-concurrent-modification-group-duplications:8}") int maxConcurrentModificationGroupDuplications) {
         this.nodesRepository = nodesRepository;
         this.networkModificationNodeInfoRepository = networkModificationNodeInfoRepository;
         this.networkModificationService = networkModificationService;
@@ -93,7 +99,9 @@ public class NetworkModificationTreeService {
         this.networkStoreService = networkStoreService;
         this.reportService = reportService;
         this.userAdminService = userAdminService;
+        this.variantDataCacheService = variantDataCacheService;
         this.studyServerExecutionService = studyServerExecutionService;
+        this.maxConcurrentModificationGroupDuplications = maxConcurrentModificationGroupDuplications;
     }
 
     private NetworkModificationNodeInfoEntity createNetworkModificationNode(StudyEntity study, NodeEntity parentNode, NetworkModificationNode networkModificationNode) {
@@ -145,6 +153,8 @@ public class NetworkModificationTreeService {
         if (maxBuilds != null) {
             long nbBuiltNodes = countBuiltNodes(studyUuid, rootNetworkUuid);
             if (nbBuiltNodes >= maxBuilds) {
+                // the max quotas may have been raised since they were cached : requested again on the next build
+                userAdminService.evictUserMaxQuota(userId);
                 throw new StudyException(MAX_NODE_BUILDS_EXCEEDED, "max allowed built nodes reached", Map.of("limit", maxBuilds));
             }
         }
@@ -521,12 +531,15 @@ public class NetworkModificationTreeService {
 
     private void completeNodeInfos(List<AbstractNode> nodes, UUID rootNetworkUuid) {
         RootNetworkEntity rootNetworkEntity = rootNetworkService.getRootNetwork(rootNetworkUuid).orElseThrow(() -> new StudyException(NOT_FOUND, "Root network not found"));
+        // fetch all root network node infos at once instead of one query per node
+        List<UUID> modificationNodesUuids = nodes.stream().filter(NetworkModificationNode.class::isInstance).map(AbstractNode::getId).toList();
+        Map<UUID, RootNetworkNodeInfoEntity> rootNetworkNodeInfos = rootNetworkNodeInfoService.getRootNetworkNodesWithReportsByNodeUuid(rootNetworkEntity.getId(), modificationNodesUuids);
         nodes.forEach(nodeInfo -> {
             if (nodeInfo instanceof RootNode rootNode) {
                 rootNode.setReportUuid(rootNetworkEntity.getReportUuid());
             } else {
-                ((NetworkModificationNode) nodeInfo).completeDtoFromRootNetworkNodeInfo(rootNetworkNodeInfoService.getRootNetworkNodeInfo(nodeInfo.getId(),
-                        rootNetworkEntity.getId()).orElseThrow(() -> new StudyException(NOT_FOUND, "Root network not found")));
+                ((NetworkModificationNode) nodeInfo).completeDtoFromRootNetworkNodeInfo(Optional.ofNullable(rootNetworkNodeInfos.get(nodeInfo.getId()))
+                    .orElseThrow(() -> new StudyException(NOT_FOUND, "Root network not found")));
             }
         });
     }
@@ -534,14 +547,22 @@ public class NetworkModificationTreeService {
     @Transactional
     public AbstractNode getStudySubtree(UUID studyId, UUID parentNodeUuid, UUID rootNetworkUuid) {
         List<NodeEntity> nodes = nodesRepository.findAllChildren(parentNodeUuid);
+        Set<UUID> subtreeNodesUuids = nodes.stream().map(NodeEntity::getIdNode).collect(Collectors.toCollection(HashSet::new));
+        subtreeNodesUuids.add(parentNodeUuid);
 
         List<AbstractNode> allNodeInfos = new ArrayList<>();
         allNodeInfos.addAll(rootNodeInfoRepository.findAllByNodeStudyId(studyId).stream().map(RootNodeInfoEntity::toDto).toList());
         allNodeInfos.addAll(networkModificationNodeInfoRepository.findAllByNodeStudyId(studyId).stream().map(NetworkModificationNodeInfoEntity::toDto).toList());
+        // only keep the nodes of the subtree, the tree is then assembled in memory
+        allNodeInfos.removeIf(nodeInfo -> !subtreeNodesUuids.contains(nodeInfo.getId()));
         if (rootNetworkUuid != null) {
             completeNodeInfos(allNodeInfos, rootNetworkUuid);
         }
-        Map<UUID, AbstractNode> fullMap = allNodeInfos.stream().collect(Collectors.toMap(AbstractNode::getId, Function.identity()));
+        return assembleSubtree(parentNodeUuid, nodes, allNodeInfos);
+    }
+
+    static AbstractNode assembleSubtree(UUID parentNodeUuid, List<NodeEntity> nodes, List<AbstractNode> nodeInfos) {
+        Map<UUID, AbstractNode> fullMap = nodeInfos.stream().collect(Collectors.toMap(AbstractNode::getId, Function.identity()));
 
         nodes.stream()
             .filter(n -> n.getParentNode() != null)
@@ -558,26 +579,47 @@ public class NetworkModificationTreeService {
 
     @Transactional
     public UUID cloneStudyTree(AbstractNode nodeToDuplicate, UUID nodeParentId, StudyEntity studyEntity) {
+        // the modification groups of the whole tree are duplicated first, concurrently, then the nodes are created
+        List<NetworkModificationNode> modificationNodesToDuplicate = new ArrayList<>();
+        collectNetworkModificationNodes(nodeToDuplicate, modificationNodesToDuplicate);
+        Map<UUID, UUID> newModificationGroupIdsByNode = modificationNodesToDuplicate.stream()
+            .collect(Collectors.toMap(NetworkModificationNode::getId, node -> UUID.randomUUID()));
+        List<Map<UUID, UUID>> originToDuplicateModificationUuidMaps = studyServerExecutionService.mapConcurrently(modificationNodesToDuplicate,
+            node -> networkModificationService.duplicateModificationsGroup(node.getModificationGroupUuid(), newModificationGroupIdsByNode.get(node.getId())),
+            maxConcurrentModificationGroupDuplications);
+        Map<UUID, Map<UUID, UUID>> originToDuplicateModificationUuidMapsByNode = new HashMap<>();
+        for (int i = 0; i < modificationNodesToDuplicate.size(); i++) {
+            originToDuplicateModificationUuidMapsByNode.put(modificationNodesToDuplicate.get(i).getId(), originToDuplicateModificationUuidMaps.get(i));
+        }
+        return cloneStudyTree(nodeToDuplicate, nodeParentId, studyEntity, newModificationGroupIdsByNode, originToDuplicateModificationUuidMapsByNode);
+    }
+
+    private static void collectNetworkModificationNodes(AbstractNode node, List<NetworkModificationNode> networkModificationNodes) {
+        if (node instanceof NetworkModificationNode networkModificationNode) {
+            networkModificationNodes.add(networkModificationNode);
+        }
+        node.getChildren().forEach(child -> collectNetworkModificationNodes(child, networkModificationNodes));
+    }
+
+    private UUID cloneStudyTree(AbstractNode nodeToDuplicate, UUID nodeParentId, StudyEntity studyEntity,
+                                Map<UUID, UUID> newModificationGroupIdsByNode, Map<UUID, Map<UUID, UUID>> originToDuplicateModificationUuidMapsByNode) {
         UUID rootId = null;
         if (NodeType.ROOT.equals(nodeToDuplicate.getType())) {
             rootId = getStudyRootNodeUuid(studyEntity.getId());
         }
         UUID nextParentId;
-        UUID newModificationGroupId = UUID.randomUUID();
 
         if (nodeToDuplicate instanceof NetworkModificationNode model) {
-            UUID modificationGroupToDuplicateId = model.getModificationGroupUuid();
-            model.setModificationGroupUuid(newModificationGroupId);
+            model.setModificationGroupUuid(newModificationGroupIdsByNode.get(model.getId()));
             model.setName(getSuffixedNodeName(studyEntity.getId(), model.getName()));
 
-            Map<UUID, UUID> originToDuplicateModificationUuidMap = networkModificationService.duplicateModificationsGroup(modificationGroupToDuplicateId, newModificationGroupId);
-            nextParentId = duplicateNode(studyEntity, nodeParentId, model, nodeToDuplicate.getId(), InsertMode.CHILD, originToDuplicateModificationUuidMap).getId();
+            nextParentId = duplicateNode(studyEntity, nodeParentId, model, nodeToDuplicate.getId(), InsertMode.CHILD, originToDuplicateModificationUuidMapsByNode.get(model.getId())).getId();
         } else {
             // when cloning studyTree, we don't clone root node
             // if cloning the whole study, the root node is previously created
             nextParentId = rootId;
         }
-        nodeToDuplicate.getChildren().forEach(childToDuplicate -> self.cloneStudyTree(childToDuplicate, nextParentId, studyEntity));
+        nodeToDuplicate.getChildren().forEach(childToDuplicate -> cloneStudyTree(childToDuplicate, nextParentId, studyEntity, newModificationGroupIdsByNode, originToDuplicateModificationUuidMapsByNode));
 
         return nextParentId;
     }
@@ -1240,6 +1282,10 @@ public class NetworkModificationTreeService {
                 "Root network not found"));
         NodeEntity nodeEntity = getNodeEntity(nodeUuid);
         NodeBuildStatusEmbeddable currentNodeStatus = rootNetworkNodeInfoEntity.getNodeBuildStatus();
+        // the variant content changed, even when its build status did not
+        if (rootNetworkNodeInfoEntity.getVariantId() != null) {
+            variantDataCacheService.evictVariants(rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid(), List.of(rootNetworkNodeInfoEntity.getVariantId()));
+        }
 
         BuildStatus newGlobalStatus;
         BuildStatus newLocalStatus;
@@ -1457,6 +1503,7 @@ public class NetworkModificationTreeService {
 
     private CompletableFuture<Void> deleteInvalidationInfos(InvalidateNodeInfos invalidateNodeInfos, boolean skipDeleteVariants) {
         List<CompletableFuture<?>> futures = new ArrayList<>();
+        variantDataCacheService.evictVariants(invalidateNodeInfos.getNetworkUuid(), invalidateNodeInfos.getVariantIds());
 
         // We might want to skip variant deletion in a study invalidation scenario when a network is wholly deleted at the end of the process
         if (!skipDeleteVariants) {
@@ -1467,8 +1514,7 @@ public class NetworkModificationTreeService {
         futures.add(studyServerExecutionService.runAsync(() ->
             networkModificationService.deleteIndexedModifications(invalidateNodeInfos.getGroupUuids(),
                 invalidateNodeInfos.getNetworkUuid())));
-        futures.addAll(rootNetworkNodeInfoService.getRemoteDeletions(
-            invalidateNodeInfos.toRemoteDeletionInfos(invalidateNodeInfos)));
+        rootNetworkNodeInfoService.addRemoteDeletions(invalidateNodeInfos.toRemoteDeletionInfos(invalidateNodeInfos));
         // Do not wait completion and do not throw exception
         return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
     }
@@ -35,10 +35,14 @@ public class NetworkService {
 
     private final EquipmentInfosService equipmentInfosService;
 
+    private final VariantDataCacheService variantDataCacheService;
+
     NetworkService(NetworkStoreService networkStoreService,
-                   EquipmentInfosService equipmentInfosService) {
+                   EquipmentInfosService equipmentInfosService,
+                   VariantDataCacheService variantDataCacheService) {
         this.networkStoreService = networkStoreService;
         this.equipmentInfosService = equipmentInfosService;
+        this.variantDataCacheService = variantDataCacheService;
     }
 
     public Network getNetwork(UUID networkUuid, PreloadingStrategy strategy, String variantId) {
@@ -60,8 +64,10 @@ public class NetworkService {
     }
 
     public void deleteVariants(UUID networkUuid, List<String> variantsToRemove) {
+        variantDataCacheService.evictVariants(networkUuid, variantsToRemove);
         Network network = networkStoreService.getNetwork(networkUuid);
-        network.addListener(new NetworkVariantsListener(networkUuid, equipmentInfosService));
+        NetworkVariantsListener networkVariantsListener = new NetworkVariantsListener(networkUuid, equipmentInfosService);
+        network.addListener(networkVariantsListener);
         VariantManager variantManager = network.getVariantManager();
         Collection<String> allVariants = variantManager.getVariantIds();
         variantsToRemove.forEach(v -> {
@@ -70,6 +76,8 @@ public class NetworkService {
             }
         });
         networkStoreService.flush(network);
+        network.removeListener(networkVariantsListener);
+        networkVariantsListener.deleteRemovedVariants();
     }
 
     Network cloneNetwork(UUID sourceNetworkId, List<String> targetVariantIds) {
@@ -10,24 +10,32 @@ import org.gridsuite.study.server.dto.modification.ModificationContainerInfos;
 import org.gridsuite.study.server.dto.modification.ModificationContainerType;
 import org.gridsuite.study.server.dto.modification.MoveModificationInfos;
 import org.gridsuite.study.server.dto.modification.NetworkModificationMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class RebuildNodeService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RebuildNodeService.class);
+
     private final StudyService studyService;
     private final NetworkModificationTreeService networkModificationTreeService;
+    private final StudyServerExecutionService studyServerExecutionService;
+    private final int maxConcurrentRootNetworkRebuilds;
 
-    public RebuildNodeService(StudyService studyService, NetworkModificationTreeService networkModificationTreeService) {
+    public RebuildNodeService(StudyService studyService, NetworkModificationTreeService networkModificationTreeService,
+                              StudyServerExecutionService studyServerExecutionService,
+                              @Value("${study.rebuild.max-concurrent-root-network-rebuilds:8}") int maxConcurrentRootNetworkRebuilds) {
         this.studyService = studyService;
         this.networkModificationTreeService = networkModificationTreeService;
+        this.studyServerExecutionService = studyServerExecutionService;
+        this.maxConcurrentRootNetworkRebuilds = maxConcurrentRootNetworkRebuilds;
     }
 
     public void createNetworkModification(UUID studyUuid, UUID nodeUuid, String modificationAttributes, String userId) {
@@ -163,20 +171,54 @@ public class RebuildNodeService {
 
         T result = action.get();
 
-        rootNetworkUuidsByNodeBuilt.forEach((nodeUuid, rootNetworkUuids) ->
-            rootNetworkUuids.stream().forEach(rootNetworkUuid ->
-                    studyService.buildNode(
-                        studyUuid,
-                        nodeUuid,
-                        rootNetworkUuid,
-                        userId
-                    )
-                )
-        );
+        rebuildNodes(studyUuid, rootNetworkUuidsByNodeBuilt, userId);
 
         return result;
     }
 
+    /**
+     * The builds of different root networks are independent and requested concurrently.
+     * The builds of a root network are requested one after the other, so that each one checks the build quota
+     * with the nodes built by the previous ones.
+     * A failed build does not prevent the other ones, the first failure is thrown once all the builds are requested.
+     */
+    private void rebuildNodes(UUID studyUuid, Map<UUID, Set<UUID>> rootNetworkUuidsByNodeBuilt, String userId) {
+        Map<UUID, List<UUID>> nodeUuidsByRootNetwork = new LinkedHashMap<>();
+        rootNetworkUuidsByNodeBuilt.forEach((nodeUuid, rootNetworkUuids) ->
+            rootNetworkUuids.forEach(rootNetworkUuid -> nodeUuidsByRootNetwork.computeIfAbsent(rootNetworkUuid, k -> new ArrayList<>()).add(nodeUuid)));
+
+        // the root networks are rebuilt concurrently even when requested from a running task
+        List<List<RuntimeException>> rootNetworksFailures = studyServerExecutionService.mapConcurrently(List.copyOf(nodeUuidsByRootNetwork.entrySet()),
+            entry -> rebuildNodes(studyUuid, entry.getKey(), entry.getValue(), userId), maxConcurrentRootNetworkRebuilds);
+
+        RuntimeException failure = null;
+        for (List<RuntimeException> rootNetworkFailures : rootNetworksFailures) {
+            for (RuntimeException e : rootNetworkFailures) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private List<RuntimeException> rebuildNodes(UUID studyUuid, UUID rootNetworkUuid, List<UUID> nodeUuids, String userId) {
+        List<RuntimeException> failures = new ArrayList<>();
+        nodeUuids.forEach(nodeUuid -> {
+            try {
+                studyService.buildNode(studyUuid, nodeUuid, rootNetworkUuid, userId);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Rebuild of node {} in root network {} failed : {}", nodeUuid, rootNetworkUuid, e.getMessage());
+                failures.add(e);
+            }
+        });
+        return failures;
+    }
+
     private Set<UUID> getRootNetworkWhereNodeIsBuilt(UUID studyUuid, UUID nodeUuid) {
         return studyService.getNodeBuildStatusByRootNetwork(studyUuid, nodeUuid).entrySet().stream()
             .filter(entry -> entry.getValue().isBuilt())
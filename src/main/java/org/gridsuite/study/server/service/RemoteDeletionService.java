@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.gridsuite.study.server.dto.RemoteDeletionInfos;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionEntity;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionRepository;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionStatus;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteResourceType;
+import org.gridsuite.study.server.service.asymmetricalload.AsymmetricalLoadRestService;
+import org.gridsuite.study.server.service.dynamicmargincalculation.DynamicMarginCalculationRestService;
+import org.gridsuite.study.server.service.dynamicsecurityanalysis.DynamicSecurityAnalysisRestService;
+import org.gridsuite.study.server.service.dynamicsimulation.DynamicSimulationRestService;
+import org.gridsuite.study.server.service.loadflow.LoadFlowRestService;
+import org.gridsuite.study.server.service.pccmin.PccMinRestService;
+import org.gridsuite.study.server.service.securityanalysis.SecurityAnalysisRestService;
+import org.gridsuite.study.server.service.sensitivityanalysis.SensitivityAnalysisRestService;
+import org.gridsuite.study.server.service.shortcircuit.ShortCircuitRestService;
+import org.gridsuite.study.server.service.stateestimation.StateEstimationRestService;
+import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.gridsuite.study.server.repository.remotedeletion.RemoteResourceType.*;
+
+/**
+ * Deletion of the remote resources (reports and computation results) no longer referenced by the study.
+ * The resources to delete are stored in the same transaction as the removal of their references, a first
+ * deletion attempt is made once this transaction is committed, then the failed deletions are retried with
+ * an exponential backoff until they succeed or reach the max number of attempts.
+ */
+@Service
+public class RemoteDeletionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteDeletionService.class);
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final RemoteDeletionRepository remoteDeletionRepository;
+    private final StudyServerExecutionService studyServerExecutionService;
+    private final RemoteDeletionService self;
+    private final Map<RemoteResourceType, Consumer<List<UUID>>> resourceDeleters = new EnumMap<>(RemoteResourceType.class);
+
+    private final AtomicLong pendingDeletionsCount = new AtomicLong();
+    private final AtomicLong deadLetterDeletionsCount = new AtomicLong();
+    private final AtomicLong oldestPendingDeletionAge = new AtomicLong();
+
+    @Value("${study.remote-deletions.batch-size:500}")
+    private int batchSize;
+
+    @Value("${study.remote-deletions.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${study.remote-deletions.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${study.remote-deletions.max-backoff:6h}")
+    private Duration maxBackoff;
+
+    // delay after which a deletion attempt which did not complete (pod restart...) is made again
+    @Value("${study.remote-deletions.lease:10m}")
+    private Duration lease;
+
+    public RemoteDeletionService(RemoteDeletionRepository remoteDeletionRepository,
+                                 StudyServerExecutionService studyServerExecutionService,
+                                 @Lazy RemoteDeletionService remoteDeletionService,
+                                 MeterRegistry meterRegistry,
+                                 ReportService reportService,
+                                 LoadFlowRestService loadFlowRestService,
+                                 SecurityAnalysisRestService securityAnalysisRestService,
+                                 SensitivityAnalysisRestService sensitivityAnalysisRestService,
+                                 ShortCircuitRestService shortCircuitRestService,
+                                 VoltageInitRestService voltageInitRestService,
+                                 DynamicSimulationRestService dynamicSimulationRestService,
+                                 DynamicSecurityAnalysisRestService dynamicSecurityAnalysisRestService,
+                                 DynamicMarginCalculationRestService dynamicMarginCalculationRestService,
+                                 StateEstimationRestService stateEstimationRestService,
+                                 PccMinRestService pccMinRestService,
+                                 AsymmetricalLoadRestService asymmetricalLoadRestService) {
+        this.remoteDeletionRepository = remoteDeletionRepository;
+        this.studyServerExecutionService = studyServerExecutionService;
+        this.self = remoteDeletionService;
+
+        resourceDeleters.put(REPORT, reportService::deleteReportsOrThrow);
+        resourceDeleters.put(LOAD_FLOW_RESULT, loadFlowRestService::deleteLoadFlowResults);
+        resourceDeleters.put(SECURITY_ANALYSIS_RESULT, securityAnalysisRestService::deleteSecurityAnalysisResults);
+        resourceDeleters.put(SENSITIVITY_ANALYSIS_RESULT, sensitivityAnalysisRestService::deleteSensitivityAnalysisResults);
+        resourceDeleters.put(SHORT_CIRCUIT_ANALYSIS_RESULT, shortCircuitRestService::deleteShortCircuitAnalysisResults);
+        resourceDeleters.put(ONE_BUS_SHORT_CIRCUIT_ANALYSIS_RESULT, shortCircuitRestService::deleteShortCircuitAnalysisResults);
+        resourceDeleters.put(VOLTAGE_INIT_RESULT, voltageInitRestService::deleteVoltageInitResults);
+        resourceDeleters.put(DYNAMIC_SIMULATION_RESULT, dynamicSimulationRestService::deleteResults);
+        resourceDeleters.put(DYNAMIC_SECURITY_ANALYSIS_RESULT, dynamicSecurityAnalysisRestService::deleteResults);
+        resourceDeleters.put(DYNAMIC_MARGIN_CALCULATION_RESULT, dynamicMarginCalculationRestService::deleteResults);
+        resourceDeleters.put(STATE_ESTIMATION_RESULT, stateEstimationRestService::deleteStateEstimationResults);
+        resourceDeleters.put(PCC_MIN_RESULT, pccMinRestService::deletePccMinResults);
+        resourceDeleters.put(ASYMMETRICAL_LOAD_RESULT, asymmetricalLoadRestService::deleteAsymmetricalLoadResults);
+
+        Gauge.builder("study.remote.deletions.pending", pendingDeletionsCount, AtomicLong::get)
+            .description("Number of remote deletions waiting to be retried")
+            .register(meterRegistry);
+        Gauge.builder("study.remote.deletions.dead.letter", deadLetterDeletionsCount, AtomicLong::get)
+            .description("Number of remote deletions abandoned after the max number of attempts")
+            .register(meterRegistry);
+        Gauge.builder("study.remote.deletions.oldest.pending.age", oldestPendingDeletionAge, AtomicLong::get)
+            .description("Age of the oldest remote deletion waiting to be retried")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Store the remote resources to delete in the current transaction, the deletion itself is done once the transaction is committed
+     */
+    public void addRemoteDeletions(RemoteDeletionInfos infos) {
+        Instant now = Instant.now();
+        List<RemoteDeletionEntity> deletions = new ArrayList<>();
+        addRemoteDeletions(deletions, REPORT, infos.getReportUuids(), now);
+        addRemoteDeletions(deletions, LOAD_FLOW_RESULT, infos.getLoadFlowResultUuids(), now);
+        addRemoteDeletions(deletions, SECURITY_ANALYSIS_RESULT, infos.getSecurityAnalysisResultUuids(), now);
+        addRemoteDeletions(deletions, SENSITIVITY_ANALYSIS_RESULT, infos.getSensitivityAnalysisResultUuids(), now);
+        addRemoteDeletions(deletions, SHORT_CIRCUIT_ANALYSIS_RESULT, infos.getShortCircuitAnalysisResultUuids(), now);
+        addRemoteDeletions(deletions, ONE_BUS_SHORT_CIRCUIT_ANALYSIS_RESULT, infos.getOneBusShortCircuitAnalysisResultUuids(), now);
+        addRemoteDeletions(deletions, VOLTAGE_INIT_RESULT, infos.getVoltageInitResultUuids(), now);
+        addRemoteDeletions(deletions, DYNAMIC_SIMULATION_RESULT, infos.getDynamicSimulationResultUuids(), now);
+        addRemoteDeletions(deletions, DYNAMIC_SECURITY_ANALYSIS_RESULT, infos.getDynamicSecurityAnalysisResultUuids(), now);
+        addRemoteDeletions(deletions, DYNAMIC_MARGIN_CALCULATION_RESULT, infos.getDynamicMarginCalculationResultUuids(), now);
+        addRemoteDeletions(deletions, STATE_ESTIMATION_RESULT, infos.getStateEstimationResultUuids(), now);
+        addRemoteDeletions(deletions, PCC_MIN_RESULT, infos.getPccMinResultUuids(), now);
+        addRemoteDeletions(deletions, ASYMMETRICAL_LOAD_RESULT, infos.getAsymmetricalLoadResultUuids(), now);
+        if (deletions.isEmpty()) {
+            return;
+        }
+        remoteDeletionRepository.saveAll(deletions);
+
+        // a deletion dropped by a saturated executor is retried once its lease is over
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    studyServerExecutionService.runAsync(() -> deleteRemoteResources(deletions));
+                }
+            });
+        } else {
+            studyServerExecutionService.runAsync(() -> deleteRemoteResources(deletions));
+        }
+    }
+
+    private void addRemoteDeletions(List<RemoteDeletionEntity> deletions, RemoteResourceType resourceType, List<UUID> resourceUuids, Instant now) {
+        resourceUuids.forEach(resourceUuid -> deletions.add(RemoteDeletionEntity.builder()
+            .resourceType(resourceType)
+            .resourceUuid(resourceUuid)
+            .status(RemoteDeletionStatus.PENDING)
+            .attempts(0)
+            .creationDate(now)
+            // the first attempt is made right after the commit, the lease prevents a concurrent retry
+            .nextAttemptDate(now.plus(lease))
+            .build()));
+    }
+
+    @Scheduled(cron = "${study.remote-deletions.cron:0 * * * * *}")
+    public void retryRemoteDeletions() {
+        List<RemoteDeletionEntity> deletions;
+        do {
+            deletions = self.claimRemoteDeletions();
+            if (!deletions.isEmpty()) {
+                deleteRemoteResources(deletions);
+            }
+        } while (deletions.size() == batchSize);
+        updateMetrics();
+    }
+
+    @Transactional
+    public List<RemoteDeletionEntity> claimRemoteDeletions() {
+        Instant now = Instant.now();
+        List<RemoteDeletionEntity> deletions = remoteDeletionRepository.findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+            RemoteDeletionStatus.PENDING, now, PageRequest.of(0, batchSize));
+        deletions.forEach(deletion -> deletion.setNextAttemptDate(now.plus(lease)));
+        return deletions;
+    }
+
+    private void deleteRemoteResources(List<RemoteDeletionEntity> deletions) {
+        Map<RemoteResourceType, List<RemoteDeletionEntity>> deletionsByType = deletions.stream()
+            .collect(Collectors.groupingBy(RemoteDeletionEntity::getResourceType, () -> new EnumMap<>(RemoteResourceType.class), Collectors.toList()));
+
+        Map<RemoteResourceType, CompletableFuture<RemoteResourceType>> futures = new EnumMap<>(RemoteResourceType.class);
+        deletionsByType.forEach((resourceType, typeDeletions) -> futures.put(resourceType, studyServerExecutionService.supplyAsync(() -> {
+            resourceDeleters.get(resourceType).accept(typeDeletions.stream().map(RemoteDeletionEntity::getResourceUuid).toList());
+            return resourceType;
+        })));
+
+        List<UUID> deletedIds = new ArrayList<>();
+        Map<UUID, String> errorsById = new HashMap<>();
+        futures.forEach((resourceType, future) -> {
+            try {
+                future.join();
+                deletionsByType.get(resourceType).forEach(deletion -> deletedIds.add(deletion.getId()));
+            } catch (CompletionException e) {
+                String error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                LOGGER.warn("Error while deleting remote resources of type {} : {}", resourceType, error);
+                deletionsByType.get(resourceType).forEach(deletion -> errorsById.put(deletion.getId(), StringUtils.abbreviate(error, MAX_ERROR_LENGTH)));
+            }
+        });
+        self.completeRemoteDeletions(deletedIds, errorsById);
+    }
+
+    @Transactional
+    public void completeRemoteDeletions(List<UUID> deletedIds, Map<UUID, String> errorsById) {
+        remoteDeletionRepository.deleteAllByIdInBatch(deletedIds);
+
+        Instant now = Instant.now();
+        remoteDeletionRepository.findAllById(errorsById.keySet()).forEach(deletion -> {
+            deletion.setAttempts(deletion.getAttempts() + 1);
+            deletion.setLastError(errorsById.get(deletion.getId()));
+            if (deletion.getAttempts() >= maxAttempts) {
+                LOGGER.error("Deletion of remote resource {} of type {} abandoned after {} attempts : {}",
+                    deletion.getResourceUuid(), deletion.getResourceType(), deletion.getAttempts(), deletion.getLastError());
+                deletion.setStatus(RemoteDeletionStatus.DEAD_LETTER);
+            } else {
+                deletion.setNextAttemptDate(now.plus(getBackoff(deletion.getAttempts())));
+            }
+        });
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    public void updateMetrics() {
+        pendingDeletionsCount.set(remoteDeletionRepository.countByStatus(RemoteDeletionStatus.PENDING));
+        deadLetterDeletionsCount.set(remoteDeletionRepository.countByStatus(RemoteDeletionStatus.DEAD_LETTER));
+        oldestPendingDeletionAge.set(remoteDeletionRepository.findFirstByStatusOrderByCreationDate(RemoteDeletionStatus.PENDING)
+            .map(deletion -> Duration.between(deletion.getCreationDate(), Instant.now()).toSeconds())
+            .orElse(0L));
+    }
+}
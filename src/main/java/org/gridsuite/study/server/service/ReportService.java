@@ -82,6 +82,14 @@ public class ReportService {
     }
 
     public void deleteReports(@NonNull List<UUID> reportsUuids) {
+        try {
+            deleteReportsOrThrow(reportsUuids);
+        } catch (Exception e) {
+            LOGGER.error("Error while deleting reports : {}", e.getMessage());
+        }
+    }
+
+    public void deleteReportsOrThrow(@NonNull List<UUID> reportsUuids) {
         if (reportsUuids.isEmpty()) {
             return;
         }
@@ -90,11 +98,7 @@ public class ReportService {
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<List<UUID>> httpEntity = new HttpEntity<>(reportsUuids, headers);
 
-        try {
-            restTemplate.exchange(this.reportServerBaseUri + DELIMITER + REPORT_API_VERSION + DELIMITER + path, HttpMethod.DELETE, httpEntity, Void.class);
-        } catch (Exception e) {
-            LOGGER.error("Error while deleting reports : {}", e.getMessage());
-        }
+        restTemplate.exchange(this.reportServerBaseUri + DELIMITER + REPORT_API_VERSION + DELIMITER + path, HttpMethod.DELETE, httpEntity, Void.class);
     }
 
     public ReportPage getPagedReportLogs(@NonNull UUID id, String messageFilter, Set<String> severityLevels, boolean paged, Pageable pageable) {
@@ -7,6 +7,7 @@
 package org.gridsuite.study.server.service;
 
 import com.powsybl.timeseries.DoubleTimeSeries;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.dto.*;
@@ -19,6 +20,7 @@ import org.gridsuite.study.server.dto.sensianalysis.SensitivityAnalysisCsvFileIn
 import org.gridsuite.study.server.dto.timeseries.TimeSeriesMetadataInfos;
 import org.gridsuite.study.server.dto.timeseries.TimelineEventInfos;
 import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.exception.PartialResultException;
 import org.gridsuite.study.server.networkmodificationtree.dto.BuildStatus;
 import org.gridsuite.study.server.networkmodificationtree.entities.NetworkModificationNodeInfoEntity;
 import org.gridsuite.study.server.networkmodificationtree.entities.NetworkModificationNodeType;
@@ -43,14 +45,20 @@ import org.gridsuite.study.server.service.shortcircuit.ShortcircuitAnalysisType;
 import org.gridsuite.study.server.service.stateestimation.StateEstimationRestService;
 import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
 import org.gridsuite.study.server.utils.ResultParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -65,6 +73,8 @@ import static org.gridsuite.study.server.error.StudyBusinessErrorCode.*;
 @Service
 public class RootNetworkNodeInfoService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RootNetworkNodeInfoService.class);
+
     private static final String ROOT_NETWORK_NOT_FOUND = "Root network not found";
 
     private final RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
@@ -80,9 +90,14 @@ public class RootNetworkNodeInfoService {
     private final DynamicMarginCalculationRestService dynamicMarginCalculationRestService;
     private final StateEstimationRestService stateEstimationRestService;
     private final PccMinRestService pccMinRestService;
-    private final ReportService reportService;
+    private final RemoteDeletionService remoteDeletionService;
+    private final VariantDataCacheService variantDataCacheService;
     private final AsymmetricalLoadRestService asymmetricalLoadRestService;
 
+    private final RootNetworkNodeInfoService self;
+
+    private final int maxConcurrentComputationStatusChecks;
+
     public RootNetworkNodeInfoService(RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository,
                                       NetworkModificationNodeInfoRepository networkModificationNodeInfoRepository,
                                       StudyServerExecutionService studyServerExecutionService,
@@ -97,7 +112,10 @@ public class RootNetworkNodeInfoService {
                                       StateEstimationRestService stateEstimationService,
                                       PccMinRestService pccMinService,
                                       AsymmetricalLoadRestService asymmetricalLoadRestService,
-                                      ReportService reportService) {
+                                      RemoteDeletionService remoteDeletionService,
+                                      VariantDataCacheService variantDataCacheService,
+                                      @Lazy RootNetworkNodeInfoService rootNetworkNodeInfoService,
+                                      @Value("${study.computation-status.max-concurrent-checks:8}") int maxConcurrentComputationStatusChecks) {
         this.rootNetworkNodeInfoRepository = rootNetworkNodeInfoRepository;
         this.networkModificationNodeInfoRepository = networkModificationNodeInfoRepository;
         this.studyServerExecutionService = studyServerExecutionService;
@@ -111,8 +129,11 @@ public class RootNetworkNodeInfoService {
         this.dynamicMarginCalculationRestService = dynamicMarginCalculationRestService;
         this.stateEstimationRestService = stateEstimationService;
         this.pccMinRestService = pccMinService;
-        this.reportService = reportService;
+        this.remoteDeletionService = remoteDeletionService;
+        this.variantDataCacheService = variantDataCacheService;
         this.asymmetricalLoadRestService = asymmetricalLoadRestService;
+        this.self = rootNetworkNodeInfoService;
+        this.maxConcurrentComputationStatusChecks = maxConcurrentComputationStatusChecks;
     }
 
     public void createRootNetworkLinks(@NonNull UUID studyUuid, @NonNull RootNetworkEntity rootNetworkEntity) {
@@ -177,6 +198,11 @@ public class RootNetworkNodeInfoService {
                 ROOT_NETWORK_NOT_FOUND));
         rootNetworkNodeInfoEntity.setLoadFlowResultUuid(loadflowResultUuid);
         rootNetworkNodeInfoEntity.setLoadFlowWithRatioTapChangers(withRatioTapChangers);
+        rootNetworkNodeInfoEntity.setComputationTerminated(loadflowResultUuid, false);
+        // the solved values may have been applied to the variant
+        if (rootNetworkNodeInfoEntity.getVariantId() != null) {
+            variantDataCacheService.evictVariants(rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid(), List.of(rootNetworkNodeInfoEntity.getVariantId()));
+        }
     }
 
     @Transactional
@@ -199,6 +225,16 @@ public class RootNetworkNodeInfoService {
             case PCC_MIN -> rootNetworkNodeInfoEntity.setPccMinResultUuid(computationResultUuid);
             case ASYMMETRICAL_LOAD -> rootNetworkNodeInfoEntity.setAsymmetricalLoadResultUuid(computationResultUuid);
         }
+        rootNetworkNodeInfoEntity.setComputationTerminated(computationResultUuid, false);
+    }
+
+    /**
+     * Record that a computation is over, its result or failure being received, so that its status is not asked to its server anymore
+     */
+    @Transactional
+    public void setComputationTerminated(UUID nodeUuid, UUID rootNetworkUuid, UUID computationResultUuid) {
+        rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid)
+            .ifPresent(rootNetworkNodeInfoEntity -> rootNetworkNodeInfoEntity.setComputationTerminated(computationResultUuid, true));
     }
 
     public List<RootNetworkNodeInfoEntity> getAllWithRootNetworkByNodeInfoId(UUID nodeUuid) {
@@ -516,6 +552,18 @@ public class RootNetworkNodeInfoService {
         return rootNetworkNodeInfoRepository.getAllByRootNetworkIdAndNodeInfoIdIn(rootNetworkUuid, nodesUuids);
     }
 
+    /**
+     * Load the root network node infos of several nodes in a single query, their node info and reports being fetched along
+     * @return a map indexed by node uuid
+     */
+    public Map<UUID, RootNetworkNodeInfoEntity> getRootNetworkNodesWithReportsByNodeUuid(UUID rootNetworkUuid, List<UUID> nodesUuids) {
+        if (nodesUuids.isEmpty()) {
+            return Map.of();
+        }
+        return rootNetworkNodeInfoRepository.getAllWithNodeInfoAndReportsByRootNetworkIdAndNodeInfoIdIn(rootNetworkUuid, nodesUuids).stream()
+            .collect(Collectors.toMap(rootNetworkNodeInfoEntity -> rootNetworkNodeInfoEntity.getNodeInfo().getId(), Function.identity()));
+    }
+
     public List<RootNetworkNodeInfoEntity> getAllByStudyUuidWithLoadFlowResultsNotNull(UUID studyUuid) {
         return rootNetworkNodeInfoRepository.findAllByRootNetworkStudyIdAndNodeInfoNodeTypeAndLoadFlowResultUuidNotNull(studyUuid, NetworkModificationNodeType.SECURITY);
     }
@@ -639,22 +687,8 @@ public class RootNetworkNodeInfoService {
         }
     }
 
-    public List<CompletableFuture<?>> getRemoteDeletions(RemoteDeletionInfos infos) {
-        return List.of(
-            studyServerExecutionService.runAsync(() -> reportService.deleteReports(infos.getReportUuids())),
-            studyServerExecutionService.runAsync(() -> loadFlowRestService.deleteLoadFlowResults(infos.getLoadFlowResultUuids())),
-            studyServerExecutionService.runAsync(() -> securityAnalysisRestService.deleteSecurityAnalysisResults(infos.getSecurityAnalysisResultUuids())),
-            studyServerExecutionService.runAsync(() -> sensitivityAnalysisRestService.deleteSensitivityAnalysisResults(infos.getSensitivityAnalysisResultUuids())),
-            studyServerExecutionService.runAsync(() -> shortCircuitRestService.deleteShortCircuitAnalysisResults(infos.getShortCircuitAnalysisResultUuids())),
-            studyServerExecutionService.runAsync(() -> shortCircuitRestService.deleteShortCircuitAnalysisResults(infos.getOneBusShortCircuitAnalysisResultUuids())),
-            studyServerExecutionService.runAsync(() -> voltageInitRestService.deleteVoltageInitResults(infos.getVoltageInitResultUuids())),
-            studyServerExecutionService.runAsync(() -> dynamicSimulationRestService.deleteResults(infos.getDynamicSimulationResultUuids())),
-            studyServerExecutionService.runAsync(() -> dynamicSecurityAnalysisRestService.deleteResults(infos.getDynamicSecurityAnalysisResultUuids())),
-            studyServerExecutionService.runAsync(() -> dynamicMarginCalculationRestService.deleteResults(infos.getDynamicMarginCalculationResultUuids())),
-            studyServerExecutionService.runAsync(() -> stateEstimationRestService.deleteStateEstimationResults(infos.getStateEstimationResultUuids())),
-            studyServerExecutionService.runAsync(() -> pccMinRestService.deletePccMinResults(infos.getPccMinResultUuids())),
-            studyServerExecutionService.runAsync(() -> asymmetricalLoadRestService.deleteAsymmetricalLoadResults(infos.getAsymmetricalLoadResultUuids()))
-        );
+    public void addRemoteDeletions(RemoteDeletionInfos infos) {
+        remoteDeletionService.addRemoteDeletions(infos);
     }
 
     public RemoteDeletionInfos getRemoteDeletionInfos(List<RootNetworkNodeInfo> rootNetworkNodeInfos) {
@@ -681,8 +715,7 @@ public class RootNetworkNodeInfoService {
         if (rootNetworkNodeInfos == null || rootNetworkNodeInfos.isEmpty()) {
             return;
         }
-        // Do not wait completion and do not throw exception
-        CompletableFuture.allOf(getRemoteDeletions(getRemoteDeletionInfos(rootNetworkNodeInfos)).toArray(CompletableFuture[]::new));
+        remoteDeletionService.addRemoteDeletions(getRemoteDeletionInfos(rootNetworkNodeInfos));
     }
 
     @Transactional
@@ -702,19 +735,41 @@ public class RootNetworkNodeInfoService {
             .toList();
     }
 
-    public void assertComputationNotRunning(UUID nodeUuid, UUID rootNetworkUuid) {
-        loadFlowRestService.assertLoadFlowNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, LOAD_FLOW));
-        securityAnalysisRestService.assertSecurityAnalysisNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, SECURITY_ANALYSIS));
-        dynamicSimulationRestService.assertDynamicSimulationNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, DYNAMIC_SIMULATION));
-        dynamicSecurityAnalysisRestService.assertDynamicSecurityAnalysisNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, DYNAMIC_SECURITY_ANALYSIS));
-        dynamicMarginCalculationRestService.assertDynamicMarginCalculationNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, DYNAMIC_MARGIN_CALCULATION));
-        sensitivityAnalysisRestService.assertSensitivityAnalysisNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, SENSITIVITY_ANALYSIS));
-        shortCircuitRestService.assertShortCircuitAnalysisNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, SHORT_CIRCUIT), getComputationResultUuid(nodeUuid, rootNetworkUuid,
-                SHORT_CIRCUIT_ONE_BUS));
-        voltageInitRestService.assertVoltageInitNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, VOLTAGE_INITIALIZATION));
-        stateEstimationRestService.assertStateEstimationNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, STATE_ESTIMATION));
-        pccMinRestService.assertPccMinNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, PCC_MIN));
-        asymmetricalLoadRestService.assertAsymmetricalLoadNotRunning(getComputationResultUuid(nodeUuid, rootNetworkUuid, ASYMMETRICAL_LOAD));
+    /**
+     * Assert no computation is running on the nodes : only the computations not known to be over are checked by their
+     * servers, concurrently, and the first one running fails the check, skipping the checks not started yet
+     */
+    public void assertComputationNotRunning(UUID rootNetworkUuid, List<UUID> nodesUuids) {
+        List<Runnable> statusChecks = new ArrayList<>();
+        rootNetworkNodeInfoRepository.getAllWithTerminatedComputationsByRootNetworkIdAndNodeInfoIdIn(rootNetworkUuid, nodesUuids).forEach(rootNetworkNodeInfoEntity -> {
+            for (ComputationType computationType : ComputationType.values()) {
+                UUID resultUuid = getComputationResultUuid(rootNetworkNodeInfoEntity, computationType);
+                if (resultUuid != null && !rootNetworkNodeInfoEntity.isComputationTerminated(resultUuid)) {
+                    statusChecks.add(() -> assertComputationNotRunning(computationType, resultUuid));
+                }
+            }
+        });
+        studyServerExecutionService.mapConcurrently(statusChecks, statusCheck -> {
+            statusCheck.run();
+            return null;
+        }, maxConcurrentComputationStatusChecks);
+    }
+
+    private void assertComputationNotRunning(ComputationType computationType, UUID resultUuid) {
+        switch (computationType) {
+            case LOAD_FLOW -> loadFlowRestService.assertLoadFlowNotRunning(resultUuid);
+            case SECURITY_ANALYSIS -> securityAnalysisRestService.assertSecurityAnalysisNotRunning(resultUuid);
+            case SENSITIVITY_ANALYSIS -> sensitivityAnalysisRestService.assertSensitivityAnalysisNotRunning(resultUuid);
+            case SHORT_CIRCUIT -> shortCircuitRestService.assertShortCircuitAnalysisNotRunning(resultUuid, null);
+            case SHORT_CIRCUIT_ONE_BUS -> shortCircuitRestService.assertShortCircuitAnalysisNotRunning(null, resultUuid);
+            case VOLTAGE_INITIALIZATION -> voltageInitRestService.assertVoltageInitNotRunning(resultUuid);
+            case DYNAMIC_SIMULATION -> dynamicSimulationRestService.assertDynamicSimulationNotRunning(resultUuid);
+            case DYNAMIC_SECURITY_ANALYSIS -> dynamicSecurityAnalysisRestService.assertDynamicSecurityAnalysisNotRunning(resultUuid);
+            case DYNAMIC_MARGIN_CALCULATION -> dynamicMarginCalculationRestService.assertDynamicMarginCalculationNotRunning(resultUuid);
+            case STATE_ESTIMATION -> stateEstimationRestService.assertStateEstimationNotRunning(resultUuid);
+            case PCC_MIN -> pccMinRestService.assertPccMinNotRunning(resultUuid);
+            case ASYMMETRICAL_LOAD -> asymmetricalLoadRestService.assertAsymmetricalLoadNotRunning(resultUuid);
+        }
     }
 
     /***************************
@@ -736,15 +791,23 @@ public class RootNetworkNodeInfoService {
         return securityAnalysisRestService.getSecurityAnalysisResult(resultUuid, networkUuid, variantId, resultType, filters, globalFilters, pageable);
     }
 
+    /**
+     * Get the network, variant and result of a computation on a node, to request the computation server outside of this transaction
+     */
     @Transactional(readOnly = true)
-    public ResponseEntity<byte[]> getSecurityAnalysisResultCsv(UUID nodeUuid, UUID rootNetworkUuid, SecurityAnalysisResultType resultType,
-                                                               String globalFilters, String filters, Sort sort, String csvTranslations) {
+    public ResultParameters getResultParameters(UUID nodeUuid, UUID rootNetworkUuid, ComputationType computationType) {
         RootNetworkNodeInfoEntity rootNetworkNodeInfoEntity = rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid).orElseThrow(()
                 -> new StudyException(NOT_FOUND, ROOT_NETWORK_NOT_FOUND));
-        String variantId = rootNetworkNodeInfoEntity.getVariantId();
-        UUID networkUuid = rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid();
-        UUID resultUuid = getComputationResultUuid(nodeUuid, rootNetworkUuid, SECURITY_ANALYSIS);
-        return securityAnalysisRestService.getSecurityAnalysisResultCsv(resultUuid, networkUuid, variantId, resultType, globalFilters, filters, sort, csvTranslations);
+        return new ResultParameters(rootNetworkUuid, nodeUuid, rootNetworkNodeInfoEntity.getVariantId(), rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid(),
+            getComputationResultUuid(rootNetworkNodeInfoEntity, computationType));
+    }
+
+    // CSV exports are streamed from the computation servers : no transaction is kept open meanwhile
+    public void getSecurityAnalysisResultCsv(UUID nodeUuid, UUID rootNetworkUuid, SecurityAnalysisResultType resultType,
+                                             String globalFilters, String filters, Sort sort, String csvTranslations, HttpServletResponse response) {
+        ResultParameters resultParameters = self.getResultParameters(nodeUuid, rootNetworkUuid, SECURITY_ANALYSIS);
+        securityAnalysisRestService.getSecurityAnalysisResultCsv(resultParameters.getResultUuid(), resultParameters.getNetworkUuid(), resultParameters.getVariantId(),
+            resultType, globalFilters, filters, sort, csvTranslations, response);
     }
 
     @Transactional(readOnly = true)
@@ -775,35 +838,23 @@ public class RootNetworkNodeInfoService {
         return sensitivityAnalysisRestService.getSensitivityAnalysisResult(resultUuid, networkUuid, variantId, selector, filters, globalFilters);
     }
 
-    @Transactional(readOnly = true)
-    public ResponseEntity<byte[]> exportSensitivityResultsAsCsv(UUID nodeUuid, UUID rootNetworkUuid, SensitivityAnalysisCsvFileInfos sensitivityAnalysisCsvFileInfos, String selector, String filters,
-            String globalFilters) {
-        RootNetworkNodeInfoEntity rootNetworkNodeInfoEntity = rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid).orElseThrow(() -> new StudyException(NOT_FOUND,
-                ROOT_NETWORK_NOT_FOUND));
-        String variantId = rootNetworkNodeInfoEntity.getVariantId();
-        UUID networkUuid = rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid();
-        UUID resultUuid = getComputationResultUuid(nodeUuid, rootNetworkUuid, SENSITIVITY_ANALYSIS);
-        return sensitivityAnalysisRestService.exportSensitivityResultsAsCsv(resultUuid, sensitivityAnalysisCsvFileInfos, networkUuid, variantId, selector, filters, globalFilters);
+    public void exportSensitivityResultsAsCsv(UUID nodeUuid, UUID rootNetworkUuid, SensitivityAnalysisCsvFileInfos sensitivityAnalysisCsvFileInfos, String selector, String filters,
+            String globalFilters, HttpServletResponse response) {
+        ResultParameters resultParameters = self.getResultParameters(nodeUuid, rootNetworkUuid, SENSITIVITY_ANALYSIS);
+        sensitivityAnalysisRestService.exportSensitivityResultsAsCsv(resultParameters.getResultUuid(), sensitivityAnalysisCsvFileInfos, resultParameters.getNetworkUuid(),
+            resultParameters.getVariantId(), selector, filters, globalFilters, response);
     }
 
-    @Transactional(readOnly = true)
-    public ResponseEntity<byte[]> exportPccMinResultsAsCsv(UUID nodeUuid, UUID rootNetworkUuid, String csvHeaders, Sort sort, String filters, String globalFilters) {
-        RootNetworkNodeInfoEntity rootNetworkNodeInfoEntity = rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid).orElseThrow(() -> new StudyException(NOT_FOUND,
-                ROOT_NETWORK_NOT_FOUND));
-        String variantId = rootNetworkNodeInfoEntity.getVariantId();
-        UUID networkUuid = rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid();
-        UUID resultUuid = getComputationResultUuid(nodeUuid, rootNetworkUuid, PCC_MIN);
-        return pccMinRestService.exportPccMinResultsAsCsv(resultUuid, csvHeaders, networkUuid, variantId, sort, filters, globalFilters);
+    public void exportPccMinResultsAsCsv(UUID nodeUuid, UUID rootNetworkUuid, String csvHeaders, Sort sort, String filters, String globalFilters, HttpServletResponse response) {
+        ResultParameters resultParameters = self.getResultParameters(nodeUuid, rootNetworkUuid, PCC_MIN);
+        pccMinRestService.exportPccMinResultsAsCsv(resultParameters.getResultUuid(), csvHeaders, resultParameters.getNetworkUuid(), resultParameters.getVariantId(),
+            sort, filters, globalFilters, response);
     }
 
-    @Transactional(readOnly = true)
-    public ResponseEntity<byte[]> exportAsymmetricalLoadResultsAsCsv(UUID nodeUuid, UUID rootNetworkUuid, String csvHeaders, Sort sort, String filters, String globalFilters) {
-        RootNetworkNodeInfoEntity rootNetworkNodeInfoEntity = rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid).orElseThrow(() -> new StudyException(NOT_FOUND,
-                ROOT_NETWORK_NOT_FOUND));
-        String variantId = rootNetworkNodeInfoEntity.getVariantId();
-        UUID networkUuid = rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid();
-        UUID resultUuid = getComputationResultUuid(nodeUuid, rootNetworkUuid, ASYMMETRICAL_LOAD);
-        return asymmetricalLoadRestService.exportAsymmetricalLoadResultsAsCsv(resultUuid, csvHeaders, networkUuid, variantId, sort, filters, globalFilters);
+    public void exportAsymmetricalLoadResultsAsCsv(UUID nodeUuid, UUID rootNetworkUuid, String csvHeaders, Sort sort, String filters, String globalFilters, HttpServletResponse response) {
+        ResultParameters resultParameters = self.getResultParameters(nodeUuid, rootNetworkUuid, ASYMMETRICAL_LOAD);
+        asymmetricalLoadRestService.exportAsymmetricalLoadResultsAsCsv(resultParameters.getResultUuid(), csvHeaders, resultParameters.getNetworkUuid(), resultParameters.getVariantId(),
+            sort, filters, globalFilters, response);
     }
 
     @Transactional(readOnly = true)
@@ -826,17 +877,13 @@ public class RootNetworkNodeInfoService {
         return shortCircuitRestService.getShortCircuitAnalysisResult(resultParametersEnriched, mode, type, filters, globalFilters, paged, pageable);
     }
 
-    @Transactional(readOnly = true)
-    public ResponseEntity<byte[]> getShortCircuitAnalysisCsvResult(UUID nodeUuid, UUID rootNetworkUuid,
-                                                                   ShortcircuitAnalysisType type, String filters, String globalFilters,
-                                                                   Sort sort, String headerCsv) {
-        RootNetworkNodeInfoEntity rootNetworkNodeInfoEntity = rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid).orElseThrow(() -> new StudyException(NOT_FOUND,
-                ROOT_NETWORK_NOT_FOUND));
-        String variantId = rootNetworkNodeInfoEntity.getVariantId();
-        UUID networkUuid = rootNetworkNodeInfoEntity.getRootNetwork().getNetworkUuid();
-        UUID resultUuid = getComputationResultUuid(nodeUuid, rootNetworkUuid,
+    public void getShortCircuitAnalysisCsvResult(UUID nodeUuid, UUID rootNetworkUuid,
+                                                 ShortcircuitAnalysisType type, String filters, String globalFilters,
+                                                 Sort sort, String headerCsv, HttpServletResponse response) {
+        ResultParameters resultParameters = self.getResultParameters(nodeUuid, rootNetworkUuid,
             type == ShortcircuitAnalysisType.ALL_BUSES ? SHORT_CIRCUIT : SHORT_CIRCUIT_ONE_BUS);
-        return shortCircuitRestService.getShortCircuitAnalysisCsvResult(resultUuid, networkUuid, variantId, filters, globalFilters, sort, headerCsv);
+        shortCircuitRestService.getShortCircuitAnalysisCsvResult(resultParameters.getResultUuid(), resultParameters.getNetworkUuid(), resultParameters.getVariantId(),
+            filters, globalFilters, sort, headerCsv, response);
     }
 
     @Transactional(readOnly = true)
@@ -977,6 +1024,62 @@ public class RootNetworkNodeInfoService {
         return asymmetricalLoadRestService.getAsymmetricalLoadStatus(resultUuid);
     }
 
+    /**
+     * Get the status of all the computations of a node.
+     * The computation result uuids are read at once, then the computation servers are requested concurrently.
+     *
+     * @param timeout maximum time to wait for each computation server
+     * @throws PartialResultException holding all the status when some computation servers failed or didn't respond in time,
+     * their computation status being null
+     */
+    public Map<ComputationType, String> getAllComputationsStatus(UUID nodeUuid, UUID rootNetworkUuid, Duration timeout) throws PartialResultException {
+        Optional<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntity = getRootNetworkNodeInfo(nodeUuid, rootNetworkUuid);
+        Map<ComputationType, CompletableFuture<String>> statusFutures = new EnumMap<>(ComputationType.class);
+        for (ComputationType computationType : ComputationType.values()) {
+            UUID resultUuid = rootNetworkNodeInfoEntity.map(entity -> getComputationResultUuid(entity, computationType)).orElse(null);
+            Function<UUID, String> statusGetter = getComputationStatusGetter(computationType);
+            statusFutures.put(computationType, resultUuid == null
+                ? CompletableFuture.completedFuture(null)
+                : studyServerExecutionService.supplyAsync(() -> statusGetter.apply(resultUuid)).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
+
+        EnumMap<ComputationType, String> allComputationsStatus = new EnumMap<>(ComputationType.class);
+        boolean isPartial = false;
+        for (Map.Entry<ComputationType, CompletableFuture<String>> statusFuture : statusFutures.entrySet()) {
+            try {
+                allComputationsStatus.put(statusFuture.getKey(), statusFuture.getValue().join());
+            } catch (CompletionException e) {
+                LOGGER.warn("Could not get {} status of node {} on root network {}", statusFuture.getKey(), nodeUuid, rootNetworkUuid, e.getCause());
+                allComputationsStatus.put(statusFuture.getKey(), null);
+                isPartial = true;
+            }
+        }
+        if (isPartial) {
+            throw new PartialResultException(allComputationsStatus, "Didn't get the status of some computations");
+        }
+        return allComputationsStatus;
+    }
+
+    private Function<UUID, String> getComputationStatusGetter(ComputationType computationType) {
+        return switch (computationType) {
+            case LOAD_FLOW -> resultUuid -> getStatusName(loadFlowRestService.getLoadFlowStatus(resultUuid));
+            case SECURITY_ANALYSIS -> resultUuid -> getStatusName(securityAnalysisRestService.getSecurityAnalysisStatus(resultUuid));
+            case SENSITIVITY_ANALYSIS -> sensitivityAnalysisRestService::getSensitivityAnalysisStatus;
+            case SHORT_CIRCUIT, SHORT_CIRCUIT_ONE_BUS -> shortCircuitRestService::getShortCircuitAnalysisStatus;
+            case VOLTAGE_INITIALIZATION -> voltageInitRestService::getVoltageInitStatus;
+            case DYNAMIC_SIMULATION -> resultUuid -> getStatusName(dynamicSimulationRestService.getStatus(resultUuid));
+            case DYNAMIC_SECURITY_ANALYSIS -> resultUuid -> getStatusName(dynamicSecurityAnalysisRestService.getStatus(resultUuid));
+            case DYNAMIC_MARGIN_CALCULATION -> resultUuid -> getStatusName(dynamicMarginCalculationRestService.getStatus(resultUuid));
+            case STATE_ESTIMATION -> stateEstimationRestService::getStateEstimationStatus;
+            case PCC_MIN -> pccMinRestService::getPccMinStatus;
+            case ASYMMETRICAL_LOAD -> asymmetricalLoadRestService::getAsymmetricalLoadStatus;
+        };
+    }
+
+    private static String getStatusName(Enum<?> status) {
+        return status == null ? null : status.name();
+    }
+
     /*******************************
      * STOP COMPUTATION EXECUTIONS *
      *******************************/
@@ -19,26 +19,55 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.gridsuite.study.server.StudyConstants.*;
 
 @Service
 public class SingleLineDiagramService {
 
+    private enum DiagramType {
+        VOLTAGE_LEVEL_SVG,
+        VOLTAGE_LEVEL_SVG_AND_METADATA,
+        SUBSTATION_SVG,
+        SUBSTATION_SVG_AND_METADATA,
+        NETWORK_AREA_DIAGRAM
+    }
+
+    private record DiagramKey(DiagramType type, String elementId, String requestInfosHash) { }
+
     private final RestTemplate restTemplate;
 
     private String singleLineDiagramServerBaseUri;
 
+    private final VariantDataCacheService variantDataCacheService;
+
+    // the same diagrams of a built variant are opened again and again : they are kept until the variant changes
+    private final VariantDataCacheService.VariantDataCache<DiagramKey, Object> diagramCache;
+
     public SingleLineDiagramService(@Value("${powsybl.services.single-line-diagram-server.base-uri:http://single-line-diagram-server/}") String singleLineDiagramServerBaseUri,
-                                    RestTemplate restTemplate) {
+                                    RestTemplate restTemplate,
+                                    VariantDataCacheService variantDataCacheService,
+                                    @Value("${study.diagrams.cache-ttl:1h}") Duration diagramCacheTtl,
+                                    @Value("${study.diagrams.cache-max-size:64MB}") DataSize diagramCacheMaxSize) {
         this.singleLineDiagramServerBaseUri = singleLineDiagramServerBaseUri;
         this.restTemplate = restTemplate;
+        this.variantDataCacheService = variantDataCacheService;
+        this.diagramCache = variantDataCacheService.createCache("diagrams", diagramCacheTtl, diagramCacheMaxSize,
+            diagram -> diagram instanceof byte[] bytes ? bytes.length : ((String) diagram).length());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getDiagram(UUID networkUuid, String variantId, DiagramType type, String elementId, Map<String, Object> requestInfos, Supplier<T> diagramGenerator) {
+        return (T) diagramCache.get(networkUuid, variantId, new DiagramKey(type, elementId, variantDataCacheService.hashRequest(requestInfos)), diagramGenerator::get);
     }
 
     public List<String> getAvailableSvgComponentLibraries() {
@@ -51,6 +80,10 @@ public class SingleLineDiagramService {
     }
 
     public byte[] generateVoltageLevelSvg(UUID networkUuid, String variantId, String voltageLevelId, Map<String, Object> sldRequestInfos) {
+        return getDiagram(networkUuid, variantId, DiagramType.VOLTAGE_LEVEL_SVG, voltageLevelId, sldRequestInfos, () -> requestVoltageLevelSvg(networkUuid, variantId, voltageLevelId, sldRequestInfos));
+    }
+
+    private byte[] requestVoltageLevelSvg(UUID networkUuid, String variantId, String voltageLevelId, Map<String, Object> sldRequestInfos) {
         var uriComponentsBuilder = UriComponentsBuilder
             .fromPath(DELIMITER + SINGLE_LINE_DIAGRAM_API_VERSION + "/svg/{networkUuid}/{voltageLevelId}");
         if (!StringUtils.isBlank(variantId)) {
@@ -70,6 +103,10 @@ public class SingleLineDiagramService {
     }
 
     public String generateVoltageLevelSvgAndMetadata(UUID networkUuid, String variantId, String voltageLevelId, Map<String, Object> sldRequestInfos) {
+        return getDiagram(networkUuid, variantId, DiagramType.VOLTAGE_LEVEL_SVG_AND_METADATA, voltageLevelId, sldRequestInfos, () -> requestVoltageLevelSvgAndMetadata(networkUuid, variantId, voltageLevelId, sldRequestInfos));
+    }
+
+    private String requestVoltageLevelSvgAndMetadata(UUID networkUuid, String variantId, String voltageLevelId, Map<String, Object> sldRequestInfos) {
         var uriComponentsBuilder = UriComponentsBuilder
             .fromPath(DELIMITER + SINGLE_LINE_DIAGRAM_API_VERSION
                 + "/svg-and-metadata/{networkUuid}/{voltageLevelId}");
@@ -86,6 +123,10 @@ public class SingleLineDiagramService {
     }
 
     public byte[] generateSubstationSvg(UUID networkUuid, String variantId, String substationId, Map<String, Object> sldRequestInfos) {
+        return getDiagram(networkUuid, variantId, DiagramType.SUBSTATION_SVG, substationId, sldRequestInfos, () -> requestSubstationSvg(networkUuid, variantId, substationId, sldRequestInfos));
+    }
+
+    private byte[] requestSubstationSvg(UUID networkUuid, String variantId, String substationId, Map<String, Object> sldRequestInfos) {
         var uriComponentsBuilder = UriComponentsBuilder
             .fromPath(DELIMITER + SINGLE_LINE_DIAGRAM_API_VERSION + "/substation-svg/{networkUuid}/{substationId}");
         if (!StringUtils.isBlank(variantId)) {
@@ -101,6 +142,10 @@ public class SingleLineDiagramService {
     }
 
     public String generateSubstationSvgAndMetadata(UUID networkUuid, String variantId, String substationId, Map<String, Object> sldRequestInfos) {
+        return getDiagram(networkUuid, variantId, DiagramType.SUBSTATION_SVG_AND_METADATA, substationId, sldRequestInfos, () -> requestSubstationSvgAndMetadata(networkUuid, variantId, substationId, sldRequestInfos));
+    }
+
+    private String requestSubstationSvgAndMetadata(UUID networkUuid, String variantId, String substationId, Map<String, Object> sldRequestInfos) {
         var uriComponentsBuilder = UriComponentsBuilder
             .fromPath(DELIMITER + SINGLE_LINE_DIAGRAM_API_VERSION + "/substation-svg-and-metadata/{networkUuid}/{substationId}");
         if (!StringUtils.isBlank(variantId)) {
@@ -115,6 +160,10 @@ public class SingleLineDiagramService {
     }
 
     public String generateNetworkAreaDiagram(UUID networkUuid, String variantId, Map<String, Object> nadRequestInfos) {
+        return getDiagram(networkUuid, variantId, DiagramType.NETWORK_AREA_DIAGRAM, null, nadRequestInfos, () -> requestNetworkAreaDiagram(networkUuid, variantId, nadRequestInfos));
+    }
+
+    private String requestNetworkAreaDiagram(UUID networkUuid, String variantId, Map<String, Object> nadRequestInfos) {
         var uriComponentsBuilder = UriComponentsBuilder.fromPath(DELIMITER + SINGLE_LINE_DIAGRAM_API_VERSION +
             "/network-area-diagram/{networkUuid}");
         if (!StringUtils.isBlank(variantId)) {
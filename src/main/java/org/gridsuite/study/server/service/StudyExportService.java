@@ -6,6 +6,7 @@
  */
 package org.gridsuite.study.server.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.gridsuite.study.server.dto.networkexport.PermissionType;
 import org.gridsuite.study.server.dto.studyexport.RootNetworkExportInfos;
@@ -13,9 +14,8 @@ import org.gridsuite.study.server.dto.studyexport.TreeExportInfos;
 import org.gridsuite.study.server.error.StudyException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
@@ -25,12 +25,9 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Stream;
-import java.util.zip.GZIPInputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -49,12 +46,18 @@ public class StudyExportService {
     private final CaseService caseService;
     private final DirectoryService directoryService;
     private final ObjectMapper objectMapper;
+    private final StudyServerExecutionService studyServerExecutionService;
+    private final int maxConcurrentCaseDownloads;
 
-    public StudyExportService(StudyService studyService, CaseService caseService, DirectoryService directoryService, ObjectMapper objectMapper) {
+    public StudyExportService(StudyService studyService, CaseService caseService, DirectoryService directoryService, ObjectMapper objectMapper,
+                              StudyServerExecutionService studyServerExecutionService,
+                              @Value("${study.export.max-concurrent-case-downloads:4}") int maxConcurrentCaseDownloads) {
         this.studyService = studyService;
         this.caseService = caseService;
         this.directoryService = directoryService;
         this.objectMapper = objectMapper;
+        this.studyServerExecutionService = studyServerExecutionService;
+        this.maxConcurrentCaseDownloads = maxConcurrentCaseDownloads;
     }
 
     /**
@@ -65,21 +68,15 @@ public class StudyExportService {
      */
     public InputStreamResource exportStudy(UUID studyUuid, String userId) {
         directoryService.checkPermission(List.of(studyUuid), null, userId, PermissionType.READ, false);
-        Path tempDir = createTempWorkDir(studyUuid);
-        Path zipFile = null;
+        Path zipFile = createTempExportFile(studyUuid);
         try {
-            zipFile = compressStudyToZip(studyUuid, tempDir);
+            compressStudyToZip(studyUuid, zipFile);
             InputStream stream = Files.newInputStream(zipFile, StandardOpenOption.DELETE_ON_CLOSE);
             zipFile = null;
             return new InputStreamResource(stream);
         } catch (IOException _) {
             throw new StudyException(EXPORT_STUDY_ERROR, "Failed to export study: " + studyUuid);
         } finally {
-            try {
-                deleteDirectory(tempDir);
-            } catch (IOException e) {
-                LOGGER.warn("Failed to clean up temp export directory {} for study {}", tempDir, studyUuid, e);
-            }
             if (zipFile != null) {
                 try {
                     Files.deleteIfExists(zipFile);
@@ -91,117 +88,120 @@ public class StudyExportService {
     }
 
     /**
-     * Build tree.json and the case files under tempDir, then compress them into a temp zip file
+     * Write tree.json and the case files directly into the zip file
      */
-    private Path compressStudyToZip(UUID studyUuid, Path tempDir) throws IOException {
+    private void compressStudyToZip(UUID studyUuid, Path zipFile) throws IOException {
         TreeExportInfos treeExportInfos = studyService.buildTreeExport(studyUuid);
-        Path studyJsonPath = tempDir.resolve(TREE_JSON_FILE_NAME);
-        objectMapper.writerWithDefaultPrettyPrinter().writeValue(studyJsonPath.toFile(), treeExportInfos);
-        Path casesDir = Files.createDirectories(tempDir.resolve(CASES_FOLDER));
-        for (RootNetworkExportInfos rootNetworkInfos : treeExportInfos.rootNetworks()) {
-            UUID caseUuid = rootNetworkInfos.caseInfos().getCaseUuid();
-            String caseName = rootNetworkInfos.caseInfos().getCaseName();
-            exportCaseFile(caseUuid, caseName, casesDir);
-        }
-        Path zipFile = createTempExportFile(studyUuid);
         try (OutputStream fos = Files.newOutputStream(zipFile);
-             ZipOutputStream zipOut = new ZipOutputStream(fos)) {
-            writeZipEntries(tempDir, zipOut);
+             ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(fos))) {
+            zipOut.putNextEntry(new ZipEntry(TREE_JSON_FILE_NAME));
+            objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(zipOut, treeExportInfos);
+            zipOut.closeEntry();
+            writeCaseEntries(studyUuid, treeExportInfos.rootNetworks(), zipOut);
         }
-        return zipFile;
     }
 
-    private Path createTempWorkDir(UUID studyUuid) {
-        return createTempPath(studyUuid, "temp directory", "rwx------",
-                attr -> Files.createTempDirectory("study-export-" + studyUuid, attr));
-    }
-
-    private Path createTempExportFile(UUID studyUuid) {
-        return createTempPath(studyUuid, "temp file", "rw-------",
-                attr -> Files.createTempFile("study-export-" + studyUuid, ".zip", attr));
-    }
-
-    private Path createTempPath(UUID studyUuid, String errorContext, String permissions,
-                                IOFunction<FileAttribute<Set<PosixFilePermission>>, Path> creator) {
-        FileAttribute<Set<PosixFilePermission>> attr =
-                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions));
+    /**
+     * The cases are downloaded concurrently, but the zip entries can only be written one after the other :
+     * each case is spooled to its own temp file, appended to the zip as soon as the previous cases are, then deleted.
+     * At most maxConcurrentCaseDownloads cases are downloading or waiting to be appended.
+     */
+    private void writeCaseEntries(UUID studyUuid, List<RootNetworkExportInfos> rootNetworks, ZipOutputStream zipOut) throws IOException {
+        // a case used by several root networks is exported once
+        Map<String, UUID> caseUuidsByEntryName = new LinkedHashMap<>();
+        rootNetworks.forEach(rootNetworkInfos -> caseUuidsByEntryName.putIfAbsent(
+            CASES_FOLDER + "/" + rootNetworkInfos.caseInfos().getCaseUuid() + "/" + rootNetworkInfos.caseInfos().getCaseName(),
+            rootNetworkInfos.caseInfos().getCaseUuid()));
+        List<UUID> caseUuids = new ArrayList<>(caseUuidsByEntryName.values());
+
+        Deque<CompletableFuture<Path>> downloads = new ArrayDeque<>();
+        int nextDownload = 0;
         try {
-            return creator.apply(attr);
-        } catch (IOException _) {
-            throw new StudyException(EXPORT_STUDY_ERROR, "Failed to create " + errorContext + " for study: " + studyUuid);
+            for (String entryName : caseUuidsByEntryName.keySet()) {
+                while (nextDownload < caseUuids.size() && downloads.size() < maxConcurrentCaseDownloads) {
+                    UUID caseUuid = caseUuids.get(nextDownload++);
+                    downloads.add(studyServerExecutionService.supplyAsync(() -> downloadCase(studyUuid, caseUuid)));
+                }
+                Path caseFile = join(downloads.poll());
+                if (caseFile != null) {
+                    try {
+                        zipOut.putNextEntry(new ZipEntry(entryName));
+                        Files.copy(caseFile, zipOut);
+                        zipOut.closeEntry();
+                    } finally {
+                        deleteCaseFile(caseFile, studyUuid);
+                    }
+                }
+            }
+        } finally {
+            // downloads still running after a failure
+            downloads.forEach(download -> download.thenAccept(caseFile -> deleteCaseFile(caseFile, studyUuid)));
         }
     }
 
-    @FunctionalInterface
-    private interface IOFunction<T, R> {
-        R apply(T t) throws IOException;
-    }
-
     /**
-     * Export a case file from the case-server
+     * Download a case from the case-server to a temp file
+     * @return the temp file, or null if the case has no content
      */
-    private void exportCaseFile(UUID caseUuid, String caseName, Path casesDir) throws IOException {
-        ResponseEntity<byte[]> response = caseService.getCaseContent(caseUuid);
-        byte[] body = response.getBody();
-        if (body != null) {
-            Path caseDir = casesDir.resolve(caseUuid.toString());
-            Files.createDirectories(caseDir);
-            String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
-            // plain file cases are gzip by the case-server and need to be decompressed
-            if ("gzip".equalsIgnoreCase(contentEncoding)) {
-                body = decompressGzip(body);
+    private Path downloadCase(UUID studyUuid, UUID caseUuid) {
+        Path caseFile = createTempPath(studyUuid, "temp case file", "rw-------",
+            attr -> Files.createTempFile("study-export-" + studyUuid + "-case-" + caseUuid, null, attr));
+        boolean downloaded = false;
+        try {
+            downloaded = caseService.downloadCaseContent(caseUuid, caseFile);
+            return downloaded ? caseFile : null;
+        } finally {
+            if (!downloaded) {
+                deleteCaseFile(caseFile, studyUuid);
             }
-            Path caseFile = caseDir.resolve(caseName);
-            Files.write(caseFile, body);
         }
     }
 
-    private static byte[] decompressGzip(byte[] data) throws IOException {
-        try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(data));
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            gzipIn.transferTo(out);
-            return out.toByteArray();
+    private static Path join(CompletableFuture<Path> download) throws IOException {
+        try {
+            return download.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
         }
     }
 
-    private void writeZipEntries(Path directory, ZipOutputStream zipOut) throws IOException {
-        walkAndConsume(directory, null, file -> {
-            if (Files.isRegularFile(file)) {
-                Path relativePath = directory.relativize(file);
-                String entryName = relativePath.toString().replace('\\', '/');
-                ZipEntry entry = new ZipEntry(entryName);
-                entry.setSize(Files.size(file));
-                zipOut.putNextEntry(entry);
-                try (InputStream in = Files.newInputStream(file)) {
-                    in.transferTo(zipOut);
-                }
-                zipOut.closeEntry();
-            }
-        });
+    private static void deleteCaseFile(Path caseFile, UUID studyUuid) {
+        if (caseFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(caseFile);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete temp case file {} for study {}", caseFile, studyUuid, e);
+        }
     }
 
-    private void deleteDirectory(Path directory) throws IOException {
-        if (Files.exists(directory)) {
-            walkAndConsume(directory, Comparator.reverseOrder(), Files::delete);
-        }
+    private Path createTempExportFile(UUID studyUuid) {
+        return createTempPath(studyUuid, "temp file", "rw-------",
+                attr -> Files.createTempFile("study-export-" + studyUuid, ".zip", attr));
     }
 
-    private void walkAndConsume(Path directory, Comparator<Path> order, IOConsumer<Path> action) throws IOException {
-        try (Stream<Path> paths = Files.walk(directory)) {
-            (order == null ? paths : paths.sorted(order)).forEach(path -> {
-                try {
-                    action.accept(path);
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            });
-        } catch (UncheckedIOException e) {
-            throw e.getCause();
+    private static Path createTempPath(UUID studyUuid, String errorContext, String permissions,
+                                       IOFunction<FileAttribute<Set<PosixFilePermission>>, Path> creator) {
+        FileAttribute<Set<PosixFilePermission>> attr =
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions));
+        try {
+            return creator.apply(attr);
+        } catch (IOException _) {
+            throw new StudyException(EXPORT_STUDY_ERROR, "Failed to create " + errorContext + " for study: " + studyUuid);
         }
     }
 
     @FunctionalInterface
-    private interface IOConsumer<T> {
-        void accept(T t) throws IOException;
+    private interface IOFunction<T, R> {
+        R apply(T t) throws IOException;
     }
 }
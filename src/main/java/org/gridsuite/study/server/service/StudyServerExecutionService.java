@@ -9,28 +9,94 @@ package org.gridsuite.study.server.service;
 
 import io.micrometer.context.ContextExecutorService;
 import io.micrometer.context.ContextSnapshotFactory;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
+import org.gridsuite.study.server.error.StudyBusinessErrorCode;
+import org.gridsuite.study.server.error.StudyException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
+import static org.gridsuite.study.server.error.StudyBusinessErrorCode.EXECUTOR_SATURATED;
+
+/**
+ * Run the study server background tasks (remote deletions, invalidations, duplications...) with a bounded concurrency.
+ * Two backends are available:
+ * <ul>
+ *     <li>PLATFORM: a fixed pool of platform threads with a bounded queue</li>
+ *     <li>VIRTUAL: one virtual thread per task, at most max-concurrency tasks running at the same time and at most
+ *     queue-capacity tasks waiting to run</li>
+ * </ul>
+ * A task submitted when max-concurrency tasks are running and queue-capacity tasks are waiting is rejected with
+ * {@link StudyBusinessErrorCode#EXECUTOR_SATURATED} by {@link #supplyAsync}, so that the request or message submitting
+ * it fails instead of piling up work. A fire and forget task submitted by {@link #runAsync} is dropped instead, its
+ * caller having possibly started side effects that can't be rolled back.
+ * A task submitted by a running task is run immediately by the same thread, so that tasks waiting for their
+ * own sub tasks can't hold all the threads or permits.
+ */
 @Service
 public class StudyServerExecutionService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyServerExecutionService.class);
 
-    private ExecutorService executorService;
+    private static final String METRICS_PREFIX = "study.executor.";
+
+    private static final ThreadLocal<Boolean> IN_TASK = ThreadLocal.withInitial(() -> false);
+
+    public enum ExecutorType {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private final ExecutorService executorService;
+
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
 
-    @PostConstruct
-    private void postConstruct() {
+    // VIRTUAL backend only : the tasks submitted and not completed yet, and the tasks running
+    private final Semaphore submittedPermits;
+    private final Semaphore runningPermits;
+
+    public StudyServerExecutionService(MeterRegistry meterRegistry,
+                                       @Value("${study.executor.type:PLATFORM}") ExecutorType executorType,
+                                       @Value("${study.executor.max-concurrency:64}") int maxConcurrency,
+                                       @Value("${study.executor.queue-capacity:10000}") int queueCapacity) {
+        rejectedCounter = meterRegistry.counter(METRICS_PREFIX + "rejected");
+        droppedCounter = meterRegistry.counter(METRICS_PREFIX + "dropped");
+        ExecutorService rawExecutorService;
+        if (executorType == ExecutorType.VIRTUAL) {
+            submittedPermits = new Semaphore(maxConcurrency + queueCapacity);
+            runningPermits = new Semaphore(maxConcurrency);
+            rawExecutorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("study-executor-", 0).factory());
+            Gauge.builder(METRICS_PREFIX + "active", runningPermits, p -> (double) maxConcurrency - p.availablePermits()).register(meterRegistry);
+            Gauge.builder(METRICS_PREFIX + "queued", runningPermits, Semaphore::getQueueLength).register(meterRegistry);
+        } else {
+            submittedPermits = null;
+            runningPermits = null;
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "study-executor-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            rawExecutorService = threadPoolExecutor;
+            Gauge.builder(METRICS_PREFIX + "active", threadPoolExecutor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+            Gauge.builder(METRICS_PREFIX + "queued", threadPoolExecutor, e -> e.getQueue().size()).register(meterRegistry);
+        }
         ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
-        executorService = ContextExecutorService.wrap(Executors.newCachedThreadPool(),
-            snapshotFactory::captureAll);
+        executorService = ContextExecutorService.wrap(rawExecutorService, snapshotFactory::captureAll);
     }
 
     @PreDestroy
@@ -38,13 +104,154 @@ public class StudyServerExecutionService {
         executorService.shutdown();
     }
 
+    /**
+     * Run the task asynchronously, its failure being logged.
+     * Called from a running task, the task is run immediately by the calling thread.
+     * When too many tasks are waiting to run the task is dropped, and the future returned is failed with
+     * {@link StudyBusinessErrorCode#EXECUTOR_SATURATED} : no exception is thrown to the caller.
+     */
     public CompletableFuture<Void> runAsync(Runnable runnable) {
-        return CompletableFuture
-            .runAsync(runnable, executorService)
-            .whenComplete((r, t) -> {
-                if (LOGGER.isErrorEnabled() && t != null) {
-                    LOGGER.error(t.toString(), t);
-                }
+        CompletableFuture<Void> future;
+        try {
+            future = supplyAsync(() -> {
+                runnable.run();
+                return (Void) null;
             });
+        } catch (StudyException e) {
+            droppedCounter.increment();
+            LOGGER.warn("Study server executor saturated : task dropped");
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((r, t) -> {
+            if (LOGGER.isErrorEnabled() && t != null) {
+                LOGGER.error(t.toString(), t);
+            }
+        });
+    }
+
+    /**
+     * Run the task asynchronously.
+     * Called from a running task, the task is run immediately by the calling thread : several tasks submitted by a
+     * running task are run one after the other, {@link #mapConcurrently} is to be used to process them concurrently.
+     *
+     * @throws StudyException {@link StudyBusinessErrorCode#EXECUTOR_SATURATED} when too many tasks are waiting to run
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        if (Boolean.TRUE.equals(IN_TASK.get())) {
+            // sub task : already counted in the concurrency of its parent task
+            try {
+                return CompletableFuture.completedFuture(supplier.get());
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        }
+        try {
+            return submit(supplier);
+        } catch (RejectedExecutionException e) {
+            if (executorService.isShutdown()) {
+                throw e;
+            }
+            throw new StudyException(EXECUTOR_SATURATED, "Too many study server tasks waiting to run");
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        if (submittedPermits != null && !submittedPermits.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Study server executor is saturated");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> runTask(supplier), executorService);
+        } catch (RejectedExecutionException e) {
+            if (submittedPermits != null) {
+                submittedPermits.release();
+            } else if (!executorService.isShutdown()) {
+                rejectedCounter.increment();
+            }
+            throw e;
+        }
+    }
+
+    private <T> T runTask(Supplier<T> supplier) {
+        IN_TASK.set(true);
+        try {
+            if (runningPermits == null) {
+                return supplier.get();
+            }
+            try {
+                runningPermits.acquire();
+            } catch (InterruptedException e) {
+                // the task is failed rather than dropped, so that its future completes
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return supplier.get();
+            } finally {
+                runningPermits.release();
+            }
+        } finally {
+            if (submittedPermits != null) {
+                submittedPermits.release();
+            }
+            IN_TASK.remove();
+        }
+    }
+
+    /**
+     * Apply the function to all the items, with at most maxConcurrency items processed at the same time, and return the
+     * results in the order of the items.
+     * The calling thread processes items too and only waits for the items already started, so this can be used by a
+     * running task : the items are then processed by the task and by the threads available, if any.
+     * When an item fails the items not started are skipped, and the first failure is thrown.
+     */
+    public <T, R> List<R> mapConcurrently(List<T> items, Function<T, R> function, int maxConcurrency) {
+        List<CompletableFuture<R>> results = items.stream().map(item -> new CompletableFuture<R>()).toList();
+        Queue<Integer> pendingItems = new ConcurrentLinkedQueue<>(IntStream.range(0, items.size()).boxed().toList());
+        Supplier<Void> worker = () -> {
+            Integer index;
+            while ((index = pendingItems.poll()) != null) {
+                try {
+                    results.get(index).complete(function.apply(items.get(index)));
+                } catch (Throwable t) {
+                    results.get(index).completeExceptionally(t);
+                    Integer skippedIndex;
+                    while ((skippedIndex = pendingItems.poll()) != null) {
+                        results.get(skippedIndex).cancel(false);
+                    }
+                }
+            }
+            return null;
+        };
+        // the helpers starting once all the items are taken have nothing to do
+        for (int i = 1; i < Math.min(maxConcurrency, items.size()); i++) {
+            try {
+                submit(worker);
+            } catch (RejectedExecutionException e) {
+                // no thread available : the calling thread processes the remaining items
+                break;
+            }
+        }
+        worker.get();
+
+        List<R> values = new ArrayList<>(items.size());
+        Throwable failure = null;
+        for (CompletableFuture<R> result : results) {
+            try {
+                values.add(result.join());
+            } catch (CancellationException e) {
+                // skipped after a failure
+            } catch (CompletionException e) {
+                failure = failure != null ? failure : e.getCause();
+            }
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure instanceof Error error) {
+            throw error;
+        } else if (failure != null) {
+            throw new CompletionException(failure);
+        }
+        return values;
     }
 }
@@ -34,6 +34,7 @@ import org.gridsuite.study.server.dto.studyexport.TreeExportInfos;
 import org.gridsuite.study.server.elasticsearch.EquipmentInfosService;
 import org.gridsuite.study.server.elasticsearch.StudyInfosService;
 import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.exception.PartialResultException;
 import org.gridsuite.study.server.networkmodificationtree.dto.*;
 import org.gridsuite.study.server.networkmodificationtree.entities.NetworkModificationNodeInfoEntity;
 import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
@@ -50,7 +51,6 @@ import org.gridsuite.study.server.service.loadflow.LoadFlowRestService;
 import org.gridsuite.study.server.service.loadflow.LoadFlowService;
 import org.gridsuite.study.server.service.securityanalysis.SecurityAnalysisRestService;
 import org.gridsuite.study.server.service.shortcircuit.ShortCircuitRestService;
-import org.gridsuite.study.server.service.shortcircuit.ShortcircuitAnalysisType;
 import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
 import org.gridsuite.study.server.utils.ElementType;
 import org.slf4j.Logger;
@@ -68,6 +68,7 @@ import org.springframework.web.util.UriUtils;
 
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -160,6 +161,15 @@ public class StudyService {
     @Value("${study.enable-operation-quotas}")
     private boolean shouldCheckOperationQuotas;
 
+    @Value("${study.computations-status-timeout:5s}")
+    private Duration computationsStatusTimeout;
+
+    @Value("${study.deletion.max-concurrent-modification-group-deletions:8}")
+    private int maxConcurrentModificationGroupDeletions;
+
+    @Value("${study.deletion.references-removal-batch-size:500}")
+    private int referencesRemovalBatchSize;
+
     @Autowired
     public StudyService(
         StudyRepository studyRepository,
@@ -583,23 +593,61 @@ public class StudyService {
             rootNetworkService.invalidateRootNetworkRemoteInfos(deleteStudyInfos.getRootNetworkInfosList(), false, true);
 
             // delete all distant resources linked to nodes
-            studyServerExecutionService.runAsync(() -> deleteStudyInfos.getModificationGroupUuidsNodeUuids().stream()
+            studyServerExecutionService.runAsync(() -> deleteModificationGroups(deleteStudyInfos.getModificationGroupUuidsNodeUuids().stream()
                     .filter(Objects::nonNull)
-                    .forEach(groupUuidNodeUuid -> deleteModificationsFromGroup(groupUuidNodeUuid, userId)));
+                    .toList(), userId));
 
             LOGGER.trace("Delete study '{}' : {} seconds", studyUuid, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
 
         }
     }
 
-    private void deleteModificationsFromGroup(Pair<UUID, UUID> groupUuidNodeUuid, String userId) {
+    private void deleteModificationGroups(List<Pair<UUID, UUID>> groupUuidsNodeUuids, String userId) {
         // fetch the references data in order to remove those references from directory-server
-        Map<UUID, UUID> referenceToBeDeleted = networkModificationService.getReferencesFromGroup(groupUuidNodeUuid.getFirst());
-        referenceToBeDeleted.forEach((modUuid, refUuid) ->
-            directoryService.removeReference(refUuid != null ? refUuid : groupUuidNodeUuid.getSecond(), userId, modUuid)
-        );
+        // a group whose references can not be fetched is kept, the other groups are still deleted
+        List<Map<UUID, UUID>> groupsReferences = studyServerExecutionService.mapConcurrently(groupUuidsNodeUuids, groupUuidNodeUuid -> {
+            try {
+                return networkModificationService.getReferencesFromGroup(groupUuidNodeUuid.getFirst());
+            } catch (Exception e) {
+                LOGGER.error("Could not get the references of the modification group '{}'", groupUuidNodeUuid.getFirst(), e);
+                return null;
+            }
+        }, maxConcurrentModificationGroupDeletions);
+        Set<UUID> groupUuidsToDelete = new LinkedHashSet<>();
+        List<ElementReferenceInfos> referencesToBeDeleted = new ArrayList<>();
+        // the group of each reference to be deleted
+        List<UUID> referencesGroupUuids = new ArrayList<>();
+        for (int i = 0; i < groupUuidsNodeUuids.size(); i++) {
+            if (groupsReferences.get(i) != null) {
+                UUID groupUuid = groupUuidsNodeUuids.get(i).getFirst();
+                UUID nodeUuid = groupUuidsNodeUuids.get(i).getSecond();
+                groupUuidsToDelete.add(groupUuid);
+                groupsReferences.get(i).forEach((modUuid, refUuid) -> {
+                    referencesToBeDeleted.add(new ElementReferenceInfos(modUuid, refUuid != null ? refUuid : nodeUuid));
+                    referencesGroupUuids.add(groupUuid);
+                });
+            }
+        }
+        // the references of all the groups are removed by batches, rather than one request per modification
+        for (int i = 0; i < referencesToBeDeleted.size(); i += referencesRemovalBatchSize) {
+            int end = Math.min(i + referencesRemovalBatchSize, referencesToBeDeleted.size());
+            try {
+                directoryService.removeReferences(referencesToBeDeleted.subList(i, end), userId);
+            } catch (Exception e) {
+                // the groups whose references are still in the directory are kept
+                LOGGER.error("Could not remove {} references of deleted modification groups", end - i, e);
+                referencesGroupUuids.subList(i, end).forEach(groupUuidsToDelete::remove);
+            }
+        }
 
-        networkModificationService.deleteModifications(groupUuidNodeUuid.getFirst());
+        studyServerExecutionService.mapConcurrently(List.copyOf(groupUuidsToDelete), groupUuid -> {
+            try {
+                networkModificationService.deleteModifications(groupUuid);
+            } catch (Exception e) {
+                LOGGER.error("Could not delete the modification group '{}'", groupUuid, e);
+            }
+            return null;
+        }, maxConcurrentModificationGroupDeletions);
     }
 
     @Transactional
@@ -1019,8 +1067,7 @@ public class StudyService {
     }
 
     private void assertNoBuildNoComputationInTree(UUID rootNetworkUuid, List<UUID> nodesUuids) {
-        // TODO modify computations endpoints to test multiple uuids
-        nodesUuids.forEach(uuid -> rootNetworkNodeInfoService.assertComputationNotRunning(uuid, rootNetworkUuid));
+        rootNetworkNodeInfoService.assertComputationNotRunning(rootNetworkUuid, nodesUuids);
         rootNetworkNodeInfoService.assertNoBuildingNode(rootNetworkUuid, nodesUuids);
     }
 
@@ -1696,11 +1743,9 @@ public class StudyService {
         List<Pair<UUID, UUID>> modificationGroupUuidsNodeUuids = IntStream.range(0, modificationGroupUuids.size())
                 .mapToObj(index -> Pair.of(modificationGroupUuids.get(index), removedNodeUuids.get(index)))
                 .toList();
-        futures.add(studyServerExecutionService.runAsync(() -> modificationGroupUuidsNodeUuids.forEach(
-                groupUuidNodeUuid -> deleteModificationsFromGroup(groupUuidNodeUuid, userId))
-        ));
+        futures.add(studyServerExecutionService.runAsync(() -> deleteModificationGroups(modificationGroupUuidsNodeUuids, userId)));
         futures.add(studyServerExecutionService.runAsync(() -> deleteNodeInfos.getRemovedNodeUuids().forEach(dynamicSimulationEventService::deleteEventsByNodeId)));
-        futures.addAll(rootNetworkNodeInfoService.getRemoteDeletions(deleteNodeInfos));
+        rootNetworkNodeInfoService.addRemoteDeletions(deleteNodeInfos);
         // Do not wait completion and do not throw exception
         CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
     }
@@ -2685,22 +2730,9 @@ public class StudyService {
             .toList();
     }
 
-    public Map<ComputationType, String> getAllComputationsStatus(@NonNull UUID studyUuid, @NonNull UUID rootNetworkUuid, @NonNull UUID nodeUuid) {
+    public Map<ComputationType, String> getAllComputationsStatus(@NonNull UUID studyUuid, @NonNull UUID rootNetworkUuid, @NonNull UUID nodeUuid) throws PartialResultException {
         assertIsStudyExist(studyUuid);
-        Map<ComputationType, String> allComputationStatus = new EnumMap<>(ComputationType.class);
-        allComputationStatus.put(LOAD_FLOW, rootNetworkNodeInfoService.getLoadFlowStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(SECURITY_ANALYSIS, rootNetworkNodeInfoService.getSecurityAnalysisStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(PCC_MIN, rootNetworkNodeInfoService.getPccMinStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(ASYMMETRICAL_LOAD, rootNetworkNodeInfoService.getAsymmetricalLoadStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(DYNAMIC_MARGIN_CALCULATION, rootNetworkNodeInfoService.getDynamicMarginCalculationStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(DYNAMIC_SECURITY_ANALYSIS, rootNetworkNodeInfoService.getDynamicSecurityAnalysisStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(DYNAMIC_SIMULATION, rootNetworkNodeInfoService.getDynamicSimulationStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(STATE_ESTIMATION, rootNetworkNodeInfoService.getStateEstimationStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(SENSITIVITY_ANALYSIS, rootNetworkNodeInfoService.getSensitivityAnalysisStatus(nodeUuid, rootNetworkUuid));
-        allComputationStatus.put(SHORT_CIRCUIT_ONE_BUS, rootNetworkNodeInfoService.getShortCircuitAnalysisStatus(nodeUuid, rootNetworkUuid, ShortcircuitAnalysisType.ONE_BUS));
-        allComputationStatus.put(SHORT_CIRCUIT, rootNetworkNodeInfoService.getShortCircuitAnalysisStatus(nodeUuid, rootNetworkUuid, ShortcircuitAnalysisType.ALL_BUSES));
-        allComputationStatus.put(VOLTAGE_INITIALIZATION, rootNetworkNodeInfoService.getVoltageInitStatus(nodeUuid, rootNetworkUuid));
-        return allComputationStatus;
+        return rootNetworkNodeInfoService.getAllComputationsStatus(nodeUuid, rootNetworkUuid, computationsStatusTimeout);
     }
 
     public void invalidateStudyRootNetwork(UUID studyUuid, UUID rootNetworkUuid, String userId, boolean updateCase) {
@@ -2729,6 +2761,8 @@ public class StudyService {
         Integer currentComputation = userCurrentQuotas.get(quotaType);
 
         if (maxComputation != null && currentComputation != null && currentComputation >= maxComputation) {
+            // the max quotas may have been raised since they were cached : requested again on the next launch
+            userAdminService.evictUserMaxQuota(userId);
             throw new StudyException(MAX_OPERATION_TYPE_EXCEEDED, "Max number of " + computationType.name() + " already reached",
                                      Map.of("maxComputation", maxComputation, "currentComputation", currentComputation));
         }
@@ -9,10 +9,10 @@ package org.gridsuite.study.server.service;
 import org.gridsuite.study.server.dto.*;
 import org.gridsuite.study.server.dto.elasticsearch.EquipmentInfos;
 import org.gridsuite.study.server.dto.elasticsearch.TombstonedEquipmentInfos;
+import org.gridsuite.study.server.dto.supervision.ComputationResultsPurgeInfos;
 import org.gridsuite.study.server.dto.supervision.SupervisionStudyInfos;
 import org.gridsuite.study.server.elasticsearch.EquipmentInfosService;
 import org.gridsuite.study.server.elasticsearch.StudyInfosService;
-import org.gridsuite.study.server.networkmodificationtree.entities.RootNetworkNodeInfoEntity;
 import org.gridsuite.study.server.notification.NotificationService;
 import org.gridsuite.study.server.repository.StudyEntity;
 import org.gridsuite.study.server.repository.StudyRepository;
@@ -32,6 +32,8 @@ import org.gridsuite.study.server.service.stateestimation.StateEstimationRestSer
 import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.http.HttpStatus;
@@ -39,12 +41,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
 
 /**
  * @author Hugo Marcellin <hugo.marcelin at rte-france.com>
@@ -61,7 +66,7 @@ public class SupervisionService {
 
     private final NetworkModificationTreeService networkModificationTreeService;
 
-    private final ReportService reportService;
+    private final RemoteDeletionService remoteDeletionService;
 
     private final LoadFlowService loadFlowService;
 
@@ -101,10 +106,16 @@ public class SupervisionService {
 
     private static final String SUPERVISION_USER = "Supervision";
 
+    private final SupervisionService self;
+
+    private final int purgeChunkSize;
+
+    private final Map<ComputationType, ComputationResultsPurgeInfos> computationResultsPurges = new ConcurrentHashMap<>();
+
     public SupervisionService(StudyService studyService,
                               NetworkModificationTreeService networkModificationTreeService, LoadFlowService loadFlowService,
                               RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository,
-                              ReportService reportService,
+                              RemoteDeletionService remoteDeletionService,
                               LoadFlowRestService loadFlowRestService,
                               DynamicSimulationRestService dynamicSimulationRestService,
                               DynamicSecurityAnalysisRestService dynamicSecurityAnalysisRestService,
@@ -121,12 +132,14 @@ public class SupervisionService {
                               StudyInfosService studyInfosService,
                               RootNetworkService rootNetworkService,
                               StudyRepository studyRepository,
-                              NotificationService notificationService) {
+                              NotificationService notificationService,
+                              @Lazy SupervisionService supervisionService,
+                              @Value("${study.supervision.purge-chunk-size:1000}") int purgeChunkSize) {
         this.studyService = studyService;
         this.networkModificationTreeService = networkModificationTreeService;
         this.loadFlowService = loadFlowService;
         this.rootNetworkNodeInfoRepository = rootNetworkNodeInfoRepository;
-        this.reportService = reportService;
+        this.remoteDeletionService = remoteDeletionService;
         this.loadFlowRestService = loadFlowRestService;
         this.dynamicSimulationRestService = dynamicSimulationRestService;
         this.dynamicSecurityAnalysisRestService = dynamicSecurityAnalysisRestService;
@@ -144,9 +157,10 @@ public class SupervisionService {
         this.rootNetworkService = rootNetworkService;
         this.studyRepository = studyRepository;
         this.notificationService = notificationService;
+        this.self = supervisionService;
+        this.purgeChunkSize = purgeChunkSize;
     }
 
-    @Transactional
     public Integer deleteComputationResults(ComputationType computationType, boolean dryRun) {
         return switch (computationType) {
             case LOAD_FLOW -> dryRun ? loadFlowRestService.getLoadFlowResultsCount() : deleteLoadflowResults();
@@ -219,179 +233,131 @@ public class SupervisionService {
         return equipmentInfosService.getTombstonedEquipmentInfosCount();
     }
 
+    public List<ComputationResultsPurgeInfos> getComputationResultsPurges() {
+        return List.copyOf(computationResultsPurges.values());
+    }
+
     private Integer deleteLoadflowResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByLoadFlowResultUuidNotNull();
-        List<UUID> studyUuids = rootNetworkNodeInfoEntities.stream().map(rnnie -> rnnie.getRootNetwork().getStudy().getId()).distinct().toList();
-        studyUuids.forEach(loadFlowService::invalidateAllStudyLoadFlowStatus);
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.LOAD_FLOW, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeInfoEntities.size();
+        return purgeComputationResults(ComputationType.LOAD_FLOW, progress -> {
+            int purgedCount = 0;
+            // the load flow results are removed by invalidating the studies, study by study
+            for (UUID studyUuid : rootNetworkNodeInfoRepository.findAllStudyUuidsByLoadFlowResultUuidNotNull()) {
+                purgedCount += self.invalidateAllStudyLoadFlowStatus(studyUuid);
+                progress.accept(purgedCount);
+            }
+            return purgedCount;
+        });
+    }
+
+    @Transactional
+    public int invalidateAllStudyLoadFlowStatus(UUID studyUuid) {
+        int count = (int) rootNetworkNodeInfoRepository.countByRootNetworkStudyIdAndLoadFlowResultUuidNotNull(studyUuid);
+        loadFlowService.invalidateAllStudyLoadFlowStatus(studyUuid);
+        return count;
     }
 
     private Integer deleteDynamicSimulationResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeStatusEntities = rootNetworkNodeInfoRepository.findAllByDynamicSimulationResultUuidNotNull();
-        rootNetworkNodeStatusEntities.forEach(rootNetworkNodeStatus -> rootNetworkNodeStatus.setDynamicSimulationResultUuid(null));
-        dynamicSimulationRestService.deleteAllResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.DYNAMIC_SIMULATION, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeStatusEntities.size();
+        return purgeComputationResults(ComputationType.DYNAMIC_SIMULATION, List.of("dynamicSimulationResultUuid"), List.of(),
+            dynamicSimulationRestService::deleteAllResults);
     }
 
     private Integer deleteDynamicSecurityAnalysisResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeStatusEntities = rootNetworkNodeInfoRepository.findAllByDynamicSecurityAnalysisResultUuidNotNull();
-        rootNetworkNodeStatusEntities.forEach(rootNetworkNodeStatus -> rootNetworkNodeStatus.setDynamicSecurityAnalysisResultUuid(null));
-        dynamicSecurityAnalysisRestService.deleteAllResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.DYNAMIC_SECURITY_ANALYSIS, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeStatusEntities.size();
+        return purgeComputationResults(ComputationType.DYNAMIC_SECURITY_ANALYSIS, List.of("dynamicSecurityAnalysisResultUuid"), List.of(),
+            dynamicSecurityAnalysisRestService::deleteAllResults);
     }
 
     private Integer deleteDynamicMarginCalculationResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeStatusEntities = rootNetworkNodeInfoRepository.findAllByDynamicMarginCalculationResultUuidNotNull();
-        rootNetworkNodeStatusEntities.forEach(rootNetworkNodeStatus -> rootNetworkNodeStatus.setDynamicMarginCalculationResultUuid(null));
-        dynamicMarginCalculationRestService.deleteAllResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.DYNAMIC_MARGIN_CALCULATION, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeStatusEntities.size();
+        return purgeComputationResults(ComputationType.DYNAMIC_MARGIN_CALCULATION, List.of("dynamicMarginCalculationResultUuid"), List.of(),
+            dynamicMarginCalculationRestService::deleteAllResults);
     }
 
     private Integer deleteSecurityAnalysisResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllBySecurityAnalysisResultUuidNotNull();
-        List<UUID> reportsToDelete = new ArrayList<>();
-        rootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-            rootNetworkNodeInfo.setSecurityAnalysisResultUuid(null);
-            reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.SECURITY_ANALYSIS.name()));
-            rootNetworkNodeInfo.getComputationReports().remove(ComputationType.SECURITY_ANALYSIS.name());
-        });
-        reportService.deleteReports(reportsToDelete);
-        securityAnalysisService.deleteAllSecurityAnalysisResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.SECURITY_ANALYSIS, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeInfoEntities.size();
+        return purgeComputationResults(ComputationType.SECURITY_ANALYSIS, List.of("securityAnalysisResultUuid"), List.of(ComputationType.SECURITY_ANALYSIS),
+            securityAnalysisService::deleteAllSecurityAnalysisResults);
     }
 
     private Integer deleteSensitivityAnalysisResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllBySensitivityAnalysisResultUuidNotNull();
-        List<UUID> reportsToDelete = new ArrayList<>();
-        rootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-            rootNetworkNodeInfo.setSensitivityAnalysisResultUuid(null);
-            reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.SENSITIVITY_ANALYSIS.name()));
-            rootNetworkNodeInfo.getComputationReports().remove(ComputationType.SENSITIVITY_ANALYSIS.name());
-        });
-        reportService.deleteReports(reportsToDelete);
-        sensitivityAnalysisService.deleteAllSensitivityAnalysisResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.SENSITIVITY_ANALYSIS, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-
-        return rootNetworkNodeInfoEntities.size();
+        return purgeComputationResults(ComputationType.SENSITIVITY_ANALYSIS, List.of("sensitivityAnalysisResultUuid"), List.of(ComputationType.SENSITIVITY_ANALYSIS),
+            sensitivityAnalysisService::deleteAllSensitivityAnalysisResults);
     }
 
     private Integer deleteShortcircuitResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        // Reset result uuid and remove logs, for all-buses computations, then for 1-bus ones
-        List<RootNetworkNodeInfoEntity> allBusesrootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByShortCircuitAnalysisResultUuidNotNull();
-        if (!allBusesrootNetworkNodeInfoEntities.isEmpty()) {
-            List<UUID> reportsToDelete = new ArrayList<>();
-            allBusesrootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-                rootNetworkNodeInfo.setShortCircuitAnalysisResultUuid(null);
-                reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.SHORT_CIRCUIT.name()));
-                rootNetworkNodeInfo.getComputationReports().remove(ComputationType.SHORT_CIRCUIT.name());
-            });
-            reportService.deleteReports(reportsToDelete);
-        }
-
-        List<RootNetworkNodeInfoEntity> oneBusrootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByOneBusShortCircuitAnalysisResultUuidNotNull();
-        if (!oneBusrootNetworkNodeInfoEntities.isEmpty()) {
-            List<UUID> reportsToDelete = new ArrayList<>();
-            oneBusrootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-                rootNetworkNodeInfo.setOneBusShortCircuitAnalysisResultUuid(null);
-                reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.SHORT_CIRCUIT_ONE_BUS.name()));
-                rootNetworkNodeInfo.getComputationReports().remove(ComputationType.SHORT_CIRCUIT_ONE_BUS.name());
-            });
-            reportService.deleteReports(reportsToDelete);
-        }
-
-        // Then delete all results (1-bus and all-buses), cause short-circuit-server cannot make the difference
-        shortCircuitService.deleteAllShortCircuitAnalysisResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.SHORT_CIRCUIT, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        // return distinct processed time point node info count
-        return (int) Stream.concat(allBusesrootNetworkNodeInfoEntities.stream(), oneBusrootNetworkNodeInfoEntities.stream())
-                .map(RootNetworkNodeInfoEntity::getId)
-                .distinct()
-                .count();
+        // all-buses and 1-bus results are deleted together, cause short-circuit-server cannot make the difference
+        return purgeComputationResults(ComputationType.SHORT_CIRCUIT,
+            List.of("shortCircuitAnalysisResultUuid", "oneBusShortCircuitAnalysisResultUuid"),
+            List.of(ComputationType.SHORT_CIRCUIT, ComputationType.SHORT_CIRCUIT_ONE_BUS),
+            shortCircuitService::deleteAllShortCircuitAnalysisResults);
     }
 
     private Integer deleteVoltageInitResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByVoltageInitResultUuidNotNull();
-        if (!rootNetworkNodeInfoEntities.isEmpty()) {
-            List<UUID> reportsToDelete = new ArrayList<>();
-            rootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-                rootNetworkNodeInfo.setVoltageInitResultUuid(null);
-                reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.VOLTAGE_INITIALIZATION.name()));
-                rootNetworkNodeInfo.getComputationReports().remove(ComputationType.VOLTAGE_INITIALIZATION.name());
-            });
-            reportService.deleteReports(reportsToDelete);
-        }
-        voltageInitService.deleteAllVoltageInitResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.VOLTAGE_INITIALIZATION, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeInfoEntities.size();
+        return purgeComputationResults(ComputationType.VOLTAGE_INITIALIZATION, List.of("voltageInitResultUuid"), List.of(ComputationType.VOLTAGE_INITIALIZATION),
+            voltageInitService::deleteAllVoltageInitResults);
     }
 
     private Integer deleteStateEstimationResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByStateEstimationResultUuidNotNull();
-        List<UUID> reportsToDelete = new ArrayList<>();
-        rootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-            rootNetworkNodeInfo.setStateEstimationResultUuid(null);
-            reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.STATE_ESTIMATION.name()));
-            rootNetworkNodeInfo.getComputationReports().remove(ComputationType.STATE_ESTIMATION.name());
-        });
-        reportService.deleteReports(reportsToDelete);
-        stateEstimationService.deleteAllStateEstimationResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.STATE_ESTIMATION, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeInfoEntities.size();
+        return purgeComputationResults(ComputationType.STATE_ESTIMATION, List.of("stateEstimationResultUuid"), List.of(ComputationType.STATE_ESTIMATION),
+            stateEstimationService::deleteAllStateEstimationResults);
     }
 
     private Integer deletePccMinResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByPccMinResultUuidNotNull();
-        List<UUID> reportsToDelete = new ArrayList<>();
-        rootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-            rootNetworkNodeInfo.setPccMinResultUuid(null);
-            reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.PCC_MIN.name()));
-            rootNetworkNodeInfo.getComputationReports().remove(ComputationType.PCC_MIN.name());
-        });
-        reportService.deleteReports(reportsToDelete);
-        pccMinService.deleteAllPccMinResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.PCC_MIN, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeInfoEntities.size();
+        return purgeComputationResults(ComputationType.PCC_MIN, List.of("pccMinResultUuid"), List.of(ComputationType.PCC_MIN),
+            pccMinService::deleteAllPccMinResults);
     }
 
     private Integer deleteAsymmetricalLoadResults() {
-        AtomicReference<Long> startTime = new AtomicReference<>();
-        startTime.set(System.nanoTime());
-        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfoEntities = rootNetworkNodeInfoRepository.findAllByAsymmetricalLoadResultUuidNotNull();
-        List<UUID> reportsToDelete = new ArrayList<>();
-        rootNetworkNodeInfoEntities.forEach(rootNetworkNodeInfo -> {
-            rootNetworkNodeInfo.setAsymmetricalLoadResultUuid(null);
-            reportsToDelete.add(rootNetworkNodeInfo.getComputationReports().get(ComputationType.ASYMMETRICAL_LOAD.name()));
-            rootNetworkNodeInfo.getComputationReports().remove(ComputationType.ASYMMETRICAL_LOAD.name());
+        return purgeComputationResults(ComputationType.ASYMMETRICAL_LOAD, List.of("asymmetricalLoadResultUuid"), List.of(ComputationType.ASYMMETRICAL_LOAD),
+            asymmetricalLoadRestService::deleteAllAsymmetricalLoadResults);
+    }
+
+    /**
+     * Remove the results from the root network node infos chunk by chunk, each chunk in its own transaction, recording the
+     * deletion of the computation reports of each chunk in this transaction, then delete all the results of the computation server.
+     * The root network node infos already purged are not selected anymore, so a purge interrupted can be run again.
+     */
+    private Integer purgeComputationResults(ComputationType computationType, List<String> resultAttributes, List<ComputationType> reportTypes,
+                                            Runnable deleteAllComputationResults) {
+        return purgeComputationResults(computationType, progress -> {
+            int purgedCount = 0;
+            UUID lastId = null;
+            List<UUID> ids;
+            while (!(ids = rootNetworkNodeInfoRepository.findIdsWithResults(resultAttributes, lastId, purgeChunkSize)).isEmpty()) {
+                self.clearComputationResults(ids, resultAttributes, reportTypes);
+                purgedCount += ids.size();
+                lastId = ids.getLast();
+                progress.accept(purgedCount);
+            }
+            deleteAllComputationResults.run();
+            return purgedCount;
         });
-        reportService.deleteReports(reportsToDelete);
-        asymmetricalLoadRestService.deleteAllAsymmetricalLoadResults();
-        LOGGER.trace(DELETION_LOG_MESSAGE, ComputationType.ASYMMETRICAL_LOAD, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime.get()));
-        return rootNetworkNodeInfoEntities.size();
+    }
+
+    private Integer purgeComputationResults(ComputationType computationType, ToIntFunction<IntConsumer> purge) {
+        long startTime = System.nanoTime();
+        computationResultsPurges.put(computationType, new ComputationResultsPurgeInfos(computationType, ComputationResultsPurgeInfos.Status.RUNNING, 0, Instant.now(), null));
+        int purgedCount;
+        try {
+            purgedCount = purge.applyAsInt(count -> computationResultsPurges.computeIfPresent(computationType, (type, infos) -> infos.progress(count)));
+        } catch (RuntimeException e) {
+            computationResultsPurges.computeIfPresent(computationType, (type, infos) -> infos.end(ComputationResultsPurgeInfos.Status.FAILED));
+            throw e;
+        }
+        computationResultsPurges.computeIfPresent(computationType, (type, infos) -> infos.end(ComputationResultsPurgeInfos.Status.SUCCEEDED));
+        LOGGER.trace(DELETION_LOG_MESSAGE, computationType, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime));
+        return purgedCount;
+    }
+
+    /**
+     * The deletion of the computation reports removed is recorded in the same transaction, to be retried if it fails after the commit
+     */
+    @Transactional
+    public void clearComputationResults(List<UUID> ids, List<String> resultAttributes, List<ComputationType> reportTypes) {
+        RemoteDeletionInfos remoteDeletionInfos = new RemoteDeletionInfos();
+        for (ComputationType reportType : reportTypes) {
+            rootNetworkNodeInfoRepository.findComputationReportUuids(ids, reportType.name()).forEach(remoteDeletionInfos::addReportUuid);
+            rootNetworkNodeInfoRepository.deleteComputationReports(ids, reportType.name());
+        }
+        rootNetworkNodeInfoRepository.clearResults(ids, resultAttributes);
+        remoteDeletionService.addRemoteDeletions(remoteDeletionInfos);
     }
 
     @Transactional
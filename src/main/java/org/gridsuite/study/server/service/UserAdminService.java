@@ -7,15 +7,21 @@
 
 package org.gridsuite.study.server.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.QuotaType;
 import org.gridsuite.study.server.dto.UserProfileInfos;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 
@@ -37,9 +43,22 @@ public class UserAdminService {
     private final RestTemplate restTemplate;
     private String userAdminServerBaseUri;
 
-    public UserAdminService(RemoteServicesProperties remoteServicesProperties, RestTemplate restTemplate) {
+    // max quotas are checked before each build and computation, but rarely change : they are kept for a short time
+    // (the current quotas are not cached, they change with each started and ended operation)
+    private final Cache<String, Map<QuotaType, Integer>> userMaxQuotaCache;
+
+    public UserAdminService(RemoteServicesProperties remoteServicesProperties, RestTemplate restTemplate, MeterRegistry meterRegistry,
+                            @Value("${study.user-admin.quota-cache-ttl:1m}") Duration quotaCacheTtl,
+                            @Value("${study.user-admin.quota-cache-max-size:1000}") long quotaCacheMaxSize) {
         this.userAdminServerBaseUri = remoteServicesProperties.getServiceUri("user-admin-server");
         this.restTemplate = restTemplate;
+        this.userMaxQuotaCache = quotaCacheTtl.isZero() ? null : CaffeineCacheMetrics.monitor(meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfterWrite(quotaCacheTtl)
+                .maximumSize(quotaCacheMaxSize)
+                .recordStats()
+                .<String, Map<QuotaType, Integer>>build(),
+            "userMaxQuotas");
     }
 
     public void setUserAdminServerBaseUri(String serverBaseUri) {
@@ -53,6 +72,25 @@ public class UserAdminService {
     }
 
     public Map<QuotaType, Integer> getUserMaxQuota(String sub) {
+        return userMaxQuotaCache != null ? userMaxQuotaCache.get(sub, this::fetchUserMaxQuota) : fetchUserMaxQuota(sub);
+    }
+
+    /**
+     * Forget the max quotas of a user, so that they are requested again to the user-admin server on the next check
+     */
+    public void evictUserMaxQuota(String sub) {
+        if (userMaxQuotaCache != null) {
+            userMaxQuotaCache.invalidate(sub);
+        }
+    }
+
+    public void evictAllUserMaxQuotas() {
+        if (userMaxQuotaCache != null) {
+            userMaxQuotaCache.invalidateAll();
+        }
+    }
+
+    private Map<QuotaType, Integer> fetchUserMaxQuota(String sub) {
         String path = UriComponentsBuilder.fromPath(DELIMITER + USER_ADMIN_API_VERSION + USERS_MAX_QUOTA_URI)
                 .buildAndExpand(sub).toUriString();
         return restTemplate.exchange(
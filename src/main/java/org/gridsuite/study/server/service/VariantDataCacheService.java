@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.apache.commons.lang3.StringUtils;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Caches of the data generated by the remote servers from the variants of the networks : a built variant does not
+ * change until it is invalidated, rebuilt, deleted or updated by a computation, so its data is kept until then.
+ * The version of the variants is persisted, so that the changes made through another instance of the server are seen.
+ * The caches hold the futures of the data, so that no lock of the cache is held while the data is generated by a remote
+ * server : the concurrent requests of the same data wait for its future, the other requests and the evictions don't.
+ */
+@Service
+public class VariantDataCacheService {
+
+    private static final long VARIANT_GENERATIONS_MAX_SIZE = 100_000;
+
+    private record VariantKey(UUID networkUuid, String variantId) { }
+
+    /**
+     * The generation of the variant changes each time the variant is evicted by this instance, its version each time it
+     * is evicted by any instance, so that data generated before is never served again, even when its generation was
+     * still running
+     */
+    private record DataKey<K>(VariantKey variant, long generation, long version, K key) { }
+
+    public final class VariantDataCache<K, V> {
+        private final AsyncCache<DataKey<K>, V> cache;
+
+        private VariantDataCache(AsyncCache<DataKey<K>, V> cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * Get the data of a variant, generated once for all the concurrent identical requests
+         */
+        public V get(UUID networkUuid, String variantId, K key, Supplier<V> dataGenerator) {
+            if (cache == null) {
+                return dataGenerator.get();
+            }
+            VariantKey variant = toVariantKey(networkUuid, variantId);
+            // a new variant generation is never lower than the ones of the cached data
+            long generation = variantGenerations.get(variant, k -> lastVariantGeneration.incrementAndGet());
+            long version = getVariantVersion(variant);
+            DataKey<K> dataKey = new DataKey<>(variant, generation, version, key);
+            CompletableFuture<V> data = cache.getIfPresent(dataKey);
+            if (data == null) {
+                // generated by the calling thread, out of the computations of the cache
+                CompletableFuture<V> generatedData = new CompletableFuture<>();
+                data = cache.asMap().putIfAbsent(dataKey, generatedData);
+                if (data == null) {
+                    try {
+                        generatedData.complete(dataGenerator.get());
+                    } catch (RuntimeException | Error e) {
+                        // a failed future is removed from the cache
+                        generatedData.completeExceptionally(e);
+                        throw e;
+                    }
+                    data = generatedData;
+                }
+            }
+            return join(data);
+        }
+
+        /**
+         * Get the data of a variant for several keys, generating at once only the data missing from the cache
+         */
+        public Map<K, V> getAll(UUID networkUuid, String variantId, Collection<K> keys, Function<Set<K>, Map<K, V>> dataGenerator) {
+            if (cache == null) {
+                return dataGenerator.apply(new LinkedHashSet<>(keys));
+            }
+            VariantKey variant = toVariantKey(networkUuid, variantId);
+            long generation = variantGenerations.get(variant, k -> lastVariantGeneration.incrementAndGet());
+            long version = getVariantVersion(variant);
+            // the missing data is generated by the calling thread, once the futures of the missing keys are in the cache
+            Map<DataKey<K>, V> data = join(cache.getAll(keys.stream().map(key -> new DataKey<>(variant, generation, version, key)).toList(), (missingKeys, executor) -> {
+                try {
+                    return CompletableFuture.completedFuture(dataGenerator.apply(missingKeys.stream().map(DataKey::key).collect(Collectors.toCollection(LinkedHashSet::new)))
+                        .entrySet().stream()
+                        .collect(Collectors.toMap(entry -> new DataKey<>(variant, generation, version, entry.getKey()), Map.Entry::getValue)));
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }));
+            Map<K, V> result = new LinkedHashMap<>();
+            data.forEach((key, value) -> result.put(key.key(), value));
+            return result;
+        }
+
+        public boolean isEnabled() {
+            return cache != null;
+        }
+
+        private void evict(Set<VariantKey> variants) {
+            if (cache != null) {
+                cache.asMap().keySet().removeIf(key -> variants.contains(key.variant()));
+            }
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
+
+    private final ObjectWriter requestWriter;
+
+    private final Cache<VariantKey, Long> variantGenerations;
+
+    private final AtomicLong lastVariantGeneration = new AtomicLong();
+
+    private final List<VariantDataCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    public VariantDataCacheService(MeterRegistry meterRegistry, ObjectMapper objectMapper, RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository) {
+        this.meterRegistry = meterRegistry;
+        this.rootNetworkNodeInfoRepository = rootNetworkNodeInfoRepository;
+        // equal requests are hashed the same whatever the order of their map entries
+        this.requestWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.variantGenerations = Caffeine.newBuilder()
+            .maximumSize(VARIANT_GENERATIONS_MAX_SIZE)
+            .build();
+    }
+
+    /**
+     * Create a cache of variants data, bounded by the size of its data, and disabled when its time to live is zero
+     */
+    public <K, V> VariantDataCache<K, V> createCache(String name, Duration ttl, DataSize maxSize, ToIntFunction<V> weigher) {
+        VariantDataCache<K, V> variantDataCache = new VariantDataCache<>(ttl.isZero() ? null : CaffeineCacheMetrics.monitor(meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxSize.toBytes())
+                .weigher((DataKey<K> key, V data) -> weigher.applyAsInt(data))
+                .recordStats()
+                .<DataKey<K>, V>buildAsync(),
+            name));
+        caches.add(variantDataCache);
+        return variantDataCache;
+    }
+
+    /**
+     * Forget the data of variants, so that it is generated again by the remote servers.
+     * The version of the variants is incremented in the current transaction, so that the other instances of the server
+     * stop serving their data once it is committed : it must be called once the content of the variants changed.
+     */
+    public void evictVariants(UUID networkUuid, Collection<String> variantIds) {
+        Set<VariantKey> variants = variantIds.stream().map(variantId -> toVariantKey(networkUuid, variantId)).collect(Collectors.toSet());
+        if (!variants.isEmpty()) {
+            rootNetworkNodeInfoRepository.incrementVariantVersions(networkUuid, variantIds);
+        }
+        variantGenerations.invalidateAll(variants);
+        caches.forEach(cache -> cache.evict(variants));
+    }
+
+    /**
+     * Hash of a request, to key the data generated from it
+     */
+    public String hashRequest(Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(requestWriter.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to hash the request", e);
+        }
+    }
+
+    private long getVariantVersion(VariantKey variant) {
+        return rootNetworkNodeInfoRepository.findVariantVersion(variant.networkUuid(), variant.variantId()).orElse(0L);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // the failure of the generation is thrown as is, as without cache
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static VariantKey toVariantKey(UUID networkUuid, String variantId) {
+        return new VariantKey(networkUuid, StringUtils.defaultString(variantId));
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.gridsuite.study.server.service;
 
+import org.gridsuite.study.server.dto.NodeReceiver;
 import org.gridsuite.study.server.notification.NotificationService;
 import org.gridsuite.study.server.notification.dto.AlertLevel;
 import org.gridsuite.study.server.notification.dto.StudyAlert;
@@ -44,43 +45,39 @@ public class VoltageInitResultConsumer {
         this.notificationService = notificationService;
     }
 
-    private void checkReactiveSlacksOverThreshold(Message<String> msg, UUID studyUuid) {
-        consumerService.getNodeReceiver(msg).ifPresent(nodeReceiver -> {
-            Boolean alert = msg.getHeaders().get(HEADER_REACTIVE_SLACKS_OVER_THRESHOLD, Boolean.class);
-            if (Boolean.TRUE.equals(alert)) {
-                String userId = msg.getHeaders().get(HEADER_USER_ID, String.class);
-                Double alertThreshold = msg.getHeaders().get(HEADER_REACTIVE_SLACKS_THRESHOLD_VALUE, Double.class);
-                notificationService.emitStudyAlert(studyUuid, nodeReceiver.getNodeUuid(), nodeReceiver.getRootNetworkUuid(), userId, new StudyAlert(AlertLevel.WARNING,
-                        HEADER_REACTIVE_SLACKS_OVER_THRESHOLD, Map.of("threshold", alertThreshold.toString())));
-            }
-        });
+    private void checkReactiveSlacksOverThreshold(Message<String> msg, UUID studyUuid, NodeReceiver nodeReceiver) {
+        Boolean alert = msg.getHeaders().get(HEADER_REACTIVE_SLACKS_OVER_THRESHOLD, Boolean.class);
+        if (Boolean.TRUE.equals(alert)) {
+            String userId = msg.getHeaders().get(HEADER_USER_ID, String.class);
+            Double alertThreshold = msg.getHeaders().get(HEADER_REACTIVE_SLACKS_THRESHOLD_VALUE, Double.class);
+            notificationService.emitStudyAlert(studyUuid, nodeReceiver.getNodeUuid(), nodeReceiver.getRootNetworkUuid(), userId, new StudyAlert(AlertLevel.WARNING,
+                    HEADER_REACTIVE_SLACKS_OVER_THRESHOLD, Map.of("threshold", alertThreshold.toString())));
+        }
     }
 
-    private void checkVoltageLevelLimitsOutOfNominalVoltageRange(Message<String> msg, UUID studyUuid) {
-        consumerService.getNodeReceiver(msg).ifPresent(nodeReceiver -> {
-            Boolean alert = msg.getHeaders().get(HEADER_VOLTAGE_LEVEL_LIMITS_OUT_OF_NOMINAL_VOLTAGE_RANGE, Boolean.class);
-            if (Boolean.TRUE.equals(alert)) {
-                String userId = msg.getHeaders().get(HEADER_USER_ID, String.class);
-                notificationService.emitStudyAlert(studyUuid, nodeReceiver.getNodeUuid(), nodeReceiver.getRootNetworkUuid(), userId, new StudyAlert(AlertLevel.WARNING,
-                        HEADER_VOLTAGE_LEVEL_LIMITS_OUT_OF_NOMINAL_VOLTAGE_RANGE, null));
-            }
-        });
+    private void checkVoltageLevelLimitsOutOfNominalVoltageRange(Message<String> msg, UUID studyUuid, NodeReceiver nodeReceiver) {
+        Boolean alert = msg.getHeaders().get(HEADER_VOLTAGE_LEVEL_LIMITS_OUT_OF_NOMINAL_VOLTAGE_RANGE, Boolean.class);
+        if (Boolean.TRUE.equals(alert)) {
+            String userId = msg.getHeaders().get(HEADER_USER_ID, String.class);
+            notificationService.emitStudyAlert(studyUuid, nodeReceiver.getNodeUuid(), nodeReceiver.getRootNetworkUuid(), userId, new StudyAlert(AlertLevel.WARNING,
+                    HEADER_VOLTAGE_LEVEL_LIMITS_OUT_OF_NOMINAL_VOLTAGE_RANGE, null));
+        }
     }
 
     @Bean
     public Consumer<Message<String>> consumeVoltageInitResult() {
         return message -> {
-            consumerService.consumeCalculationResult(message, VOLTAGE_INITIALIZATION);
-            consumerService.getStudyUuid(message).ifPresent(studyUuid -> {
-                checkReactiveSlacksOverThreshold(message, studyUuid);
-                checkVoltageLevelLimitsOutOfNominalVoltageRange(message, studyUuid);
+            // the receiver and its study are shared by all the handlers of the message
+            ConsumedMessageContext context = consumerService.createMessageContext(message);
+            consumerService.consumeCalculationResult(context, VOLTAGE_INITIALIZATION);
+            context.getNodeReceiver().ifPresent(nodeReceiver -> context.getStudyUuid().ifPresent(studyUuid -> {
+                checkReactiveSlacksOverThreshold(message, studyUuid, nodeReceiver);
+                checkVoltageLevelLimitsOutOfNominalVoltageRange(message, studyUuid, nodeReceiver);
                 if (studyService.shouldApplyModifications(studyUuid)) {
-                    consumerService.getNodeReceiver(message).ifPresent(nodeReceiver -> {
-                        String userId = message.getHeaders().get(HEADER_USER_ID, String.class);
-                        studyService.insertVoltageInitModifications(studyUuid, nodeReceiver.getNodeUuid(), nodeReceiver.getRootNetworkUuid(), userId);
-                    });
+                    String userId = message.getHeaders().get(HEADER_USER_ID, String.class);
+                    studyService.insertVoltageInitModifications(studyUuid, nodeReceiver.getNodeUuid(), nodeReceiver.getRootNetworkUuid(), userId);
                 }
-            });
+            }));
         };
     }
 }
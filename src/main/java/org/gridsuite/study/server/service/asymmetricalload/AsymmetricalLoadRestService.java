@@ -8,6 +8,7 @@ package org.gridsuite.study.server.service.asymmetricalload;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.NodeReceiver;
@@ -268,7 +269,7 @@ public class AsymmetricalLoadRestService extends AbstractComputationRestService
         return restTemplate.exchange(baseUri + path, HttpMethod.POST, httpEntity, UUID.class).getBody();
     }
 
-    public ResponseEntity<byte[]> exportAsymmetricalLoadResultsAsCsv(UUID resultUuid, String csvHeaders, UUID networkUuid, String variantId, Sort sort, String filters, String globalFilters) {
+    public void exportAsymmetricalLoadResultsAsCsv(UUID resultUuid, String csvHeaders, UUID networkUuid, String variantId, Sort sort, String filters, String globalFilters, HttpServletResponse response) {
         if (resultUuid == null) {
             throw new StudyException(NOT_FOUND, "Result of asymmetrical load was not found");
         }
@@ -294,6 +295,6 @@ public class AsymmetricalLoadRestService extends AbstractComputationRestService
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<String> httpEntity = new HttpEntity<>(csvHeaders, headers);
-        return restTemplate.exchange(uri, HttpMethod.POST, httpEntity, byte[].class);
+        streamExport(uri, httpEntity, response);
     }
 }
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.gridsuite.study.server.RemoteServicesProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Time the requests sent to the remote services, tagged with the remote service, the URI template, the method and the status.
+ * The remote service is found from the base URI of the request, the URI template by replacing the UUIDs, the numbers and the
+ * known equipment identifiers and names of the path.
+ * The time measured is the time to receive the response headers, not to read the response body.
+ */
+@Component
+public class RemoteServiceMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String REQUESTS_METER_NAME = "study.remote.requests";
+    public static final String IN_FLIGHT_REQUESTS_METER_NAME = "study.remote.requests.inflight";
+
+    static final String UNKNOWN_SERVICE = "unknown";
+    static final String OTHER_URI = "OTHER";
+    static final String IO_ERROR_STATUS = "IO_ERROR";
+
+    // distinct URI templates kept by service, so that identifiers not matched by the patterns can't create an unbounded number of series
+    private static final int MAX_URI_TEMPLATES_BY_SERVICE = 100;
+
+    private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("(?<=/)\\d+(?=/|$)");
+
+    // path segments holding equipment identifiers or element names, in the paths requested by the services
+    private static final Map<Pattern, String> ID_SEGMENT_PATTERNS = Map.of(
+        Pattern.compile("^/v1/(svg|svg-and-metadata)/\\{uuid}/[^/]+$"), "/v1/$1/{uuid}/{voltageLevelId}",
+        Pattern.compile("^/v1/(substation-svg|substation-svg-and-metadata)/\\{uuid}/[^/]+$"), "/v1/$1/{uuid}/{substationId}",
+        Pattern.compile("^/v1/networks/\\{uuid}/branch-or-3wt/[^/]+/"), "/v1/networks/{uuid}/branch-or-3wt/{equipmentId}/",
+        Pattern.compile("^/v1/networks/\\{uuid}/hvdc-lines/[^/]+/"), "/v1/networks/{uuid}/hvdc-lines/{hvdcId}/",
+        Pattern.compile("^/v1/networks/\\{uuid}/voltage-levels/[^/]+/"), "/v1/networks/{uuid}/voltage-levels/{voltageLevelId}/",
+        Pattern.compile("^/v1/directories/\\{uuid}/elements/[^/]+/types/"), "/v1/directories/{uuid}/elements/{elementName}/types/"
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    private final RemoteServicesProperties remoteServicesProperties;
+
+    private final Environment environment;
+
+    private final Map<String, String> serviceNamesByAuthority = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> uriTemplatesByService = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> inFlightRequestsByService = new ConcurrentHashMap<>();
+
+    public RemoteServiceMetricsInterceptor(MeterRegistry meterRegistry, RemoteServicesProperties remoteServicesProperties, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.remoteServicesProperties = remoteServicesProperties;
+        this.environment = environment;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String serviceName = getServiceName(request.getURI());
+        String uriTemplate = getUriTemplate(serviceName, request.getURI());
+        AtomicInteger inFlightRequests = inFlightRequestsByService.computeIfAbsent(serviceName, name -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder(IN_FLIGHT_REQUESTS_METER_NAME, count, AtomicInteger::get)
+                .description("Requests sent to a remote service and waiting for the response")
+                .tag("service", name)
+                .register(meterRegistry);
+            return count;
+        });
+
+        String status = IO_ERROR_STATUS;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlightRequests.incrementAndGet();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            inFlightRequests.decrementAndGet();
+            sample.stop(Timer.builder(REQUESTS_METER_NAME)
+                .description("Requests sent to the remote services")
+                .tag("service", serviceName)
+                .tag("uri", uriTemplate)
+                .tag("method", request.getMethod().name())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    private String getServiceName(URI uri) {
+        String authority = uri.getRawAuthority();
+        if (authority == null) {
+            return UNKNOWN_SERVICE;
+        }
+        String serviceName = serviceNamesByAuthority.get(authority);
+        // the base URIs of the services may change after startup
+        if (serviceName == null || !authority.equals(getServiceAuthority(serviceName))) {
+            serviceName = Arrays.stream(RemoteServiceName.values())
+                .map(RemoteServiceName::serviceName)
+                .filter(name -> authority.equals(getServiceAuthority(name)))
+                .findFirst()
+                .orElse(UNKNOWN_SERVICE);
+            serviceNamesByAuthority.put(authority, serviceName);
+        }
+        return serviceName;
+    }
+
+    private String getServiceAuthority(String serviceName) {
+        if (UNKNOWN_SERVICE.equals(serviceName)) {
+            return null;
+        }
+        // some services are still configured with the powsybl.services properties
+        String baseUri = environment.getProperty("powsybl.services." + serviceName + ".base-uri", remoteServicesProperties.getServiceUri(serviceName));
+        return URI.create(baseUri).getRawAuthority();
+    }
+
+    private String getUriTemplate(String serviceName, URI uri) {
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String uriTemplate = NUMBER_PATTERN.matcher(UUID_PATTERN.matcher(path).replaceAll("{uuid}")).replaceAll("{id}");
+        for (Map.Entry<Pattern, String> idSegmentPattern : ID_SEGMENT_PATTERNS.entrySet()) {
+            uriTemplate = idSegmentPattern.getKey().matcher(uriTemplate).replaceFirst(idSegmentPattern.getValue());
+        }
+        Set<String> uriTemplates = uriTemplatesByService.computeIfAbsent(serviceName, name -> ConcurrentHashMap.newKeySet());
+        if (!uriTemplates.contains(uriTemplate)) {
+            if (uriTemplates.size() >= MAX_URI_TEMPLATES_BY_SERVICE) {
+                return OTHER_URI;
+            }
+            uriTemplates.add(uriTemplate);
+        }
+        return uriTemplate;
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.gridsuite.study.server.RemoteServicesProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Send the requests to the remote services with pooled http clients.
+ * Each remote service has its own connection pool, so that a remote service not responding can only hold its own
+ * connections, with the max connections and timeouts of the service if configured, of the http client settings otherwise.
+ * The requests to other hosts share a default pool.
+ * The requests waiting for a connection and the connections used are measured for each pool.
+ */
+@Component
+public class RemoteServicesClientHttpRequestFactory implements ClientHttpRequestFactory, DisposableBean {
+
+    public static final String PENDING_CONNECTIONS_METER_NAME = "study.remote.connections.pending";
+    public static final String LEASED_CONNECTIONS_METER_NAME = "study.remote.connections.leased";
+
+    private static final String DEFAULT_POOL_NAME = "default";
+    private static final int DEFAULT_EXECUTOR_MAX_CONCURRENCY = 64;
+    private static final int DEFAULT_SERVLET_MAX_THREADS = 200;
+
+    private final Map<String, HttpComponentsClientHttpRequestFactory> requestFactoriesByAuthority = new HashMap<>();
+
+    private final HttpComponentsClientHttpRequestFactory defaultRequestFactory;
+
+    public RemoteServicesClientHttpRequestFactory(RemoteServicesProperties remoteServicesProperties, Environment environment, MeterRegistry meterRegistry) {
+        RemoteServicesProperties.HttpClientSettings settings = remoteServicesProperties.getHttpClient();
+        int maxConnectionsPerService = Optional.ofNullable(settings.getMaxConnectionsPerService()).orElseGet(() ->
+            environment.getProperty("study.executor.max-concurrency", Integer.class, DEFAULT_EXECUTOR_MAX_CONCURRENCY)
+                + environment.getProperty("server.tomcat.threads.max", Integer.class, DEFAULT_SERVLET_MAX_THREADS));
+        defaultRequestFactory = createRequestFactory(settings, maxConnectionsPerService, settings.getConnectTimeout(), settings.getReadTimeout(),
+            meterRegistry, DEFAULT_POOL_NAME);
+        for (RemoteServiceName remoteServiceName : RemoteServiceName.values()) {
+            String serviceName = remoteServiceName.serviceName();
+            // some services are still configured with the powsybl.services properties
+            String baseUri = environment.getProperty("powsybl.services." + serviceName + ".base-uri", remoteServicesProperties.getServiceUri(serviceName));
+            String authority = URI.create(baseUri).getRawAuthority();
+            if (authority != null && !requestFactoriesByAuthority.containsKey(authority)) {
+                Optional<RemoteServicesProperties.Service> service = Optional.ofNullable(remoteServicesProperties.getServices()).orElse(List.of()).stream()
+                    .filter(s -> s.getName().equalsIgnoreCase(serviceName))
+                    .findFirst();
+                requestFactoriesByAuthority.put(authority, createRequestFactory(settings,
+                    service.map(RemoteServicesProperties.Service::getMaxConnections).orElse(maxConnectionsPerService),
+                    service.map(RemoteServicesProperties.Service::getConnectTimeout).orElse(settings.getConnectTimeout()),
+                    service.map(RemoteServicesProperties.Service::getReadTimeout).orElse(settings.getReadTimeout()),
+                    meterRegistry, serviceName));
+            }
+        }
+    }
+
+    private static HttpComponentsClientHttpRequestFactory createRequestFactory(RemoteServicesProperties.HttpClientSettings settings,
+                                                                               int maxConnections, Duration connectTimeout, Duration readTimeout,
+                                                                               MeterRegistry meterRegistry, String poolName) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .build())
+            .build();
+        Gauge.builder(PENDING_CONNECTIONS_METER_NAME, connectionManager, cm -> cm.getTotalStats().getPending())
+            .description("Requests waiting for a connection of the pool of a remote service")
+            .tag("pool", poolName)
+            .register(meterRegistry);
+        Gauge.builder(LEASED_CONNECTIONS_METER_NAME, connectionManager, cm -> cm.getTotalStats().getLeased())
+            .description("Connections of the pool of a remote service used by requests")
+            .tag("pool", poolName)
+            .register(meterRegistry);
+        var httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(settings.getConnectionRequestTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(settings.getIdleTimeout()))
+            // same behavior as the default jdk client : no retries, no response decompression, no cookies
+            .disableAutomaticRetries()
+            .disableContentCompression()
+            .disableCookieManagement()
+            .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String authority = uri.getRawAuthority();
+        HttpComponentsClientHttpRequestFactory requestFactory = authority != null ? requestFactoriesByAuthority.get(authority) : null;
+        return (requestFactory != null ? requestFactory : defaultRequestFactory).createRequest(uri, httpMethod);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (HttpComponentsClientHttpRequestFactory requestFactory : requestFactoriesByAuthority.values()) {
+            requestFactory.destroy();
+        }
+        defaultRequestFactory.destroy();
+    }
+}
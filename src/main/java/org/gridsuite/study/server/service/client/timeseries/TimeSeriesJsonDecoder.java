@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package org.gridsuite.study.server.service.client.timeseries;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.powsybl.timeseries.TimeSeries;
+import com.powsybl.timeseries.TimeSeriesMetadata;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Decode a time-series group json, as written by {@link TimeSeries#toJson(List)}, while reading it.
+ * The json text is never fully loaded: the time series are parsed one by one from the stream, and the time series which
+ * are not requested are skipped once their metadata is read, without being decoded.
+ */
+public final class TimeSeriesJsonDecoder {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String METADATA = "metadata";
+
+    private TimeSeriesJsonDecoder() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Decode time series
+     * @param inputStream a time-series group json, may be empty
+     * @param timeSeriesNames names of the time series to keep, all the time series are kept if null or empty
+     * @return the decoded time series
+     */
+    public static List<TimeSeries> decode(InputStream inputStream, Collection<String> timeSeriesNames) throws IOException {
+        List<TimeSeries> timeSeriesList = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return timeSeriesList;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Unexpected token " + token + ", a time series array is expected");
+            }
+            if (CollectionUtils.isEmpty(timeSeriesNames)) {
+                return TimeSeries.parseJson(parser);
+            }
+            Set<String> names = new HashSet<>(timeSeriesNames);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                decodeTimeSeries(parser, names, timeSeriesList);
+            }
+        }
+        return timeSeriesList;
+    }
+
+    private static void decodeTimeSeries(JsonParser parser, Set<String> names, List<TimeSeries> timeSeriesList) throws IOException {
+        // the metadata is written first, before the chunks of the time series
+        if (parser.nextToken() != JsonToken.FIELD_NAME || !METADATA.equals(parser.currentName())) {
+            throw new IOException("Unexpected token " + parser.currentToken() + ", the time series metadata is expected");
+        }
+        TimeSeriesMetadata metadata = TimeSeriesMetadata.parseJson(parser);
+        if (names.contains(metadata.getName())) {
+            // the metadata already read is written again in front of the chunks, still read from the stream
+            TokenBuffer metadataBuffer = new TokenBuffer(parser);
+            metadataBuffer.writeFieldName(METADATA);
+            metadata.writeJson(metadataBuffer);
+            JsonParser timeSeriesParser = JsonParserSequence.createFlattened(false, metadataBuffer.asParser(), parser);
+            timeSeriesList.addAll(TimeSeries.parseJson(timeSeriesParser, true));
+        } else {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        }
+    }
+}
@@ -8,11 +8,12 @@
 package org.gridsuite.study.server.service.client.timeseries.impl;
 
 import com.powsybl.timeseries.TimeSeries;
-import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.timeseries.rest.TimeSeriesGroupRest;
 import org.gridsuite.study.server.service.client.AbstractRestClient;
 import org.gridsuite.study.server.service.client.timeseries.TimeSeriesClient;
+import org.gridsuite.study.server.service.client.timeseries.TimeSeriesJsonDecoder;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.RestTemplate;
@@ -48,14 +49,10 @@ public class TimeSeriesClientImpl extends AbstractRestClient implements TimeSeri
         var uriComponents = uriComponentsBuilder
                 .buildAndExpand(groupUuid);
 
-        // call time-series Rest API
-        var timeSeriesJson = getRestTemplate().getForObject(uriComponents.toUriString(), String.class);
-        if (!StringUtils.isBlank(timeSeriesJson)) {
-            // convert json to TimeSeries
-            return TimeSeries.parseJson(timeSeriesJson);
-        } else {
-            return Collections.emptyList();
-        }
+        // call time-series Rest API and convert json to TimeSeries while reading the response
+        List<TimeSeries> timeSeries = getRestTemplate().execute(uriComponents.toUriString(), HttpMethod.GET, null,
+            response -> TimeSeriesJsonDecoder.decode(response.getBody(), timeSeriesNames));
+        return timeSeries != null ? timeSeries : Collections.emptyList();
     }
 
     @Override
@@ -1,18 +1,27 @@
 package org.gridsuite.study.server.service.common;
 
+import jakarta.servlet.http.HttpServletResponse;
 import org.gridsuite.study.server.service.client.AbstractRestClient;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.gridsuite.study.server.StudyConstants.QUERY_PARAM_RESULTS_UUIDS;
 
 public abstract class AbstractComputationRestService extends AbstractRestClient {
 
+    // hop-by-hop headers, managed by each connection
+    private static final Set<String> NOT_FORWARDED_HEADERS = Set.of(HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.CONNECTION.toLowerCase(), "keep-alive");
+
     protected AbstractComputationRestService(String baseUri, RestTemplate restTemplate) {
         super(baseUri, restTemplate);
     }
@@ -35,4 +44,22 @@ public abstract class AbstractComputationRestService extends AbstractRestClient
         UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromPath(path).queryParam(QUERY_PARAM_RESULTS_UUIDS, resultsUuids);
         restTemplate.delete(serverBaseUri + uriComponentsBuilder.build().toUriString());
     }
+
+    /**
+     * Post the request to the computation server and copy its response (status, headers and body) to the given response
+     * while it is received, so that large exports are never held in memory
+     */
+    protected void streamExport(URI uri, HttpEntity<?> requestEntity, HttpServletResponse response) {
+        restTemplate.execute(uri, HttpMethod.POST, restTemplate.httpEntityCallback(requestEntity), clientResponse -> {
+            response.setStatus(clientResponse.getStatusCode().value());
+            clientResponse.getHeaders().forEach((name, values) -> {
+                if (!NOT_FORWARDED_HEADERS.contains(name.toLowerCase())) {
+                    values.forEach(value -> response.addHeader(name, value));
+                }
+            });
+            StreamUtils.copy(clientResponse.getBody(), response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
 }
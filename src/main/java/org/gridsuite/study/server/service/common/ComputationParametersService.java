@@ -40,6 +40,7 @@ public class ComputationParametersService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ComputationParametersService.class);
 
     private final UserAdminService userAdminService;
+    private final StudyServerExecutionService studyServerExecutionService;
     private final List<ComputationParametersDefinition> computationParametersDefinitions;
 
     // this is useful to avoid repetitive calls when doing operation on all computation types (duplicate, delete)
@@ -47,6 +48,7 @@ public class ComputationParametersService {
             ComputationType type,
             Function<StudyEntity, UUID> studyParameterGetter,
             Function<UserProfileInfos, UUID> profileParameterGetter,
+            Function<ComputationParameterUUIDs, UUID> parametersGetter,
             ComputationParameters service,
             BiConsumer<ComputationParameterUUIDs.ComputationParameterUUIDsBuilder, UUID> parametersSetter
     ) {
@@ -62,86 +64,101 @@ public class ComputationParametersService {
                                         DynamicMarginCalculationRestService dynamicMarginCalculationRestService,
                                         StateEstimationRestService stateEstimationService,
                                         PccMinRestService pccMinService,
-                                        UserAdminService userAdminService) {
+                                        UserAdminService userAdminService,
+                                        StudyServerExecutionService studyServerExecutionService) {
 
         this.userAdminService = userAdminService;
+        this.studyServerExecutionService = studyServerExecutionService;
         this.computationParametersDefinitions = List.of(
                 new ComputationParametersDefinition(
                         ComputationType.LOAD_FLOW,
                         StudyEntity::getLoadFlowParametersUuid,
                         UserProfileInfos::getLoadFlowParameterId,
+                        ComputationParameterUUIDs::loadFlowParametersUuid,
                     loadFlowRestService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::loadFlowParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.SHORT_CIRCUIT,
                         StudyEntity::getShortCircuitParametersUuid,
                         UserProfileInfos::getShortcircuitParameterId,
+                        ComputationParameterUUIDs::shortCircuitParametersUuid,
                         shortCircuitService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::shortCircuitParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.DYNAMIC_SIMULATION,
                         StudyEntity::getDynamicSimulationParametersUuid,
                         UserProfileInfos::getDynamicSimulationParameterId,
+                        ComputationParameterUUIDs::dynamicSimulationParametersUuid,
                         dynamicSimulationRestService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::dynamicSimulationParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.VOLTAGE_INITIALIZATION,
                         StudyEntity::getVoltageInitParametersUuid,
                         UserProfileInfos::getVoltageInitParameterId,
+                        ComputationParameterUUIDs::voltageInitParametersUuid,
                         voltageInitService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::voltageInitParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.SECURITY_ANALYSIS,
                         StudyEntity::getSecurityAnalysisParametersUuid,
                         UserProfileInfos::getSecurityAnalysisParameterId,
+                        ComputationParameterUUIDs::securityAnalysisParametersUuid,
                         securityAnalysisService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::securityAnalysisParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.SENSITIVITY_ANALYSIS,
                         StudyEntity::getSensitivityAnalysisParametersUuid,
                         UserProfileInfos::getSensitivityAnalysisParameterId,
+                        ComputationParameterUUIDs::sensitivityAnalysisParametersUuid,
                         sensitivityAnalysisService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::sensitivityAnalysisParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.DYNAMIC_SECURITY_ANALYSIS,
                         StudyEntity::getDynamicSecurityAnalysisParametersUuid,
                         UserProfileInfos::getDynamicSecurityAnalysisParameterId,
+                        ComputationParameterUUIDs::dynamicSecurityAnalysisParametersUuid,
                         dynamicSecurityAnalysisRestService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::dynamicSecurityAnalysisParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.DYNAMIC_MARGIN_CALCULATION,
                         StudyEntity::getDynamicMarginCalculationParametersUuid,
                         UserProfileInfos::getDynamicMarginCalculationParameterId,
+                        ComputationParameterUUIDs::dynamicMarginCalculationParametersUuid,
                         dynamicMarginCalculationRestService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::dynamicMarginCalculationParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.STATE_ESTIMATION,
                         StudyEntity::getStateEstimationParametersUuid,
                         userProfileInfos -> null,
+                        ComputationParameterUUIDs::stateEstimationParametersUuid,
                         stateEstimationService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::stateEstimationParametersUuid),
                 new ComputationParametersDefinition(
                         ComputationType.PCC_MIN,
                         StudyEntity::getPccMinParametersUuid,
                         UserProfileInfos::getPccMinParameterId,
+                        ComputationParameterUUIDs::pccMinParametersUuid,
                         pccMinService,
                         ComputationParameterUUIDs.ComputationParameterUUIDsBuilder::pccMinParametersUuid)
         );
     }
 
     public ComputationParameterUUIDs createDefaultComputationParameters(String userId, UserProfileInfos userProfileInfos) {
-        ComputationParameterUUIDs.ComputationParameterUUIDsBuilder parametersBuilder = ComputationParameterUUIDs.builder();
-        computationParametersDefinitions.forEach(definition ->
-                definition.parametersSetter().accept(parametersBuilder,
-                        definition.service.doCreateDefaultParameters(
-                                userId,
-                                userProfileInfos,
-                                definition.profileParameterGetter,
-                                definition.type().getLabel(),
-                                LOGGER
-                        )
-                )
+        // each computation server is called concurrently
+        List<UUID> parametersUuids = studyServerExecutionService.mapConcurrently(computationParametersDefinitions, definition ->
+                definition.service.doCreateDefaultParameters(
+                        userId,
+                        userProfileInfos,
+                        definition.profileParameterGetter,
+                        definition.type().getLabel(),
+                        LOGGER
+                ),
+                computationParametersDefinitions.size()
         );
+        ComputationParameterUUIDs.ComputationParameterUUIDsBuilder parametersBuilder = ComputationParameterUUIDs.builder();
+        for (int i = 0; i < computationParametersDefinitions.size(); i++) {
+            computationParametersDefinitions.get(i).parametersSetter().accept(parametersBuilder, parametersUuids.get(i));
+        }
         return parametersBuilder.build();
     }
 
@@ -162,6 +179,12 @@ public class ComputationParametersService {
         );
     }
 
+    public void deleteComputationsParameters(ComputationParameterUUIDs computationParameterUUIDs) {
+        computationParametersDefinitions.forEach(definition ->
+            definition.service().doDeleteComputationParameters(definition.parametersGetter().apply(computationParameterUUIDs), definition.type().getLabel(), LOGGER)
+        );
+    }
+
     public <T> boolean createOrUpdateParameters(
             StudyEntity studyEntity,
             T parameters,
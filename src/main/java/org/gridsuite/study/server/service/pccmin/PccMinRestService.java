@@ -8,6 +8,7 @@ package org.gridsuite.study.server.service.pccmin;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.*;
@@ -262,7 +263,7 @@ public class PccMinRestService extends AbstractComputationRestService implements
         return restTemplate.exchange(baseUri + path, HttpMethod.POST, httpEntity, UUID.class).getBody();
     }
 
-    public ResponseEntity<byte[]> exportPccMinResultsAsCsv(UUID resultUuid, String csvHeaders, UUID networkUuid, String variantId, Sort sort, String filters, String globalFilters) {
+    public void exportPccMinResultsAsCsv(UUID resultUuid, String csvHeaders, UUID networkUuid, String variantId, Sort sort, String filters, String globalFilters, HttpServletResponse response) {
         if (resultUuid == null) {
             throw new StudyException(NOT_FOUND, "Result of pcc min was not found");
         }
@@ -288,7 +289,7 @@ public class PccMinRestService extends AbstractComputationRestService implements
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<String> httpEntity = new HttpEntity<>(csvHeaders, headers);
-        return restTemplate.exchange(uri, HttpMethod.POST, httpEntity, byte[].class);
+        streamExport(uri, httpEntity, response);
     }
 
     public String getParameters(UUID parameterUuid) {
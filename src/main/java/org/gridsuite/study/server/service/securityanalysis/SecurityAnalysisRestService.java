@@ -8,6 +8,7 @@ package org.gridsuite.study.server.service.securityanalysis;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.NodeReceiver;
@@ -70,9 +71,9 @@ public class SecurityAnalysisRestService extends AbstractComputationRestService
         return restTemplate.getForObject(baseUri + path, String.class);
     }
 
-    public ResponseEntity<byte[]> getSecurityAnalysisResultCsv(UUID resultUuid, UUID networkUuid, String variantId,
-                                                               SecurityAnalysisResultType resultType, String globalFilters,
-                                                               String filters, Sort sort, String csvTranslations) {
+    public void getSecurityAnalysisResultCsv(UUID resultUuid, UUID networkUuid, String variantId,
+                                             SecurityAnalysisResultType resultType, String globalFilters,
+                                             String filters, Sort sort, String csvTranslations, HttpServletResponse response) {
         if (resultUuid == null) {
             throw new StudyException(NOT_FOUND, "Result for security analysis not found");
         }
@@ -85,7 +86,7 @@ public class SecurityAnalysisRestService extends AbstractComputationRestService
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<String> entity = new HttpEntity<>(csvTranslations, headers);
-        return restTemplate.exchange(baseUri + path, HttpMethod.POST, entity, byte[].class);
+        streamExport(restTemplate.getUriTemplateHandler().expand(baseUri + path), entity, response);
     }
 
     private String getPagedPathFromResultType(SecurityAnalysisResultType resultType) {
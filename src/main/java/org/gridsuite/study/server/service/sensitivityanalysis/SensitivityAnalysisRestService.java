@@ -8,6 +8,7 @@ package org.gridsuite.study.server.service.sensitivityanalysis;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.NodeReceiver;
@@ -125,9 +126,9 @@ public class SensitivityAnalysisRestService extends AbstractComputationRestServi
         return restTemplate.getForObject(uri, String.class);
     }
 
-    public ResponseEntity<byte[]> exportSensitivityResultsAsCsv(UUID resultUuid, SensitivityAnalysisCsvFileInfos sensitivityAnalysisCsvFileInfos,
-                                                                UUID networkUuid, String variantId, String selector, String filters,
-                                                                String globalFilters) {
+    public void exportSensitivityResultsAsCsv(UUID resultUuid, SensitivityAnalysisCsvFileInfos sensitivityAnalysisCsvFileInfos,
+                                              UUID networkUuid, String variantId, String selector, String filters,
+                                              String globalFilters, HttpServletResponse response) {
         if (resultUuid == null) {
             throw new StudyException(NOT_FOUND, "Result of sensitivity analysis was not found");
         }
@@ -151,7 +152,7 @@ public class SensitivityAnalysisRestService extends AbstractComputationRestServi
         headers.setContentType(MediaType.APPLICATION_JSON);
 
         HttpEntity<SensitivityAnalysisCsvFileInfos> httpEntity = new HttpEntity<>(sensitivityAnalysisCsvFileInfos, headers);
-        return restTemplate.exchange(uri, HttpMethod.POST, httpEntity, byte[].class);
+        streamExport(uri, httpEntity, response);
     }
 
     public String getSensitivityResultsFilterOptions(UUID resultUuid, String selector) {
@@ -10,6 +10,7 @@ package org.gridsuite.study.server.service.shortcircuit;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.shortcircuit.ShortCircuitParameters;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.gridsuite.study.server.dto.NodeReceiver;
@@ -142,14 +143,15 @@ public class ShortCircuitRestService extends AbstractComputationRestService impl
         return UriComponentsBuilder.fromPath(path).buildAndExpand(resultUuid).toUriString();
     }
 
-    public ResponseEntity<byte[]> getShortCircuitAnalysisCsvResultResource(URI resourcePath, String headersCsv) {
+    public void getShortCircuitAnalysisCsvResultResource(URI resourcePath, String headersCsv, HttpServletResponse response) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         HttpEntity<String> entity = new HttpEntity<>(headersCsv, headers);
-        return restTemplate.exchange(resourcePath, HttpMethod.POST, entity, byte[].class);
+        streamExport(resourcePath, entity, response);
     }
 
-    public ResponseEntity<byte[]> getShortCircuitAnalysisCsvResult(UUID resultUuid, UUID networkUuid, String variantId, String filters, String globalFilters, Sort sort, String headersCsv) {
+    public void getShortCircuitAnalysisCsvResult(UUID resultUuid, UUID networkUuid, String variantId, String filters, String globalFilters, Sort sort, String headersCsv,
+                                                 HttpServletResponse response) {
         String resultPath = getShortCircuitAnalysisCsvResultResourcePath(resultUuid);
         UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri + resultPath)
                 .queryParam(QUERY_PARAM_NETWORK_UUID, networkUuid)
@@ -158,7 +160,7 @@ public class ShortCircuitRestService extends AbstractComputationRestService impl
         addFiltersToQueryParams(builder, filters, globalFilters);
         addSortToQueryParams(builder, sort);
 
-        return getShortCircuitAnalysisCsvResultResource(builder.build().encode().toUri(), headersCsv); // need to encode because of filter JSON array
+        getShortCircuitAnalysisCsvResultResource(builder.build().encode().toUri(), headersCsv, response); // need to encode because of filter JSON array
     }
 
     public String getShortCircuitAnalysisResult(UUID resultUuid, FaultResultsMode mode) {
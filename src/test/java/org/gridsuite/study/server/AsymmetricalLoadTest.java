@@ -52,6 +52,7 @@ import org.springframework.http.MediaType;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.client.HttpClientErrorException;
@@ -724,8 +725,8 @@ class AsymmetricalLoadTest {
 
         // test csv failure
         assertThrows(HttpClientErrorException.NotFound.class, () ->
-            asymmetricalLoadRestService.exportAsymmetricalLoadResultsAsCsv(notFoundUuid, "", null, null, Sort.unsorted(), null, null));
+            asymmetricalLoadRestService.exportAsymmetricalLoadResultsAsCsv(notFoundUuid, "", null, null, Sort.unsorted(), null, null, new MockHttpServletResponse()));
         assertThrows(StudyException.class, () ->
-            asymmetricalLoadRestService.exportAsymmetricalLoadResultsAsCsv(null, "", null, null, Sort.unsorted(), null, null));
+            asymmetricalLoadRestService.exportAsymmetricalLoadResultsAsCsv(null, "", null, null, Sort.unsorted(), null, null, new MockHttpServletResponse()));
     }
 }
@@ -17,6 +17,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.serde.XMLImporter;
 import com.powsybl.network.store.iidm.impl.NetworkFactoryImpl;
+import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.WithAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -511,4 +512,40 @@ class EquipmentInfosServiceTests implements WithAssertions {
                     .thenComparing(e -> e.getId().toLowerCase())
             ).toList());
     }
+
+    @Test
+    void testSearchSubstringsWithAndWithoutNgrams() {
+        List<EquipmentInfos> equipmentInfosList = Stream.of("FFR1AA1  FFR2AA1  2", "ffr1aa1_load", "LOAD_ffr1", "Générateur_ÉOLIEN_FFR", "other")
+            .map(id -> EquipmentInfos.builder().variantId(VariantManagerConstants.INITIAL_VARIANT_ID).networkUuid(NETWORK_UUID).id(id).name(id).type("LOAD").build())
+            .toList();
+        equipmentInfosList.forEach(equipmentInfosService::addEquipmentInfos);
+
+        // short inputs are searched in the ngram fields, the longest ones with a wildcard query
+        Map<String, List<String>> expectedIdsByInput = Map.of(
+            "f", List.of("ffr1aa1_load", "FFR1AA1  FFR2AA1  2", "Générateur_ÉOLIEN_FFR", "LOAD_ffr1"),
+            "FR1", List.of("ffr1aa1_load", "FFR1AA1  FFR2AA1  2", "LOAD_ffr1"),
+            "1  ffr", List.of("FFR1AA1  FFR2AA1  2"),
+            "eolien", List.of("Générateur_ÉOLIEN_FFR"),
+            "generateur_eolien", List.of("Générateur_ÉOLIEN_FFR"),
+            "FFR1AA1  FFR2AA1  2", List.of("FFR1AA1  FFR2AA1  2"),
+            "ffr1aa1_load_2", List.of()
+        );
+        expectedIdsByInput.forEach((input, expectedIds) -> {
+            for (EquipmentInfosService.FieldSelector fieldSelector : EquipmentInfosService.FieldSelector.values()) {
+                assertThat(equipmentInfosService.searchEquipments(NETWORK_UUID, VariantManagerConstants.INITIAL_VARIANT_ID, input, fieldSelector, null))
+                    .as(input + " in " + fieldSelector)
+                    .map(EquipmentInfos::getId)
+                    // same type : the equipments starting with the input come first
+                    .isEqualTo(expectedIds.stream()
+                        .sorted(Comparator.comparing((String id) -> StringUtils.stripAccents(id.toLowerCase()).startsWith(StringUtils.stripAccents(input.toLowerCase())) ? 0 : 1)
+                            .thenComparing(id -> StringUtils.stripAccents(id.toLowerCase())))
+                        .toList());
+            }
+        });
+
+        // same result when filtering on the equipment type
+        assertThat(equipmentInfosService.searchEquipments(NETWORK_UUID, VariantManagerConstants.INITIAL_VARIANT_ID, "load", EquipmentInfosService.FieldSelector.ID, "LOAD"))
+            .map(EquipmentInfos::getId)
+            .containsExactly("LOAD_ffr1", "ffr1aa1_load");
+    }
 }
@@ -0,0 +1,130 @@
+/*
+  Copyright (c) 2026, RTE (http://www.rte-france.com)
+  This Source Code Form is subject to the terms of the Mozilla Public
+  License, v. 2.0. If a copy of the MPL was not distributed with this
+  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server;
+
+import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.gridsuite.study.server.dto.VoltageLevelInfos;
+import org.gridsuite.study.server.dto.elasticsearch.EquipmentInfos;
+import org.gridsuite.study.server.dto.elasticsearch.TombstonedEquipmentInfos;
+import org.gridsuite.study.server.elasticsearch.EquipmentInfosRepository;
+import org.gridsuite.study.server.elasticsearch.EquipmentInfosService;
+import org.gridsuite.study.server.elasticsearch.TombstonedEquipmentInfosRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compare the variants deletion of the equipment indices, one request per index for all the variants,
+ * with the previous deletion, one request per variant and per index
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ContextConfigurationWithTestChannel
+class EquipmentInfosVariantsDeletionTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EquipmentInfosVariantsDeletionTests.class);
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final int VARIANT_COUNT = 20;
+    private static final int EQUIPMENT_COUNT = 50;
+
+    @Autowired
+    private EquipmentInfosService equipmentInfosService;
+
+    @Autowired
+    private EquipmentInfosRepository equipmentInfosRepository;
+
+    @Autowired
+    private TombstonedEquipmentInfosRepository tombstonedEquipmentInfosRepository;
+
+    @MockitoSpyBean
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @AfterEach
+    void tearDown() {
+        equipmentInfosService.deleteAllByNetworkUuid(NETWORK_UUID);
+    }
+
+    @Test
+    void testDeleteVariantsInOneRequestPerIndex() {
+        List<String> variantIds = createVariants();
+
+        Mockito.clearInvocations(elasticsearchOperations);
+        long start = System.nanoTime();
+        variantIds.forEach(variantId -> {
+            equipmentInfosRepository.deleteAllByNetworkUuidAndVariantId(NETWORK_UUID, variantId);
+            tombstonedEquipmentInfosRepository.deleteAllByNetworkUuidAndVariantId(NETWORK_UUID, variantId);
+        });
+        Duration perVariantDuration = Duration.ofNanos(System.nanoTime() - start);
+        long perVariantRequestCount = countRequests();
+        assertVariantsDeleted();
+
+        variantIds = createVariants();
+
+        Mockito.clearInvocations(elasticsearchOperations);
+        start = System.nanoTime();
+        equipmentInfosService.deleteVariants(NETWORK_UUID, variantIds);
+        Duration batchedDuration = Duration.ofNanos(System.nanoTime() - start);
+        long batchedRequestCount = countRequests();
+        assertVariantsDeleted();
+
+        LOGGER.info("Deletion of {} variants : {} requests in {} ms per variant, {} requests in {} ms batched", VARIANT_COUNT,
+            perVariantRequestCount, perVariantDuration.toMillis(), batchedRequestCount, batchedDuration.toMillis());
+        assertEquals(2, batchedRequestCount);
+        assertTrue(perVariantRequestCount >= 2L * VARIANT_COUNT);
+    }
+
+    @Test
+    void testDeleteNoVariant() {
+        Mockito.clearInvocations(elasticsearchOperations);
+
+        equipmentInfosService.deleteVariants(NETWORK_UUID, List.of());
+
+        assertEquals(0, countRequests());
+    }
+
+    private List<String> createVariants() {
+        List<String> variantIds = IntStream.range(0, VARIANT_COUNT).mapToObj(variant -> "variant_" + variant).toList();
+        Stream.concat(Stream.of(VariantManagerConstants.INITIAL_VARIANT_ID), variantIds.stream()).forEach(variantId -> {
+            equipmentInfosRepository.saveAll(IntStream.range(0, EQUIPMENT_COUNT).mapToObj(equipment ->
+                EquipmentInfos.builder().networkUuid(NETWORK_UUID).id("load" + equipment).name("load" + equipment).type(IdentifiableType.LOAD.name()).variantId(variantId)
+                    .voltageLevels(Set.of(VoltageLevelInfos.builder().id("vl").name("vl").build())).build()).toList());
+            tombstonedEquipmentInfosRepository.save(TombstonedEquipmentInfos.builder().networkUuid(NETWORK_UUID).id("gen").variantId(variantId).build());
+        });
+        return variantIds;
+    }
+
+    private void assertVariantsDeleted() {
+        // the equipments of the initial variant are kept
+        assertEquals(EQUIPMENT_COUNT, equipmentInfosService.getEquipmentInfosCount(NETWORK_UUID));
+        assertEquals(1, equipmentInfosService.getTombstonedEquipmentInfosCount(NETWORK_UUID));
+        assertTrue(equipmentInfosService.findAllEquipmentInfos(NETWORK_UUID).stream().allMatch(e -> VariantManagerConstants.INITIAL_VARIANT_ID.equals(e.getVariantId())));
+    }
+
+    private long countRequests() {
+        return Mockito.mockingDetails(elasticsearchOperations).getInvocations().stream()
+            .map(Invocation::getMethod)
+            .filter(method -> method.getName().startsWith("delete") || method.getName().startsWith("search") || method.getName().startsWith("count"))
+            .count();
+    }
+}
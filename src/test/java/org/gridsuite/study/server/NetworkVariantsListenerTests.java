@@ -71,6 +71,10 @@ class NetworkVariantsListenerTests {
         listener.onPropertyReplaced(null, null, null, null);
         listener.onPropertyRemoved(null, null, null);
 
+        // indexed equipments deleted once all the variants are removed
+        assertEquals(4, equipmentInfosService.findAllEquipmentInfos(NETWORK_UUID).size());
+        listener.deleteRemovedVariants();
+
         List<EquipmentInfos> equipmentInfos = equipmentInfosService.findAllEquipmentInfos(NETWORK_UUID);
         assertEquals(2, equipmentInfos.size());
         assertEquals(2, equipmentInfos.stream().filter(eq -> eq.getVariantId().equals(VariantManagerConstants.INITIAL_VARIANT_ID)).count());
@@ -50,6 +50,7 @@ import org.springframework.http.MediaType;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.client.HttpClientErrorException;
@@ -690,8 +691,8 @@ class PccMinTest {
 
         // test csv failure
         assertThrows(HttpClientErrorException.NotFound.class, () ->
-            pccMinService.exportPccMinResultsAsCsv(notFoundUuid, "", null, null, Sort.unsorted(), null, null));
+            pccMinService.exportPccMinResultsAsCsv(notFoundUuid, "", null, null, Sort.unsorted(), null, null, new MockHttpServletResponse()));
         assertThrows(StudyException.class, () ->
-            pccMinService.exportPccMinResultsAsCsv(null, "", null, null, Sort.unsorted(), null, null));
+            pccMinService.exportPccMinResultsAsCsv(null, "", null, null, Sort.unsorted(), null, null, new MockHttpServletResponse()));
     }
 }
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server;
+
+import com.powsybl.network.store.client.NetworkStoreService;
+import com.vladmihalcea.sql.SQLStatementCountValidator;
+import org.gridsuite.study.server.networkmodificationtree.dto.*;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
+import org.gridsuite.study.server.repository.StudyEntity;
+import org.gridsuite.study.server.repository.StudyRepository;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkEntity;
+import org.gridsuite.study.server.service.NetworkModificationService;
+import org.gridsuite.study.server.service.NetworkModificationTreeService;
+import org.gridsuite.study.server.utils.TestUtils;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.gridsuite.study.server.utils.TestUtils.createModificationNodeInfo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check the study tree is assembled with a number of SQL queries independent of its size
+ */
+@DisableElasticsearch
+@SpringBootTest
+@ContextConfigurationWithTestChannel
+class StudyTreeLoadingTest {
+
+    private static final String CASE_NAME = "caseName";
+    private static final String CASE_FORMAT = "caseFormat";
+
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private NetworkModificationTreeService networkModificationTreeService;
+    @Autowired
+    private TestUtils testUtils;
+
+    @MockitoBean
+    private NetworkModificationService networkModificationService;
+    @MockitoBean
+    private NetworkStoreService networkStoreService;
+    @MockitoBean
+    private OutputDestination output;
+
+    @Test
+    void testStudyTreeSelectCountDoesNotDependOnTreeSize() {
+        StudyEntity smallStudy = createStudyWithNodes(2, 2);
+        StudyEntity bigStudy = createStudyWithNodes(10, 5);
+        UUID smallRootNetworkUuid = testUtils.getOneRootNetwork(smallStudy.getId()).getId();
+        UUID bigRootNetworkUuid = testUtils.getOneRootNetwork(bigStudy.getId()).getId();
+
+        SQLStatementCountValidator.reset();
+        RootNode smallTree = networkModificationTreeService.getStudyTree(smallStudy.getId(), smallRootNetworkUuid);
+        long smallTreeSelectCount = SQLStatementCountValidator.getSelectCount();
+
+        SQLStatementCountValidator.reset();
+        RootNode bigTree = networkModificationTreeService.getStudyTree(bigStudy.getId(), bigRootNetworkUuid);
+        long bigTreeSelectCount = SQLStatementCountValidator.getSelectCount();
+
+        assertEquals(4, countNodes(smallTree) - 1);
+        assertEquals(50, countNodes(bigTree) - 1);
+        assertEquals(smallTreeSelectCount, bigTreeSelectCount);
+    }
+
+    @Test
+    void testStudySubtreeIsCompletedWithRootNetworkInfos() {
+        StudyEntity study = createStudyWithNodes(3, 4);
+        RootNetworkEntity rootNetworkEntity = testUtils.getOneRootNetwork(study.getId());
+        RootNode studyTree = networkModificationTreeService.getStudyTree(study.getId(), rootNetworkEntity.getId());
+        assertEquals(rootNetworkEntity.getReportUuid(), studyTree.getReportUuid());
+
+        NetworkModificationNode branchHead = (NetworkModificationNode) studyTree.getChildren().getFirst();
+        NetworkModificationNode subtree = (NetworkModificationNode) networkModificationTreeService.getStudySubtree(study.getId(), branchHead.getId(), rootNetworkEntity.getId());
+        assertEquals(branchHead.getId(), subtree.getId());
+        assertEquals(4, countNodes(subtree));
+        assertNotNull(subtree.getNodeBuildStatus());
+        assertNotNull(subtree.getComputationsReports());
+        assertNotNull(subtree.getModificationReports());
+    }
+
+    private StudyEntity createStudyWithNodes(int branchCount, int branchDepth) {
+        StudyEntity studyEntity = TestUtils.createDummyStudy(UUID.randomUUID(), UUID.randomUUID(), CASE_NAME, CASE_FORMAT, UUID.randomUUID());
+        studyRepository.save(studyEntity);
+        NodeEntity rootNodeEntity = networkModificationTreeService.createRoot(studyEntity);
+        for (int branch = 0; branch < branchCount; branch++) {
+            UUID parentUuid = rootNodeEntity.getIdNode();
+            for (int depth = 0; depth < branchDepth; depth++) {
+                parentUuid = networkModificationTreeService.createNode(studyEntity, parentUuid,
+                    createModificationNodeInfo("node_" + branch + "_" + depth), InsertMode.CHILD, null).getId();
+            }
+        }
+        return studyEntity;
+    }
+
+    private static int countNodes(AbstractNode node) {
+        return 1 + node.getChildren().stream().mapToInt(StudyTreeLoadingTest::countNodes).sum();
+    }
+}
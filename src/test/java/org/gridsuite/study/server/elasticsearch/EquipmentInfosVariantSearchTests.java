@@ -0,0 +1,157 @@
+/*
+  Copyright (c) 2026, RTE (http://www.rte-france.com)
+  This Source Code Form is subject to the terms of the Mozilla Public
+  License, v. 2.0. If a copy of the MPL was not distributed with this
+  file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.VoltageLevelInfos;
+import org.gridsuite.study.server.dto.elasticsearch.EquipmentInfos;
+import org.gridsuite.study.server.dto.elasticsearch.TombstonedEquipmentInfos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compare the single query search of the equipments of a variant with the previous search, filtering in memory
+ * the modified and tombstoned equipments of the variant
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ContextConfigurationWithTestChannel
+class EquipmentInfosVariantSearchTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EquipmentInfosVariantSearchTests.class);
+
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final List<String> VARIANT_IDS = List.of("3c2e4d46-7b43-4d6b-8d55-8f52b0a8f9e1", "variant_2", "Variant_3");
+    private static final List<String> TYPES = List.of("LOAD", "GENERATOR", "LINE", "SWITCH");
+    private static final int EQUIPMENT_COUNT = 300;
+    private static final int SEARCH_COUNT = 10;
+
+    @Autowired
+    private EquipmentInfosService equipmentInfosService;
+
+    @Autowired
+    private EquipmentInfosRepository equipmentInfosRepository;
+
+    @Autowired
+    private TombstonedEquipmentInfosRepository tombstonedEquipmentInfosRepository;
+
+    @AfterEach
+    void tearDown() {
+        equipmentInfosService.deleteAllByNetworkUuid(NETWORK_UUID);
+    }
+
+    @Test
+    void testVariantSearchParity() {
+        createMultiVariantsFixture();
+
+        for (String variantId : VARIANT_IDS) {
+            for (String userInput : List.of("eq_1", "name_2", "9")) {
+                for (EquipmentInfosService.FieldSelector fieldSelector : EquipmentInfosService.FieldSelector.values()) {
+                    for (String equipmentType : Arrays.asList(null, "LOAD", "SWITCH")) {
+                        Set<EquipmentInfos> expected = new HashSet<>(legacySearch(variantId, userInput, fieldSelector, equipmentType));
+                        List<EquipmentInfos> result = equipmentInfosService.searchEquipments(NETWORK_UUID, variantId, userInput, fieldSelector, equipmentType);
+                        assertEquals(expected.size(), result.size(), "Search '" + userInput + "' by " + fieldSelector + " of " + equipmentType + " in " + variantId);
+                        assertEquals(expected, new HashSet<>(result), "Search '" + userInput + "' by " + fieldSelector + " of " + equipmentType + " in " + variantId);
+                    }
+                }
+            }
+        }
+
+        String variantId = VARIANT_IDS.getFirst();
+        long legacyDuration = measure(() -> legacySearch(variantId, "eq_", EquipmentInfosService.FieldSelector.ID, null));
+        long duration = measure(() -> equipmentInfosService.searchEquipments(NETWORK_UUID, variantId, "eq_", EquipmentInfosService.FieldSelector.ID, null));
+        LOGGER.info("Search of a variant equipments : {} ms with in memory filtering, {} ms in a single query", legacyDuration, duration);
+    }
+
+    @Test
+    void testVariantSearchPageIsFull() {
+        // every equipment modified in the variant : each one is indexed twice
+        List<EquipmentInfos> equipments = new ArrayList<>();
+        IntStream.range(0, 500).forEach(i -> {
+            equipments.add(createEquipmentInfos(i, VariantManagerConstants.INITIAL_VARIANT_ID, "name_" + i));
+            equipments.add(createEquipmentInfos(i, VARIANT_IDS.getFirst(), "modified_name_" + i));
+        });
+        equipmentInfosRepository.saveAll(equipments);
+
+        List<EquipmentInfos> result = equipmentInfosService.searchEquipments(NETWORK_UUID, VARIANT_IDS.getFirst(), "eq_", EquipmentInfosService.FieldSelector.ID, null);
+
+        assertEquals(400, result.size());
+        assertEquals(400, result.stream().map(EquipmentInfos::getId).distinct().count());
+        assertTrue(result.stream().allMatch(e -> VARIANT_IDS.getFirst().equals(e.getVariantId())));
+    }
+
+    private void createMultiVariantsFixture() {
+        List<EquipmentInfos> equipments = new ArrayList<>();
+        List<TombstonedEquipmentInfos> tombstonedEquipments = new ArrayList<>();
+        IntStream.range(0, EQUIPMENT_COUNT).forEach(i -> equipments.add(createEquipmentInfos(i, VariantManagerConstants.INITIAL_VARIANT_ID, "name_" + i)));
+        for (int v = 0; v < VARIANT_IDS.size(); v++) {
+            String variantId = VARIANT_IDS.get(v);
+            for (int i = v; i < EQUIPMENT_COUNT; i += 7) {
+                // modified, sometimes renamed
+                equipments.add(createEquipmentInfos(i, variantId, i % 2 == 0 ? "name_" + i : "renamed_" + i));
+            }
+            for (int i = v + 3; i < EQUIPMENT_COUNT; i += 11) {
+                tombstonedEquipments.add(TombstonedEquipmentInfos.builder().networkUuid(NETWORK_UUID).id("eq_" + i).variantId(variantId).build());
+                if (i % 3 == 0) {
+                    // created again after its removal
+                    equipments.add(createEquipmentInfos(i, variantId, "name_" + i));
+                }
+            }
+            for (int i = EQUIPMENT_COUNT; i < EQUIPMENT_COUNT + 20; i++) {
+                // created in the variant
+                equipments.add(createEquipmentInfos(i + v * 100, variantId, "name_" + (i + v * 100)));
+            }
+        }
+        equipmentInfosRepository.saveAll(equipments);
+        tombstonedEquipmentInfosRepository.saveAll(tombstonedEquipments);
+    }
+
+    private static EquipmentInfos createEquipmentInfos(int i, String variantId, String name) {
+        return EquipmentInfos.builder().networkUuid(NETWORK_UUID).id("eq_" + i).name(name).variantId(variantId).type(TYPES.get(i % TYPES.size()))
+            .voltageLevels(Set.of(VoltageLevelInfos.builder().id("vl").name("vl").build())).build();
+    }
+
+    /**
+     * Previous search : the initial and variant equipments in one query, then the tombstoned ones in a second query,
+     * filtered in memory
+     */
+    private List<EquipmentInfos> legacySearch(String variantId, String userInput, EquipmentInfosService.FieldSelector fieldSelector, String equipmentType) {
+        BoolQuery query = equipmentInfosService.buildSearchEquipmentsQuery(userInput, fieldSelector, NETWORK_UUID, variantId, equipmentType);
+        List<EquipmentInfos> equipmentInfos = equipmentInfosService.searchEquipments(query, List.of());
+        Map<String, List<EquipmentInfos>> groupedById = equipmentInfos.stream().collect(Collectors.groupingBy(EquipmentInfos::getId));
+        groupedById.values().stream()
+            .filter(equipments -> equipments.size() > 1)
+            .forEach(equipments -> equipments.stream().filter(e -> VariantManagerConstants.INITIAL_VARIANT_ID.equals(e.getVariantId())).forEach(equipmentInfos::remove));
+        Set<String> tombstonedEquipmentIds = equipmentInfosService.findTombstonedEquipmentInfosByIdIn(NETWORK_UUID, variantId, equipmentInfos.stream().map(EquipmentInfos::getId).toList())
+            .stream()
+            .map(TombstonedEquipmentInfos::getId)
+            .collect(Collectors.toSet());
+        return equipmentInfos.stream()
+            .filter(e -> !tombstonedEquipmentIds.contains(e.getId()) || !VariantManagerConstants.INITIAL_VARIANT_ID.equals(e.getVariantId()))
+            .toList();
+    }
+
+    private static long measure(Supplier<List<EquipmentInfos>> search) {
+        search.get();
+        long start = System.nanoTime();
+        IntStream.range(0, SEARCH_COUNT).forEach(i -> search.get());
+        return Duration.ofNanos(System.nanoTime() - start).toMillis() / SEARCH_COUNT;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.gridsuite.study.server.notification.NotificationService.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check the node update notifications sent in a burst are merged without changing the order of the study notifications
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {"study.notifications.coalescing-window=500ms"})
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class StudyUpdateCoalescerTest {
+    private static final String STUDY_UPDATE_DESTINATION = "study.update";
+    private static final long TIMEOUT = 1000;
+
+    private static final UUID STUDY_UUID = UUID.randomUUID();
+    private static final UUID OTHER_STUDY_UUID = UUID.randomUUID();
+    private static final UUID ROOT_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID NODE_UUID_1 = UUID.randomUUID();
+    private static final UUID NODE_UUID_2 = UUID.randomUUID();
+    private static final UUID NODE_UUID_3 = UUID.randomUUID();
+
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private OutputDestination output;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        output.clear();
+    }
+
+    @Test
+    void testNodeUpdatesAreMerged() {
+        double receivedBefore = getCount("study.notifications.coalescing.received");
+        double sentBefore = getCount("study.notifications.coalescing.sent");
+
+        notificationService.emitNodesChanged(STUDY_UUID, List.of(NODE_UUID_1));
+        notificationService.emitNodesChanged(STUDY_UUID, List.of(NODE_UUID_2, NODE_UUID_1));
+        notificationService.emitNodesChanged(OTHER_STUDY_UUID, List.of(NODE_UUID_3));
+        notificationService.emitNodesChanged(STUDY_UUID, List.of(NODE_UUID_3));
+
+        // nothing sent before the end of the window
+        assertNull(output.receive(100, STUDY_UPDATE_DESTINATION));
+
+        MessageHeaders headers = output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION).getHeaders();
+        MessageHeaders otherStudyHeaders = output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION).getHeaders();
+        if (OTHER_STUDY_UUID.equals(headers.get(HEADER_STUDY_UUID))) {
+            MessageHeaders tmp = headers;
+            headers = otherStudyHeaders;
+            otherStudyHeaders = tmp;
+        }
+        assertEquals(STUDY_UUID, headers.get(HEADER_STUDY_UUID));
+        assertEquals(NODE_UPDATED, headers.get(HEADER_UPDATE_TYPE));
+        assertEquals(List.of(NODE_UUID_1, NODE_UUID_2, NODE_UUID_3), headers.get(HEADER_NODES));
+        assertEquals(OTHER_STUDY_UUID, otherStudyHeaders.get(HEADER_STUDY_UUID));
+        assertEquals(List.of(NODE_UUID_3), otherStudyHeaders.get(HEADER_NODES));
+        assertNull(output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION));
+
+        assertEquals(4, getCount("study.notifications.coalescing.received") - receivedBefore);
+        assertEquals(2, getCount("study.notifications.coalescing.sent") - sentBefore);
+    }
+
+    @Test
+    void testStudyNotificationsOrderIsKept() {
+        notificationService.emitNodeBuildStatusUpdated(STUDY_UUID, List.of(NODE_UUID_1), ROOT_NETWORK_UUID);
+        notificationService.emitNodeBuildStatusUpdated(STUDY_UUID, List.of(NODE_UUID_2), ROOT_NETWORK_UUID);
+        // not merged with the previous ones : other root network
+        notificationService.emitNodeBuildStatusUpdated(STUDY_UUID, List.of(NODE_UUID_3), UUID.randomUUID());
+        // not merged : sent immediately after the pending notifications of the study
+        notificationService.emitNodeEdited(STUDY_UUID, NODE_UUID_1);
+        notificationService.emitNodeBuildStatusUpdated(STUDY_UUID, List.of(NODE_UUID_1), ROOT_NETWORK_UUID);
+
+        Message<byte[]> message = output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION);
+        assertEquals(NODE_BUILD_STATUS_UPDATED, message.getHeaders().get(HEADER_UPDATE_TYPE));
+        assertEquals(ROOT_NETWORK_UUID, message.getHeaders().get(HEADER_ROOT_NETWORK_UUID));
+        assertEquals(List.of(NODE_UUID_1, NODE_UUID_2), message.getHeaders().get(HEADER_NODES));
+
+        message = output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION);
+        assertEquals(NODE_BUILD_STATUS_UPDATED, message.getHeaders().get(HEADER_UPDATE_TYPE));
+        assertEquals(List.of(NODE_UUID_3), message.getHeaders().get(HEADER_NODES));
+
+        message = output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION);
+        assertEquals(NODE_EDITED, message.getHeaders().get(HEADER_UPDATE_TYPE));
+
+        message = output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION);
+        assertEquals(NODE_BUILD_STATUS_UPDATED, message.getHeaders().get(HEADER_UPDATE_TYPE));
+        assertEquals(List.of(NODE_UUID_1), message.getHeaders().get(HEADER_NODES));
+        assertNull(output.receive(TIMEOUT, STUDY_UPDATE_DESTINATION));
+    }
+
+    private double getCount(String counterName) {
+        return meterRegistry.find(counterName).tag("updateType", NODE_UPDATED).counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+}
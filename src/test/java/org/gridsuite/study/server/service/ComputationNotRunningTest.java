@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.ComputationType;
+import org.gridsuite.study.server.dto.NodeReceiver;
+import org.gridsuite.study.server.error.StudyBusinessErrorCode;
+import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.networkmodificationtree.dto.InsertMode;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
+import org.gridsuite.study.server.networkmodificationtree.entities.RootNetworkNodeInfoEntity;
+import org.gridsuite.study.server.notification.NotificationService;
+import org.gridsuite.study.server.repository.StudyEntity;
+import org.gridsuite.study.server.repository.StudyRepository;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
+import org.gridsuite.study.server.service.loadflow.LoadFlowRestService;
+import org.gridsuite.study.server.service.securityanalysis.SecurityAnalysisRestService;
+import org.gridsuite.study.server.service.sensitivityanalysis.SensitivityAnalysisRestService;
+import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
+import org.gridsuite.study.server.utils.TestUtils;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.gridsuite.study.server.StudyConstants.HEADER_ERROR_MESSAGE;
+import static org.gridsuite.study.server.StudyConstants.HEADER_RECEIVER;
+import static org.gridsuite.study.server.utils.TestUtils.createModificationNodeInfo;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check the computations known to be over from the consumed result and failure messages are consistent with the
+ * status given by the computation servers
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class ComputationNotRunningTest {
+    @Autowired
+    private RootNetworkNodeInfoService rootNetworkNodeInfoService;
+    @Autowired
+    private ConsumerService consumerService;
+    @Autowired
+    private NetworkModificationTreeService networkModificationTreeService;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
+    @Autowired
+    private LoadFlowRestService loadFlowRestService;
+    @Autowired
+    private SecurityAnalysisRestService securityAnalysisRestService;
+    @Autowired
+    private SensitivityAnalysisRestService sensitivityAnalysisRestService;
+    @Autowired
+    private VoltageInitRestService voltageInitRestService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    private WireMockServer wireMockServer;
+    private UUID nodeUuid;
+    private UUID rootNetworkUuid;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        loadFlowRestService.setBaseUri(wireMockServer.baseUrl());
+        securityAnalysisRestService.setBaseUri(wireMockServer.baseUrl());
+        sensitivityAnalysisRestService.setBaseUri(wireMockServer.baseUrl());
+        voltageInitRestService.setBaseUri(wireMockServer.baseUrl());
+
+        StudyEntity study = studyRepository.save(TestUtils.createDummyStudy(UUID.randomUUID(), UUID.randomUUID(), "caseName", "caseFormat", UUID.randomUUID()));
+        NodeEntity rootNode = networkModificationTreeService.createRoot(study);
+        nodeUuid = networkModificationTreeService.createNode(study, rootNode.getIdNode(), createModificationNodeInfo("node"), InsertMode.CHILD, null).getId();
+        rootNetworkUuid = study.getFirstRootNetwork().getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+        studyRepository.findAll().forEach(s -> networkModificationTreeService.doDeleteTree(s.getId()));
+        rootNetworkNodeInfoRepository.deleteAll();
+        studyRepository.deleteAll();
+    }
+
+    @Test
+    void testComputationNotRunningIsConsistentWithTheComputationServers() throws JsonProcessingException {
+        UUID loadFlowResultUuid = launchComputation(ComputationType.LOAD_FLOW, "\"RUNNING\"");
+        UUID securityAnalysisResultUuid = launchComputation(ComputationType.SECURITY_ANALYSIS, "\"RUNNING\"");
+        UUID sensitivityAnalysisResultUuid = launchComputation(ComputationType.SENSITIVITY_ANALYSIS, "RUNNING");
+        UUID voltageInitResultUuid = launchComputation(ComputationType.VOLTAGE_INITIALIZATION, "RUNNING");
+        assertConsistentWithTheComputationServers(4);
+
+        // the load flow result and the security analysis failure are received, the other computations are still running
+        stubStatus(loadFlowResultUuid, "\"CONVERGED\"");
+        consumeResult(ComputationType.LOAD_FLOW, loadFlowResultUuid);
+        stubStatus(securityAnalysisResultUuid, "\"NOT_DONE\"");
+        consumeFailure(ComputationType.SECURITY_ANALYSIS, securityAnalysisResultUuid);
+        assertConsistentWithTheComputationServers(2);
+
+        stubStatus(sensitivityAnalysisResultUuid, "COMPLETED");
+        consumeResult(ComputationType.SENSITIVITY_ANALYSIS, sensitivityAnalysisResultUuid);
+        assertConsistentWithTheComputationServers(1);
+
+        stubStatus(voltageInitResultUuid, "NOT_DONE");
+        consumeFailure(ComputationType.VOLTAGE_INITIALIZATION, voltageInitResultUuid);
+        assertConsistentWithTheComputationServers(0);
+
+        // the relaunched security analysis is running again, whatever was received for its previous result
+        UUID relaunchedSecurityAnalysisResultUuid = launchComputation(ComputationType.SECURITY_ANALYSIS, "\"RUNNING\"");
+        assertConsistentWithTheComputationServers(1);
+
+        stubStatus(relaunchedSecurityAnalysisResultUuid, "\"CONVERGED\"");
+        consumeResult(ComputationType.SECURITY_ANALYSIS, relaunchedSecurityAnalysisResultUuid);
+        assertConsistentWithTheComputationServers(0);
+    }
+
+    private UUID launchComputation(ComputationType computationType, String serverStatus) {
+        UUID resultUuid = UUID.randomUUID();
+        stubStatus(resultUuid, serverStatus);
+        rootNetworkNodeInfoService.updateComputationResultUuid(nodeUuid, rootNetworkUuid, resultUuid, computationType);
+        return resultUuid;
+    }
+
+    private void consumeResult(ComputationType computationType, UUID resultUuid) throws JsonProcessingException {
+        consumerService.consumeCalculationResult(MessageBuilder.createMessage("", createHeaders(resultUuid, Map.of())), computationType);
+    }
+
+    private void consumeFailure(ComputationType computationType, UUID resultUuid) throws JsonProcessingException {
+        consumerService.consumeCalculationFailed(MessageBuilder.createMessage("", createHeaders(resultUuid, Map.of(HEADER_ERROR_MESSAGE, "failure"))), computationType);
+    }
+
+    private MessageHeaders createHeaders(UUID resultUuid, Map<String, Object> otherHeaders) throws JsonProcessingException {
+        Map<String, Object> headers = new HashMap<>(otherHeaders);
+        headers.put("resultUuid", resultUuid.toString());
+        headers.put(HEADER_RECEIVER, objectMapper.writeValueAsString(new NodeReceiver(nodeUuid, rootNetworkUuid)));
+        return new MessageHeaders(headers);
+    }
+
+    /**
+     * Compare the check of the study server with the ground truth given by the computation servers, requested one after
+     * another, and check only the computations not known to be over were requested by the study server
+     */
+    private void assertConsistentWithTheComputationServers(int expectedStatusRequestCount) {
+        RootNetworkNodeInfoEntity rootNetworkNodeInfoEntity = rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, rootNetworkUuid).orElseThrow();
+        boolean expectedRunning = isRunning(() -> {
+            loadFlowRestService.assertLoadFlowNotRunning(rootNetworkNodeInfoEntity.getLoadFlowResultUuid());
+            securityAnalysisRestService.assertSecurityAnalysisNotRunning(rootNetworkNodeInfoEntity.getSecurityAnalysisResultUuid());
+            sensitivityAnalysisRestService.assertSensitivityAnalysisNotRunning(rootNetworkNodeInfoEntity.getSensitivityAnalysisResultUuid());
+            voltageInitRestService.assertVoltageInitNotRunning(rootNetworkNodeInfoEntity.getVoltageInitResultUuid());
+        });
+        wireMockServer.resetRequests();
+
+        assertEquals(expectedRunning, isRunning(() -> rootNetworkNodeInfoService.assertComputationNotRunning(rootNetworkUuid, List.of(nodeUuid))));
+        if (!expectedRunning) {
+            // a running computation skips the checks not started yet, so all the status are only requested when none is running
+            wireMockServer.verify(expectedStatusRequestCount, WireMock.getRequestedFor(WireMock.urlPathMatching("/v1/results/.*/status")));
+        }
+        wireMockServer.resetRequests();
+    }
+
+    private static boolean isRunning(Runnable computationNotRunningAssertion) {
+        try {
+            computationNotRunningAssertion.run();
+            return false;
+        } catch (StudyException e) {
+            assertEquals(StudyBusinessErrorCode.COMPUTATION_RUNNING, e.getBusinessErrorCode());
+            return true;
+        }
+    }
+
+    private void stubStatus(UUID resultUuid, String status) {
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/results/" + resultUuid + "/status"))
+            .willReturn(WireMock.ok()
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(status)));
+    }
+}
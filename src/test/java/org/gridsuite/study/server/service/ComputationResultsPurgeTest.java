@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.ComputationType;
+import org.gridsuite.study.server.dto.supervision.ComputationResultsPurgeInfos;
+import org.gridsuite.study.server.networkmodificationtree.dto.InsertMode;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
+import org.gridsuite.study.server.networkmodificationtree.entities.RootNetworkNodeInfoEntity;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionEntity;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionRepository;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteResourceType;
+import org.gridsuite.study.server.repository.StudyEntity;
+import org.gridsuite.study.server.repository.StudyRepository;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
+import org.gridsuite.study.server.service.securityanalysis.SecurityAnalysisRestService;
+import org.gridsuite.study.server.utils.TestUtils;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.gridsuite.study.server.utils.TestUtils.createModificationNodeInfo;
+import static org.gridsuite.study.server.utils.TestUtils.synchronizeStudyServerExecutionService;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Check the computation results are purged chunk by chunk, and that an interrupted purge can be run again
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "study.supervision.purge-chunk-size=" + ComputationResultsPurgeTest.CHUNK_SIZE)
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class ComputationResultsPurgeTest {
+    static final int CHUNK_SIZE = 50;
+    private static final int NODE_COUNT = 500;
+
+    @Autowired
+    private SupervisionService supervisionService;
+    @Autowired
+    private NetworkModificationTreeService networkModificationTreeService;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
+    @Autowired
+    private RemoteDeletionRepository remoteDeletionRepository;
+
+    @MockitoBean
+    private ReportService reportService;
+    @MockitoBean
+    private SecurityAnalysisRestService securityAnalysisRestService;
+    @MockitoSpyBean
+    private RemoteDeletionService remoteDeletionService;
+    @MockitoSpyBean
+    private StudyServerExecutionService studyServerExecutionService;
+
+    private final Set<UUID> securityAnalysisReportUuids = new HashSet<>();
+    private final Set<UUID> loadFlowReportUuids = new HashSet<>();
+
+    @BeforeEach
+    void setup() {
+        synchronizeStudyServerExecutionService(studyServerExecutionService);
+        StudyEntity study = studyRepository.save(TestUtils.createDummyStudy(UUID.randomUUID(), UUID.randomUUID(), "caseName", "caseFormat", UUID.randomUUID()));
+        NodeEntity rootNode = networkModificationTreeService.createRoot(study);
+        UUID parentUuid = rootNode.getIdNode();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            parentUuid = networkModificationTreeService.createNode(study, parentUuid, createModificationNodeInfo("node" + i), InsertMode.CHILD, null).getId();
+        }
+        List<RootNetworkNodeInfoEntity> rootNetworkNodeInfos = rootNetworkNodeInfoRepository.findAllByRootNetworkStudyId(study.getId());
+        rootNetworkNodeInfos.forEach(rootNetworkNodeInfo -> {
+            UUID securityAnalysisReportUuid = UUID.randomUUID();
+            UUID loadFlowReportUuid = UUID.randomUUID();
+            securityAnalysisReportUuids.add(securityAnalysisReportUuid);
+            loadFlowReportUuids.add(loadFlowReportUuid);
+            rootNetworkNodeInfo.setSecurityAnalysisResultUuid(UUID.randomUUID());
+            rootNetworkNodeInfo.setComputationReports(new HashMap<>(Map.of(
+                ComputationType.SECURITY_ANALYSIS.name(), securityAnalysisReportUuid,
+                ComputationType.LOAD_FLOW.name(), loadFlowReportUuid)));
+        });
+        rootNetworkNodeInfoRepository.saveAll(rootNetworkNodeInfos);
+    }
+
+    @AfterEach
+    void tearDown() {
+        studyRepository.findAll().forEach(s -> networkModificationTreeService.doDeleteTree(s.getId()));
+        rootNetworkNodeInfoRepository.deleteAll();
+        studyRepository.deleteAll();
+        remoteDeletionRepository.deleteAll();
+    }
+
+    @Test
+    void testResultsArePurgedByChunks() {
+        assertEquals(NODE_COUNT, supervisionService.deleteComputationResults(ComputationType.SECURITY_ANALYSIS, false));
+
+        assertTrue(rootNetworkNodeInfoRepository.findAllBySecurityAnalysisResultUuidNotNull().isEmpty());
+        // one reports deletion by chunk
+        ArgumentCaptor<List<UUID>> reportsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(reportService, times(NODE_COUNT / CHUNK_SIZE)).deleteReportsOrThrow(reportsCaptor.capture());
+        reportsCaptor.getAllValues().forEach(reportUuids -> assertEquals(CHUNK_SIZE, reportUuids.size()));
+        assertEquals(securityAnalysisReportUuids, reportsCaptor.getAllValues().stream().flatMap(List::stream).collect(Collectors.toSet()));
+        verify(securityAnalysisRestService).deleteAllSecurityAnalysisResults();
+        assertEquals(0, remoteDeletionRepository.count());
+        // the other computation reports are kept
+        assertEquals(loadFlowReportUuids, new HashSet<>(rootNetworkNodeInfoRepository.findComputationReportUuids(
+            rootNetworkNodeInfoRepository.findAll().stream().map(RootNetworkNodeInfoEntity::getId).toList(), ComputationType.LOAD_FLOW.name())));
+        assertTrue(rootNetworkNodeInfoRepository.findComputationReportUuids(
+            rootNetworkNodeInfoRepository.findAll().stream().map(RootNetworkNodeInfoEntity::getId).toList(), ComputationType.SECURITY_ANALYSIS.name()).isEmpty());
+
+        ComputationResultsPurgeInfos purgeInfos = getPurgeInfos();
+        assertEquals(ComputationResultsPurgeInfos.Status.SUCCEEDED, purgeInfos.status());
+        assertEquals(NODE_COUNT, purgeInfos.purgedCount());
+        assertNotNull(purgeInfos.endDate());
+    }
+
+    @Test
+    void testInterruptedPurgeIsResumed() {
+        // interrupted in the transaction of the third chunk
+        doCallRealMethod().doCallRealMethod().doThrow(new IllegalStateException("interrupted")).doCallRealMethod()
+            .when(remoteDeletionService).addRemoteDeletions(any());
+
+        assertThrows(IllegalStateException.class, () -> supervisionService.deleteComputationResults(ComputationType.SECURITY_ANALYSIS, false));
+        ComputationResultsPurgeInfos purgeInfos = getPurgeInfos();
+        assertEquals(ComputationResultsPurgeInfos.Status.FAILED, purgeInfos.status());
+        assertEquals(2 * CHUNK_SIZE, purgeInfos.purgedCount());
+        // the chunks already purged are kept, the third chunk is rolled back with the deletion of its reports
+        assertEquals(NODE_COUNT - 2 * CHUNK_SIZE, rootNetworkNodeInfoRepository.findAllBySecurityAnalysisResultUuidNotNull().size());
+        verify(reportService, times(2)).deleteReportsOrThrow(any());
+        verify(securityAnalysisRestService, never()).deleteAllSecurityAnalysisResults();
+
+        // the purge starts again from the results remaining
+        assertEquals(NODE_COUNT - 2 * CHUNK_SIZE, supervisionService.deleteComputationResults(ComputationType.SECURITY_ANALYSIS, false));
+        assertTrue(rootNetworkNodeInfoRepository.findAllBySecurityAnalysisResultUuidNotNull().isEmpty());
+        verify(securityAnalysisRestService).deleteAllSecurityAnalysisResults();
+        verify(reportService, times(NODE_COUNT / CHUNK_SIZE)).deleteReportsOrThrow(any());
+        assertEquals(ComputationResultsPurgeInfos.Status.SUCCEEDED, getPurgeInfos().status());
+    }
+
+    @Test
+    void testFailedReportDeletionsAreKept() {
+        doThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)).when(reportService).deleteReportsOrThrow(any());
+
+        assertEquals(NODE_COUNT, supervisionService.deleteComputationResults(ComputationType.SECURITY_ANALYSIS, false));
+
+        // the reports no longer referenced are kept in the remote deletions, to be retried later
+        assertTrue(rootNetworkNodeInfoRepository.findAllBySecurityAnalysisResultUuidNotNull().isEmpty());
+        List<RemoteDeletionEntity> deletions = remoteDeletionRepository.findAll();
+        assertTrue(deletions.stream().allMatch(deletion -> deletion.getResourceType() == RemoteResourceType.REPORT && deletion.getAttempts() == 1));
+        assertEquals(securityAnalysisReportUuids, deletions.stream().map(RemoteDeletionEntity::getResourceUuid).collect(Collectors.toSet()));
+        assertEquals(ComputationResultsPurgeInfos.Status.SUCCEEDED, getPurgeInfos().status());
+    }
+
+    private ComputationResultsPurgeInfos getPurgeInfos() {
+        return supervisionService.getComputationResultsPurges().stream()
+            .filter(infos -> infos.computationType() == ComputationType.SECURITY_ANALYSIS)
+            .findFirst()
+            .orElseThrow();
+    }
+}
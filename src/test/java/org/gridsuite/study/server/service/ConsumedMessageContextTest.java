@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.gridsuite.study.server.RestTemplateConfig;
+import org.gridsuite.study.server.dto.NodeReceiver;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check the receiver of a consumed message is decoded like with the object mapper, and its study looked up once
+ */
+class ConsumedMessageContextTest {
+    private final ObjectMapper objectMapper = new RestTemplateConfig().objectMapper();
+
+    private final ObjectReader nodeReceiverReader = objectMapper.readerFor(NodeReceiver.class);
+
+    @Test
+    void testDecodeNodeReceiver() throws JsonProcessingException {
+        NodeReceiver nodeReceiver = new NodeReceiver(UUID.randomUUID(), UUID.randomUUID());
+        String receiver = URLEncoder.encode(objectMapper.writeValueAsString(nodeReceiver), StandardCharsets.UTF_8);
+
+        NodeReceiver decodedNodeReceiver = ConsumedMessageContext.decodeNodeReceiver(receiver, nodeReceiverReader);
+
+        assertEquals(nodeReceiver.getNodeUuid(), decodedNodeReceiver.getNodeUuid());
+        assertEquals(nodeReceiver.getRootNetworkUuid(), decodedNodeReceiver.getRootNetworkUuid());
+        assertThrows(JsonProcessingException.class, () -> ConsumedMessageContext.decodeNodeReceiver("not a receiver", nodeReceiverReader));
+    }
+
+    @Test
+    void testStudyUuidIsLookedUpOnce() {
+        NodeReceiver nodeReceiver = new NodeReceiver(UUID.randomUUID(), UUID.randomUUID());
+        UUID studyUuid = UUID.randomUUID();
+        AtomicInteger lookups = new AtomicInteger();
+        ConsumedMessageContext context = new ConsumedMessageContext(MessageBuilder.withPayload("").build(), nodeReceiver, nodeUuid -> {
+            assertEquals(nodeReceiver.getNodeUuid(), nodeUuid);
+            lookups.incrementAndGet();
+            return studyUuid;
+        });
+
+        assertEquals(studyUuid, context.getStudyUuid().orElseThrow());
+        assertEquals(studyUuid, context.getStudyUuid().orElseThrow());
+        assertEquals(1, lookups.get());
+        assertSame(nodeReceiver, context.getNodeReceiver().orElseThrow());
+    }
+
+    @Test
+    void testMessageWithoutReceiver() {
+        ConsumedMessageContext context = new ConsumedMessageContext(MessageBuilder.withPayload("").build(), null, nodeUuid -> fail("No study to look up"));
+
+        assertTrue(context.getNodeReceiver().isEmpty());
+        assertTrue(context.getStudyUuid().isEmpty());
+    }
+}
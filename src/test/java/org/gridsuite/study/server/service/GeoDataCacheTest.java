@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Check only the geo data of the equipments missing from the cache is requested to the geo-data server, and merged
+ * with the cached one
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {"study.geo-data.cache-ttl=1h"})
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class GeoDataCacheTest {
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final String VARIANT_ID = "variant_1";
+    private static final String OTHER_VARIANT_ID = "variant_2";
+    private static final String LINES_PATH = "/v1/lines/infos";
+    private static final String SUBSTATIONS_PATH = "/v1/substations/infos";
+
+    @Autowired
+    private GeoDataService geoDataService;
+    @Autowired
+    private VariantDataCacheService variantDataCacheService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        geoDataService.setGeoDataServerBaseUri(wireMockServer.baseUrl());
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID, OTHER_VARIANT_ID));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testOnlyMissingLinesAreRequested() throws JsonProcessingException {
+        stubGeoData(LINES_PATH, List.of("l1", "l2"), List.of("l1", "l2"));
+        stubGeoData(LINES_PATH, List.of("l3", "l4"), List.of("l3"));
+
+        assertGeoData(List.of("l1", "l2"), geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, List.of("l1", "l2")));
+        // partial hit : l1 and l2 are cached, l4 has no geo data
+        assertGeoData(List.of("l2", "l3", "l1"), geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, List.of("l2", "l3", "l1", "l4")));
+        // full hit, l4 is not requested again
+        assertGeoData(List.of("l3", "l1"), geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, List.of("l4", "l3", "l1", "l3")));
+
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(LINES_PATH)));
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlPathEqualTo(LINES_PATH)).withRequestBody(WireMock.equalToJson("[\"l3\", \"l4\"]", true, false)));
+    }
+
+    @Test
+    void testGeoDataIsCachedByVariantAndEquipmentType() throws JsonProcessingException {
+        stubGeoData(LINES_PATH, List.of("e1"), List.of("e1"));
+        stubGeoData(SUBSTATIONS_PATH, List.of("e1"), List.of("e1"));
+
+        geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, List.of("e1"));
+        geoDataService.getLinesGraphics(NETWORK_UUID, OTHER_VARIANT_ID, List.of("e1"));
+        assertGeoData(List.of("e1"), geoDataService.getSubstationsGraphics(NETWORK_UUID, VARIANT_ID, List.of("e1")));
+        assertGeoData(List.of("e1"), geoDataService.getSubstationsGraphics(NETWORK_UUID, VARIANT_ID, List.of("e1")));
+
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(LINES_PATH)));
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlPathEqualTo(SUBSTATIONS_PATH)));
+    }
+
+    @Test
+    void testEvictedVariantGeoDataIsRequestedAgain() throws JsonProcessingException {
+        stubGeoData(SUBSTATIONS_PATH, List.of("s1"), List.of("s1"));
+
+        geoDataService.getSubstationsGraphics(NETWORK_UUID, VARIANT_ID, List.of("s1"));
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID));
+        assertGeoData(List.of("s1"), geoDataService.getSubstationsGraphics(NETWORK_UUID, VARIANT_ID, List.of("s1")));
+
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(SUBSTATIONS_PATH)));
+    }
+
+    @Test
+    void testAllGeoDataIsNotCached() {
+        wireMockServer.stubFor(WireMock.post(WireMock.urlPathEqualTo(LINES_PATH)).willReturn(WireMock.okJson("[]")));
+
+        assertEquals("[]", geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, null));
+        assertEquals("[]", geoDataService.getLinesGraphics(NETWORK_UUID, VARIANT_ID, null));
+
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(LINES_PATH)));
+    }
+
+    private void stubGeoData(String path, List<String> requestedIds, List<String> returnedIds) throws JsonProcessingException {
+        wireMockServer.stubFor(WireMock.post(WireMock.urlPathEqualTo(path))
+            .withQueryParam("networkUuid", WireMock.equalTo(NETWORK_UUID.toString()))
+            .withRequestBody(WireMock.equalToJson(objectMapper.writeValueAsString(requestedIds), true, false))
+            .willReturn(WireMock.okJson(toGeoData(returnedIds))));
+    }
+
+    private void assertGeoData(List<String> expectedIds, String geoData) throws JsonProcessingException {
+        assertEquals(objectMapper.readTree(toGeoData(expectedIds)), objectMapper.readTree(geoData));
+    }
+
+    private static String toGeoData(List<String> ids) {
+        return ids.stream()
+            .map(id -> "{\"id\":\"" + id + "\",\"country\":\"FR\",\"coordinates\":[{\"lat\":48.85,\"lon\":2.35}]}")
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+}
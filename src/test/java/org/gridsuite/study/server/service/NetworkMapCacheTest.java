@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check the network map data of a variant is fetched once, even by concurrent requests, and never served once the
+ * variant changed
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {"study.network-map.cache-ttl=1h"})
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class NetworkMapCacheTest {
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final String VARIANT_ID = "variant_1";
+    private static final String OTHER_VARIANT_ID = "variant_2";
+    private static final String ELEMENTS_PATH = "/v1/networks/" + NETWORK_UUID + "/elements";
+    private static final String ALL_ELEMENTS_PATH = "/v1/networks/" + NETWORK_UUID + "/all";
+    private static final String COUNTRIES_PATH = "/v1/networks/" + NETWORK_UUID + "/countries";
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private NetworkMapService networkMapService;
+    @Autowired
+    private VariantDataCacheService variantDataCacheService;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        networkMapService.setNetworkMapServerBaseUri(wireMockServer.baseUrl());
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID, OTHER_VARIANT_ID));
+        stubMapData(WireMock.post(WireMock.urlPathEqualTo(ELEMENTS_PATH)), "elements", 0);
+        stubMapData(WireMock.post(WireMock.urlPathEqualTo(ALL_ELEMENTS_PATH)), "all", 0);
+        stubMapData(WireMock.get(WireMock.urlPathEqualTo(COUNTRIES_PATH)), "countries", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testConcurrentRequestsAreFetchedOnce() {
+        stubMapData(WireMock.post(WireMock.urlPathEqualTo(ALL_ELEMENTS_PATH)), "all", 500);
+        Map<String, Map<String, String>> optionalParameters = Map.of("LOAD", Map.of("loadRegulatingTerminals", "true"));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            List<CompletableFuture<String>> futures = IntStream.range(0, CONCURRENT_REQUESTS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return networkMapService.getAllElementsInfos(NETWORK_UUID, VARIANT_ID, null, optionalParameters);
+                }, executor))
+                .toList();
+            start.countDown();
+
+            futures.forEach(future -> assertEquals("all", future.join()));
+        } finally {
+            executor.shutdown();
+        }
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlPathEqualTo(ALL_ELEMENTS_PATH)));
+    }
+
+    @Test
+    void testSlowFetchBlocksNeitherOtherRequestsNorEvictions() throws InterruptedException {
+        stubMapData(WireMock.post(WireMock.urlPathEqualTo(ALL_ELEMENTS_PATH)), "all", 2000);
+        CompletableFuture<String> slowFetch = CompletableFuture.supplyAsync(() -> networkMapService.getAllElementsInfos(NETWORK_UUID, VARIANT_ID, null, Map.of()));
+        while (wireMockServer.findAll(WireMock.postRequestedFor(WireMock.urlPathEqualTo(ALL_ELEMENTS_PATH))).isEmpty()) {
+            Thread.sleep(10);
+        }
+
+        // no lock of the cache is held while the data is fetched
+        long start = System.nanoTime();
+        assertEquals("countries", networkMapService.getCountries(NETWORK_UUID, VARIANT_ID));
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID));
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        assertTrue(elapsedInMs < 1000, "Served and evicted in " + elapsedInMs + " ms");
+        assertFalse(slowFetch.isDone());
+
+        assertEquals("all", slowFetch.join());
+    }
+
+    @Test
+    void testMapDataIsFetchedForEachElementAndInfoType() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("elements", getElementsInfos(VARIANT_ID, "LINE", "MAP"));
+            assertEquals("elements", getElementsInfos(VARIANT_ID, "LINE", "TAB"));
+            assertEquals("elements", getElementsInfos(VARIANT_ID, "LOAD", "TAB"));
+            assertEquals("elements", getElementsInfos(OTHER_VARIANT_ID, "LOAD", "TAB"));
+        }
+        wireMockServer.verify(4, WireMock.postRequestedFor(WireMock.urlPathEqualTo(ELEMENTS_PATH)));
+
+        networkMapService.getElementsInfos(NETWORK_UUID, VARIANT_ID, List.of("s1"), "LINE", List.of(400.), "MAP", Map.of());
+        networkMapService.getElementsInfos(NETWORK_UUID, VARIANT_ID, List.of("s1"), "LINE", List.of(400.), "MAP", Map.of());
+        wireMockServer.verify(5, WireMock.postRequestedFor(WireMock.urlPathEqualTo(ELEMENTS_PATH)));
+    }
+
+    @Test
+    void testEvictedVariantMapDataIsFetchedAgain() {
+        assertEquals("countries", networkMapService.getCountries(NETWORK_UUID, VARIANT_ID));
+        assertEquals("countries", networkMapService.getCountries(NETWORK_UUID, OTHER_VARIANT_ID));
+
+        // the variant is rebuilt
+        stubMapData(WireMock.get(WireMock.urlPathEqualTo(COUNTRIES_PATH)), "rebuilt countries", 0);
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID));
+
+        assertEquals("rebuilt countries", networkMapService.getCountries(NETWORK_UUID, VARIANT_ID));
+        assertEquals("countries", networkMapService.getCountries(NETWORK_UUID, OTHER_VARIANT_ID));
+        wireMockServer.verify(3, WireMock.getRequestedFor(WireMock.urlPathEqualTo(COUNTRIES_PATH)));
+    }
+
+    private String getElementsInfos(String variantId, String elementType, String infoType) {
+        return networkMapService.getElementsInfos(NETWORK_UUID, variantId, null, elementType, null, infoType, Map.of());
+    }
+
+    private void stubMapData(MappingBuilder request, String mapData, int delayInMs) {
+        wireMockServer.stubFor(request.willReturn(WireMock.ok(mapData).withFixedDelay(delayInMs)));
+    }
+}
@@ -6,14 +6,20 @@
  */
 package org.gridsuite.study.server.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.gridsuite.study.server.RemoteServicesProperties;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -28,12 +34,16 @@ class NetworkMapServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
+
     private NetworkMapService networkMapService;
 
     @BeforeEach
     void setup() {
         when(remoteServicesProperties.getServiceUri("network-map-server")).thenReturn(NETWORK_MAP_SERVER_URI);
-        networkMapService = new NetworkMapService(remoteServicesProperties, restTemplate);
+        networkMapService = new NetworkMapService(remoteServicesProperties, restTemplate,
+            new VariantDataCacheService(new SimpleMeterRegistry(), new ObjectMapper(), rootNetworkNodeInfoRepository), Duration.ZERO, DataSize.ofMegabytes(1));
     }
 
     @Test
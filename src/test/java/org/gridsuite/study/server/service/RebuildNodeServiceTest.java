@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.networkmodificationtree.dto.BuildStatus;
+import org.gridsuite.study.server.networkmodificationtree.dto.NodeBuildStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.gridsuite.study.server.error.StudyBusinessErrorCode.MAX_NODE_BUILDS_EXCEEDED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Check the builds of the different root networks are requested concurrently after a network modification
+ */
+@ExtendWith(MockitoExtension.class)
+class RebuildNodeServiceTest {
+    private static final UUID STUDY_UUID = UUID.randomUUID();
+    private static final UUID NODE_UUID = UUID.randomUUID();
+    private static final String USER_ID = "userId";
+    private static final List<UUID> ROOT_NETWORK_UUIDS = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private static final long BUILD_DELAY_IN_MS = 500;
+
+    @Mock
+    private StudyService studyService;
+    @Mock
+    private NetworkModificationTreeService networkModificationTreeService;
+
+    private StudyServerExecutionService studyServerExecutionService;
+    private RebuildNodeService rebuildNodeService;
+
+    @BeforeEach
+    void setUp() {
+        studyServerExecutionService = new StudyServerExecutionService(new SimpleMeterRegistry(), StudyServerExecutionService.ExecutorType.PLATFORM, 8, 100);
+        rebuildNodeService = new RebuildNodeService(studyService, networkModificationTreeService, studyServerExecutionService, 8);
+
+        when(networkModificationTreeService.getHighestNodeUuids(NODE_UUID, NODE_UUID)).thenReturn(List.of(NODE_UUID));
+        when(networkModificationTreeService.isRootOrConstructionNode(NODE_UUID)).thenReturn(false);
+        when(studyService.getNodeBuildStatusByRootNetwork(STUDY_UUID, NODE_UUID)).thenReturn(ROOT_NETWORK_UUIDS.stream()
+            .collect(Collectors.toMap(Function.identity(), rootNetworkUuid -> NodeBuildStatus.from(BuildStatus.BUILT))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(studyServerExecutionService, "preDestroy");
+    }
+
+    @Test
+    void testBuildsAreRequestedConcurrently() {
+        // network-modification-server build request latency
+        doAnswer(invocation -> {
+            Thread.sleep(BUILD_DELAY_IN_MS);
+            return null;
+        }).when(studyService).buildNode(eq(STUDY_UUID), eq(NODE_UUID), any(), eq(USER_ID));
+
+        long start = System.nanoTime();
+        rebuildNodeService.createNetworkModification(STUDY_UUID, NODE_UUID, "{}", USER_ID);
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        ROOT_NETWORK_UUIDS.forEach(rootNetworkUuid -> verify(studyService).buildNode(STUDY_UUID, NODE_UUID, rootNetworkUuid, USER_ID));
+        // close to a single build request latency rather than the sum of all the requests latencies
+        assertTrue(elapsedInMs < 2 * BUILD_DELAY_IN_MS, "Builds requested in " + elapsedInMs + " ms");
+    }
+
+    @Test
+    void testFailedBuildDoesNotPreventOtherBuilds() {
+        UUID failingRootNetworkUuid = ROOT_NETWORK_UUIDS.get(1);
+        doThrow(new StudyException(MAX_NODE_BUILDS_EXCEEDED, "max allowed built nodes reached"))
+            .when(studyService).buildNode(STUDY_UUID, NODE_UUID, failingRootNetworkUuid, USER_ID);
+
+        StudyException exception = assertThrows(StudyException.class,
+            () -> rebuildNodeService.createNetworkModification(STUDY_UUID, NODE_UUID, "{}", USER_ID));
+
+        assertEquals(MAX_NODE_BUILDS_EXCEEDED, exception.getBusinessErrorCode());
+        ROOT_NETWORK_UUIDS.forEach(rootNetworkUuid -> verify(studyService).buildNode(STUDY_UUID, NODE_UUID, rootNetworkUuid, USER_ID));
+        verify(studyService).createNetworkModification(STUDY_UUID, NODE_UUID, "{}", USER_ID);
+        verify(studyService).unblockNodeTree(STUDY_UUID, NODE_UUID);
+    }
+}
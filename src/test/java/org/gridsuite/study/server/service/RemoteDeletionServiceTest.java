@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.RemoteDeletionInfos;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionEntity;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionRepository;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteDeletionStatus;
+import org.gridsuite.study.server.repository.remotedeletion.RemoteResourceType;
+import org.gridsuite.study.server.service.loadflow.LoadFlowRestService;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.gridsuite.study.server.utils.TestUtils.synchronizeStudyServerExecutionService;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Check the remote deletions are kept until they succeed
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {"study.remote-deletions.max-attempts=2"})
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class RemoteDeletionServiceTest {
+    private static final UUID REPORT_UUID = UUID.randomUUID();
+    private static final UUID LOADFLOW_RESULT_UUID = UUID.randomUUID();
+    private static final UUID LOADFLOW_RESULT_UUID2 = UUID.randomUUID();
+
+    @Autowired
+    private RemoteDeletionService remoteDeletionService;
+    @Autowired
+    private RemoteDeletionRepository remoteDeletionRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private ReportService reportService;
+    @MockitoBean
+    private LoadFlowRestService loadFlowRestService;
+    @MockitoSpyBean
+    private StudyServerExecutionService studyServerExecutionService;
+
+    @BeforeEach
+    void setup() {
+        synchronizeStudyServerExecutionService(studyServerExecutionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        remoteDeletionRepository.deleteAll();
+    }
+
+    @Test
+    void testSucceededDeletionsAreRemoved() {
+        remoteDeletionService.addRemoteDeletions(createRemoteDeletionInfos());
+
+        verify(reportService, times(1)).deleteReportsOrThrow(List.of(REPORT_UUID));
+        verify(loadFlowRestService, times(1)).deleteLoadFlowResults(argThat(uuids -> uuids.size() == 2 && uuids.containsAll(List.of(LOADFLOW_RESULT_UUID, LOADFLOW_RESULT_UUID2))));
+        assertEquals(0, remoteDeletionRepository.count());
+    }
+
+    @Test
+    void testFailedDeletionsAreRetried() {
+        doThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)).when(loadFlowRestService).deleteLoadFlowResults(any());
+        remoteDeletionService.addRemoteDeletions(createRemoteDeletionInfos());
+
+        // only the failed loadflow results deletions are kept, to be retried later
+        List<RemoteDeletionEntity> deletions = remoteDeletionRepository.findAll();
+        assertEquals(2, deletions.size());
+        deletions.forEach(deletion -> {
+            assertEquals(RemoteResourceType.LOAD_FLOW_RESULT, deletion.getResourceType());
+            assertEquals(RemoteDeletionStatus.PENDING, deletion.getStatus());
+            assertEquals(1, deletion.getAttempts());
+            assertTrue(deletion.getNextAttemptDate().isAfter(Instant.now()));
+            assertNotNull(deletion.getLastError());
+        });
+
+        // backoff not expired : nothing retried
+        remoteDeletionService.retryRemoteDeletions();
+        verify(loadFlowRestService, times(1)).deleteLoadFlowResults(any());
+        assertEquals(2, meterRegistry.get("study.remote.deletions.pending").gauge().value());
+
+        expireBackoff();
+        doNothing().when(loadFlowRestService).deleteLoadFlowResults(any());
+        remoteDeletionService.retryRemoteDeletions();
+        verify(loadFlowRestService, times(2)).deleteLoadFlowResults(any());
+        assertEquals(0, remoteDeletionRepository.count());
+        assertEquals(0, meterRegistry.get("study.remote.deletions.pending").gauge().value());
+        assertEquals(0, meterRegistry.get("study.remote.deletions.oldest.pending.age").gauge().value());
+    }
+
+    @Test
+    void testDeletionsAreAbandonedAfterMaxAttempts() {
+        doThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)).when(loadFlowRestService).deleteLoadFlowResults(any());
+        remoteDeletionService.addRemoteDeletions(createRemoteDeletionInfos());
+
+        expireBackoff();
+        remoteDeletionService.retryRemoteDeletions();
+
+        verify(loadFlowRestService, times(2)).deleteLoadFlowResults(any());
+        List<RemoteDeletionEntity> deletions = remoteDeletionRepository.findAll();
+        assertEquals(2, deletions.size());
+        deletions.forEach(deletion -> assertEquals(RemoteDeletionStatus.DEAD_LETTER, deletion.getStatus()));
+        assertEquals(0, meterRegistry.get("study.remote.deletions.pending").gauge().value());
+        assertEquals(2, meterRegistry.get("study.remote.deletions.dead.letter").gauge().value());
+
+        // dead letters are not retried anymore
+        expireBackoff();
+        remoteDeletionService.retryRemoteDeletions();
+        verify(loadFlowRestService, times(2)).deleteLoadFlowResults(any());
+    }
+
+    private void expireBackoff() {
+        List<RemoteDeletionEntity> deletions = remoteDeletionRepository.findAll();
+        deletions.forEach(deletion -> deletion.setNextAttemptDate(Instant.now().minusSeconds(1)));
+        remoteDeletionRepository.saveAll(deletions);
+    }
+
+    private static RemoteDeletionInfos createRemoteDeletionInfos() {
+        RemoteDeletionInfos infos = new RemoteDeletionInfos();
+        infos.addReportUuid(REPORT_UUID);
+        infos.addLoadFlowResultUuid(LOADFLOW_RESULT_UUID);
+        infos.addLoadFlowResultUuid(LOADFLOW_RESULT_UUID2);
+        return infos;
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.ComputationType;
+import org.gridsuite.study.server.error.StudyBusinessErrorCode;
+import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.exception.PartialResultException;
+import org.gridsuite.study.server.networkmodificationtree.entities.RootNetworkNodeInfoEntity;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
+import org.gridsuite.study.server.service.loadflow.LoadFlowRestService;
+import org.gridsuite.study.server.service.securityanalysis.SecurityAnalysisRestService;
+import org.gridsuite.study.server.service.sensitivityanalysis.SensitivityAnalysisRestService;
+import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Check the computation status are requested concurrently to the computation servers, and only for the computations
+ * not known to be over
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class RootNetworkNodeInfoServiceTest {
+    private static final UUID NODE_UUID = UUID.randomUUID();
+    private static final UUID ROOT_NETWORK_UUID = UUID.randomUUID();
+    private static final UUID LOADFLOW_RESULT_UUID = UUID.randomUUID();
+    private static final UUID SECURITY_ANALYSIS_RESULT_UUID = UUID.randomUUID();
+    private static final UUID SENSITIVITY_ANALYSIS_RESULT_UUID = UUID.randomUUID();
+    private static final UUID VOLTAGE_INIT_RESULT_UUID = UUID.randomUUID();
+    private static final int SERVER_DELAY_IN_MS = 1000;
+
+    @Autowired
+    private RootNetworkNodeInfoService rootNetworkNodeInfoService;
+    @Autowired
+    private LoadFlowRestService loadFlowRestService;
+    @Autowired
+    private SecurityAnalysisRestService securityAnalysisRestService;
+    @Autowired
+    private SensitivityAnalysisRestService sensitivityAnalysisRestService;
+    @Autowired
+    private VoltageInitRestService voltageInitRestService;
+
+    @MockitoBean
+    private RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        loadFlowRestService.setBaseUri(wireMockServer.baseUrl());
+        securityAnalysisRestService.setBaseUri(wireMockServer.baseUrl());
+        sensitivityAnalysisRestService.setBaseUri(wireMockServer.baseUrl());
+        voltageInitRestService.setBaseUri(wireMockServer.baseUrl());
+
+        when(rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(NODE_UUID, ROOT_NETWORK_UUID)).thenReturn(Optional.of(
+            RootNetworkNodeInfoEntity.builder()
+                .loadFlowResultUuid(LOADFLOW_RESULT_UUID)
+                .securityAnalysisResultUuid(SECURITY_ANALYSIS_RESULT_UUID)
+                .sensitivityAnalysisResultUuid(SENSITIVITY_ANALYSIS_RESULT_UUID)
+                .voltageInitResultUuid(VOLTAGE_INIT_RESULT_UUID)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testAllComputationsStatusAreRequestedConcurrently() throws Exception {
+        stubSlowStatus(LOADFLOW_RESULT_UUID, "\"CONVERGED\"", SERVER_DELAY_IN_MS);
+        stubSlowStatus(SECURITY_ANALYSIS_RESULT_UUID, "\"RUNNING\"", SERVER_DELAY_IN_MS);
+        stubSlowStatus(SENSITIVITY_ANALYSIS_RESULT_UUID, "COMPLETED", SERVER_DELAY_IN_MS);
+        stubSlowStatus(VOLTAGE_INIT_RESULT_UUID, "COMPLETED", SERVER_DELAY_IN_MS);
+
+        long start = System.nanoTime();
+        Map<ComputationType, String> allStatus = rootNetworkNodeInfoService.getAllComputationsStatus(NODE_UUID, ROOT_NETWORK_UUID, Duration.ofSeconds(10));
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(ComputationType.values().length, allStatus.size());
+        assertEquals("CONVERGED", allStatus.get(ComputationType.LOAD_FLOW));
+        assertEquals("RUNNING", allStatus.get(ComputationType.SECURITY_ANALYSIS));
+        assertEquals("COMPLETED", allStatus.get(ComputationType.SENSITIVITY_ANALYSIS));
+        assertEquals("COMPLETED", allStatus.get(ComputationType.VOLTAGE_INITIALIZATION));
+        assertNull(allStatus.get(ComputationType.SHORT_CIRCUIT));
+        // close to the slowest server latency rather than the sum of all the latencies
+        assertTrue(elapsedInMs < 2L * SERVER_DELAY_IN_MS, "Status fetched in " + elapsedInMs + " ms");
+        wireMockServer.verify(4, WireMock.getRequestedFor(WireMock.urlPathMatching("/v1/results/.*/status")));
+    }
+
+    @Test
+    void testAllComputationsStatusWithTimeout() {
+        stubSlowStatus(LOADFLOW_RESULT_UUID, "\"CONVERGED\"", 0);
+        stubSlowStatus(SECURITY_ANALYSIS_RESULT_UUID, "\"RUNNING\"", 0);
+        stubSlowStatus(SENSITIVITY_ANALYSIS_RESULT_UUID, "COMPLETED", 5 * SERVER_DELAY_IN_MS);
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/results/" + VOLTAGE_INIT_RESULT_UUID + "/status"))
+            .willReturn(WireMock.serverError()));
+
+        PartialResultException exception = assertThrows(PartialResultException.class,
+            () -> rootNetworkNodeInfoService.getAllComputationsStatus(NODE_UUID, ROOT_NETWORK_UUID, Duration.ofMillis(SERVER_DELAY_IN_MS)));
+
+        Map<?, ?> allStatus = (Map<?, ?>) exception.getResult();
+        assertEquals(ComputationType.values().length, allStatus.size());
+        assertEquals("CONVERGED", allStatus.get(ComputationType.LOAD_FLOW));
+        assertEquals("RUNNING", allStatus.get(ComputationType.SECURITY_ANALYSIS));
+        assertNull(allStatus.get(ComputationType.SENSITIVITY_ANALYSIS));
+        assertNull(allStatus.get(ComputationType.VOLTAGE_INITIALIZATION));
+    }
+
+    @Test
+    void testComputationNotRunningIsCheckedConcurrently() {
+        mockRootNetworkNodes(Set.of());
+        stubSlowStatus(LOADFLOW_RESULT_UUID, "\"CONVERGED\"", SERVER_DELAY_IN_MS);
+        stubSlowStatus(SECURITY_ANALYSIS_RESULT_UUID, "\"CONVERGED\"", SERVER_DELAY_IN_MS);
+        stubSlowStatus(SENSITIVITY_ANALYSIS_RESULT_UUID, "COMPLETED", SERVER_DELAY_IN_MS);
+        stubSlowStatus(VOLTAGE_INIT_RESULT_UUID, "COMPLETED", SERVER_DELAY_IN_MS);
+
+        long start = System.nanoTime();
+        assertDoesNotThrow(() -> rootNetworkNodeInfoService.assertComputationNotRunning(ROOT_NETWORK_UUID, List.of(NODE_UUID)));
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedInMs < 2L * SERVER_DELAY_IN_MS, "Checked in " + elapsedInMs + " ms");
+        wireMockServer.verify(4, WireMock.getRequestedFor(WireMock.urlPathMatching("/v1/results/.*/status")));
+    }
+
+    @Test
+    void testComputationRunningFailsWithoutWaitingForTheOtherServers() {
+        mockRootNetworkNodes(Set.of());
+        stubSlowStatus(LOADFLOW_RESULT_UUID, "\"CONVERGED\"", 5 * SERVER_DELAY_IN_MS);
+        stubSlowStatus(SECURITY_ANALYSIS_RESULT_UUID, "\"RUNNING\"", 0);
+        stubSlowStatus(SENSITIVITY_ANALYSIS_RESULT_UUID, "COMPLETED", 5 * SERVER_DELAY_IN_MS);
+        stubSlowStatus(VOLTAGE_INIT_RESULT_UUID, "COMPLETED", 5 * SERVER_DELAY_IN_MS);
+
+        long start = System.nanoTime();
+        StudyException exception = assertThrows(StudyException.class,
+            () -> rootNetworkNodeInfoService.assertComputationNotRunning(ROOT_NETWORK_UUID, List.of(NODE_UUID)));
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(StudyBusinessErrorCode.COMPUTATION_RUNNING, exception.getBusinessErrorCode());
+        assertTrue(elapsedInMs < SERVER_DELAY_IN_MS, "Failed in " + elapsedInMs + " ms");
+    }
+
+    @Test
+    void testTerminatedComputationsStatusAreNotRequested() {
+        mockRootNetworkNodes(Set.of(LOADFLOW_RESULT_UUID, SECURITY_ANALYSIS_RESULT_UUID, SENSITIVITY_ANALYSIS_RESULT_UUID, VOLTAGE_INIT_RESULT_UUID));
+        rootNetworkNodeInfoService.assertComputationNotRunning(ROOT_NETWORK_UUID, List.of(NODE_UUID));
+        wireMockServer.verify(0, WireMock.getRequestedFor(WireMock.urlPathMatching("/v1/results/.*/status")));
+
+        mockRootNetworkNodes(Set.of(LOADFLOW_RESULT_UUID, SENSITIVITY_ANALYSIS_RESULT_UUID, VOLTAGE_INIT_RESULT_UUID));
+        stubSlowStatus(SECURITY_ANALYSIS_RESULT_UUID, "\"RUNNING\"", 0);
+        assertThrows(StudyException.class, () -> rootNetworkNodeInfoService.assertComputationNotRunning(ROOT_NETWORK_UUID, List.of(NODE_UUID)));
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlPathMatching("/v1/results/.*/status")));
+        wireMockServer.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/v1/results/" + SECURITY_ANALYSIS_RESULT_UUID + "/status")));
+    }
+
+    private void mockRootNetworkNodes(Set<UUID> terminatedResultUuids) {
+        when(rootNetworkNodeInfoRepository.getAllWithTerminatedComputationsByRootNetworkIdAndNodeInfoIdIn(ROOT_NETWORK_UUID, List.of(NODE_UUID))).thenReturn(List.of(
+            RootNetworkNodeInfoEntity.builder()
+                .loadFlowResultUuid(LOADFLOW_RESULT_UUID)
+                .securityAnalysisResultUuid(SECURITY_ANALYSIS_RESULT_UUID)
+                .sensitivityAnalysisResultUuid(SENSITIVITY_ANALYSIS_RESULT_UUID)
+                .voltageInitResultUuid(VOLTAGE_INIT_RESULT_UUID)
+                .terminatedComputationResultUuids(new HashSet<>(terminatedResultUuids))
+                .build()));
+    }
+
+    private void stubSlowStatus(UUID resultUuid, String status, int delayInMs) {
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/results/" + resultUuid + "/status"))
+            .willReturn(WireMock.ok()
+                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .withBody(status)
+                .withFixedDelay(delayInMs)));
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.network.store.client.NetworkStoreService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.NodeReceiver;
+import org.gridsuite.study.server.networkmodificationtree.dto.InsertMode;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
+import org.gridsuite.study.server.networkmodificationtree.entities.RootNetworkNodeInfoEntity;
+import org.gridsuite.study.server.repository.StudyEntity;
+import org.gridsuite.study.server.repository.StudyRepository;
+import org.gridsuite.study.server.repository.rootnetwork.RootNetworkNodeInfoRepository;
+import org.gridsuite.study.server.utils.TestUtils;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.gridsuite.study.server.StudyConstants.HEADER_RECEIVER;
+import static org.gridsuite.study.server.utils.TestUtils.createModificationNodeInfo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Check the diagrams of a variant are generated once, and never served once the variant changed
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {"study.diagrams.cache-ttl=1h"})
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class SingleLineDiagramCacheTest {
+    private static final UUID NETWORK_UUID = UUID.randomUUID();
+    private static final String VARIANT_ID = "variant_1";
+    private static final String OTHER_VARIANT_ID = "variant_2";
+    private static final String VOLTAGE_LEVEL_ID = "vl1";
+    private static final String VOLTAGE_LEVEL_SVG_PATH = "/v1/svg-and-metadata/" + NETWORK_UUID + "/" + VOLTAGE_LEVEL_ID;
+    private static final String NETWORK_AREA_DIAGRAM_PATH = "/v1/network-area-diagram/" + NETWORK_UUID;
+
+    @Autowired
+    private SingleLineDiagramService singleLineDiagramService;
+    @Autowired
+    private VariantDataCacheService variantDataCacheService;
+    @Autowired
+    private NetworkService networkService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ConsumerService consumerService;
+    @Autowired
+    private NetworkModificationTreeService networkModificationTreeService;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private RootNetworkNodeInfoRepository rootNetworkNodeInfoRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private OutputDestination output;
+
+    @MockitoBean
+    private NetworkStoreService networkStoreService;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        singleLineDiagramService.setSingleLineDiagramServerBaseUri(wireMockServer.baseUrl());
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID, OTHER_VARIANT_ID));
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "svg", 0);
+        stubDiagram(NETWORK_AREA_DIAGRAM_PATH, "nad", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+        studyRepository.findAll().forEach(s -> networkModificationTreeService.doDeleteTree(s.getId()));
+        rootNetworkNodeInfoRepository.deleteAll();
+        studyRepository.deleteAll();
+        output.clear();
+    }
+
+    @Test
+    void testDiagramIsGeneratedOnce() {
+        double hitsBefore = getCacheGets("hit");
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("svg", singleLineDiagramService.generateVoltageLevelSvgAndMetadata(NETWORK_UUID, VARIANT_ID, VOLTAGE_LEVEL_ID, new HashMap<>(Map.of("topologicalColoring", true))));
+        }
+
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlPathEqualTo(VOLTAGE_LEVEL_SVG_PATH)));
+        assertEquals(9, getCacheGets("hit") - hitsBefore);
+    }
+
+    @Test
+    void testDiagramIsGeneratedForEachRequestInfos() {
+        Map<String, Object> requestInfos = new LinkedHashMap<>();
+        requestInfos.put("voltageLevelIds", List.of("vl1", "vl2"));
+        requestInfos.put("depth", 1);
+        Map<String, Object> sameRequestInfos = new LinkedHashMap<>();
+        sameRequestInfos.put("depth", 1);
+        sameRequestInfos.put("voltageLevelIds", List.of("vl1", "vl2"));
+
+        singleLineDiagramService.generateNetworkAreaDiagram(NETWORK_UUID, VARIANT_ID, requestInfos);
+        singleLineDiagramService.generateNetworkAreaDiagram(NETWORK_UUID, VARIANT_ID, sameRequestInfos);
+        wireMockServer.verify(1, WireMock.postRequestedFor(WireMock.urlPathEqualTo(NETWORK_AREA_DIAGRAM_PATH)));
+
+        singleLineDiagramService.generateNetworkAreaDiagram(NETWORK_UUID, VARIANT_ID, Map.of("voltageLevelIds", List.of("vl1", "vl2"), "depth", 2));
+        singleLineDiagramService.generateNetworkAreaDiagram(NETWORK_UUID, OTHER_VARIANT_ID, requestInfos);
+        wireMockServer.verify(3, WireMock.postRequestedFor(WireMock.urlPathEqualTo(NETWORK_AREA_DIAGRAM_PATH)));
+    }
+
+    @Test
+    void testEvictedVariantDiagramIsGeneratedAgain() {
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(OTHER_VARIANT_ID));
+
+        // the variant is rebuilt
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "rebuilt svg", 0);
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID));
+
+        assertEquals("rebuilt svg", generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(OTHER_VARIANT_ID));
+        wireMockServer.verify(3, WireMock.postRequestedFor(WireMock.urlPathEqualTo(VOLTAGE_LEVEL_SVG_PATH)));
+    }
+
+    @Test
+    void testDeletedVariantDiagramIsGeneratedAgain() {
+        Network network = mock(Network.class);
+        VariantManager variantManager = mock(VariantManager.class);
+        when(networkStoreService.getNetwork(NETWORK_UUID)).thenReturn(network);
+        when(network.getVariantManager()).thenReturn(variantManager);
+        when(variantManager.getVariantIds()).thenReturn(List.of(VARIANT_ID));
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+
+        // the variant is deleted then built again
+        networkService.deleteVariants(NETWORK_UUID, List.of(VARIANT_ID));
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "rebuilt svg", 0);
+
+        assertEquals("rebuilt svg", generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+    }
+
+    @Test
+    void testDiagramGeneratedDuringEvictionIsNotServed() throws InterruptedException {
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "stale svg", 1000);
+        CompletableFuture<String> staleDiagram = CompletableFuture.supplyAsync(() -> generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+        // generation in progress
+        Thread.sleep(300);
+
+        // the variant is rebuilt while its previous diagram is generated
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "rebuilt svg", 0);
+        variantDataCacheService.evictVariants(NETWORK_UUID, List.of(VARIANT_ID));
+
+        assertEquals("stale svg", staleDiagram.join());
+        assertEquals("rebuilt svg", generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+        assertEquals("rebuilt svg", generateVoltageLevelSvgAndMetadata(VARIANT_ID));
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(VOLTAGE_LEVEL_SVG_PATH)));
+    }
+
+    @Test
+    void testVariantUpdatedByLoadFlowDiagramIsGeneratedAgain() throws JsonProcessingException {
+        RootNetworkNodeInfoEntity rootNetworkNodeInfo = createStudyNode();
+        String variantId = rootNetworkNodeInfo.getVariantId();
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(variantId));
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(variantId));
+
+        // the solved values of the load flow are applied to the variant
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "solved svg", 0);
+        String receiver = objectMapper.writeValueAsString(new NodeReceiver(rootNetworkNodeInfo.getNodeInfo().getId(), rootNetworkNodeInfo.getRootNetwork().getId()));
+        consumerService.consumeLoadFlowResult().accept(MessageBuilder.createMessage("", new MessageHeaders(Map.of(
+            "resultUuid", UUID.randomUUID().toString(),
+            "withRatioTapChangers", false,
+            HEADER_RECEIVER, receiver))));
+
+        assertEquals("solved svg", generateVoltageLevelSvgAndMetadata(variantId));
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(VOLTAGE_LEVEL_SVG_PATH)));
+    }
+
+    @Test
+    void testVariantChangedThroughAnotherInstanceDiagramIsGeneratedAgain() {
+        String variantId = createStudyNode().getVariantId();
+        assertEquals("svg", generateVoltageLevelSvgAndMetadata(variantId));
+
+        // another instance rebuilt the variant : only the persisted version of the variant changed
+        stubDiagram(VOLTAGE_LEVEL_SVG_PATH, "rebuilt svg", 0);
+        rootNetworkNodeInfoRepository.incrementVariantVersions(NETWORK_UUID, List.of(variantId));
+
+        assertEquals("rebuilt svg", generateVoltageLevelSvgAndMetadata(variantId));
+        assertEquals("rebuilt svg", generateVoltageLevelSvgAndMetadata(variantId));
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlPathEqualTo(VOLTAGE_LEVEL_SVG_PATH)));
+    }
+
+    private RootNetworkNodeInfoEntity createStudyNode() {
+        StudyEntity study = studyRepository.save(TestUtils.createDummyStudy(NETWORK_UUID, UUID.randomUUID(), "caseName", "caseFormat", UUID.randomUUID()));
+        NodeEntity rootNode = networkModificationTreeService.createRoot(study);
+        UUID nodeUuid = networkModificationTreeService.createNode(study, rootNode.getIdNode(), createModificationNodeInfo("node"), InsertMode.CHILD, null).getId();
+        return rootNetworkNodeInfoRepository.findByNodeInfoIdAndRootNetworkId(nodeUuid, study.getFirstRootNetwork().getId()).orElseThrow();
+    }
+
+    private String generateVoltageLevelSvgAndMetadata(String variantId) {
+        return singleLineDiagramService.generateVoltageLevelSvgAndMetadata(NETWORK_UUID, variantId, VOLTAGE_LEVEL_ID, new HashMap<>());
+    }
+
+    private void stubDiagram(String path, String diagram, int delayInMs) {
+        wireMockServer.stubFor(WireMock.post(WireMock.urlPathEqualTo(path))
+            .willReturn(WireMock.ok(diagram).withFixedDelay(delayInMs)));
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "diagrams").tag("result", result).functionCounter().count();
+    }
+}
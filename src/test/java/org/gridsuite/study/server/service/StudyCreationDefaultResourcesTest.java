@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.caseimport.CaseImportAction;
+import org.gridsuite.study.server.dto.caseimport.CaseImportReceiver;
+import org.gridsuite.study.server.error.StudyBusinessErrorCode;
+import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.repository.StudyCreationRequestEntity;
+import org.gridsuite.study.server.repository.StudyCreationRequestRepository;
+import org.gridsuite.study.server.repository.StudyEntity;
+import org.gridsuite.study.server.repository.StudyRepository;
+import org.gridsuite.study.server.service.common.ComputationParameters;
+import org.gridsuite.study.server.service.dynamicmargincalculation.DynamicMarginCalculationRestService;
+import org.gridsuite.study.server.service.dynamicsecurityanalysis.DynamicSecurityAnalysisRestService;
+import org.gridsuite.study.server.service.dynamicsimulation.DynamicSimulationRestService;
+import org.gridsuite.study.server.service.loadflow.LoadFlowRestService;
+import org.gridsuite.study.server.service.pccmin.PccMinRestService;
+import org.gridsuite.study.server.service.securityanalysis.SecurityAnalysisRestService;
+import org.gridsuite.study.server.service.sensitivityanalysis.SensitivityAnalysisRestService;
+import org.gridsuite.study.server.service.shortcircuit.ShortCircuitRestService;
+import org.gridsuite.study.server.service.stateestimation.StateEstimationRestService;
+import org.gridsuite.study.server.service.voltageinit.VoltageInitRestService;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.gridsuite.study.server.StudyConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Check the default resources of an imported study are created concurrently, and removed when the study can not be created
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class StudyCreationDefaultResourcesTest {
+    private static final int DELAY_IN_MS = 500;
+    // 10 computation parameters and 3 study configs
+    private static final int RESOURCE_COUNT = 13;
+    private static final String USER_ID = "userId";
+
+    private static final UUID NETWORK_VISUALIZATION_PARAMETERS_UUID = UUID.randomUUID();
+    private static final UUID SPREADSHEET_CONFIG_COLLECTION_UUID = UUID.randomUUID();
+    private static final UUID WORKSPACES_CONFIG_UUID = UUID.randomUUID();
+
+    @Autowired
+    private ConsumerService consumerService;
+    @Autowired
+    private StudyConfigService studyConfigService;
+    @Autowired
+    private CaseService caseService;
+    @Autowired
+    private UserAdminService userAdminService;
+    @Autowired
+    private NetworkModificationTreeService networkModificationTreeService;
+    @Autowired
+    private StudyRepository studyRepository;
+    @Autowired
+    private StudyCreationRequestRepository studyCreationRequestRepository;
+    @Autowired
+    private ObjectMapper mapper;
+    @Autowired
+    private OutputDestination output;
+
+    @MockitoSpyBean
+    private StudyService studyService;
+    @MockitoSpyBean
+    private StudyServerExecutionService studyServerExecutionService;
+    @MockitoBean
+    private ReportService reportService;
+
+    @MockitoBean
+    private LoadFlowRestService loadFlowRestService;
+    @MockitoBean
+    private ShortCircuitRestService shortCircuitService;
+    @MockitoBean
+    private DynamicSimulationRestService dynamicSimulationRestService;
+    @MockitoBean
+    private VoltageInitRestService voltageInitService;
+    @MockitoBean
+    private SecurityAnalysisRestService securityAnalysisService;
+    @MockitoBean
+    private SensitivityAnalysisRestService sensitivityAnalysisService;
+    @MockitoBean
+    private DynamicSecurityAnalysisRestService dynamicSecurityAnalysisRestService;
+    @MockitoBean
+    private DynamicMarginCalculationRestService dynamicMarginCalculationRestService;
+    @MockitoBean
+    private StateEstimationRestService stateEstimationService;
+    @MockitoBean
+    private PccMinRestService pccMinService;
+
+    private WireMockServer wireMockServer;
+
+    private final Map<ComputationParameters, UUID> computationParametersUuids = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        studyConfigService.setStudyConfigServerBaseUri(wireMockServer.baseUrl());
+        caseService.setCaseServerBaseUri(wireMockServer.baseUrl());
+        userAdminService.setUserAdminServerBaseUri(wireMockServer.baseUrl());
+
+        // remote services latency
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/users/" + USER_ID + "/profile")).willReturn(WireMock.notFound()));
+        wireMockServer.stubFor(WireMock.put(WireMock.urlPathMatching("/v1/cases/.*/disableExpiration")).willReturn(WireMock.ok()));
+        stubCreation("/v1/network-visualizations-params/default", NETWORK_VISUALIZATION_PARAMETERS_UUID);
+        stubCreation("/v1/spreadsheet-config-collections/default", SPREADSHEET_CONFIG_COLLECTION_UUID);
+        stubCreation("/v1/workspaces-configs", WORKSPACES_CONFIG_UUID);
+        wireMockServer.stubFor(WireMock.delete(WireMock.urlPathMatching("/v1/.*")).willReturn(WireMock.ok()));
+        List.of(loadFlowRestService, shortCircuitService, dynamicSimulationRestService, voltageInitService, securityAnalysisService,
+                sensitivityAnalysisService, dynamicSecurityAnalysisRestService, dynamicMarginCalculationRestService, stateEstimationService, pccMinService)
+            .forEach(computationParameters -> when(computationParameters.doCreateDefaultParameters(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+                Thread.sleep(DELAY_IN_MS);
+                UUID parametersUuid = UUID.randomUUID();
+                computationParametersUuids.put(computationParameters, parametersUuid);
+                return parametersUuid;
+            }));
+    }
+
+    @AfterEach
+    void tearDown() {
+        studyRepository.findAll().forEach(s -> networkModificationTreeService.doDeleteTree(s.getId()));
+        studyRepository.deleteAll();
+        studyCreationRequestRepository.deleteAll();
+        output.clear();
+        wireMockServer.shutdown();
+    }
+
+    @Test
+    void testDefaultResourcesAreCreatedConcurrently() throws JsonProcessingException {
+        UUID studyUuid = UUID.randomUUID();
+        studyCreationRequestRepository.save(new StudyCreationRequestEntity(studyUuid, "firstRootNetworkName"));
+
+        long start = System.nanoTime();
+        consumerService.consumeCaseImportSucceeded().accept(MessageBuilder.createMessage("", prepareMessageHeaders(studyUuid)));
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedInMs < RESOURCE_COUNT * DELAY_IN_MS / 2, "Study created in " + elapsedInMs + " ms");
+        StudyEntity studyEntity = studyRepository.findById(studyUuid).orElseThrow();
+        assertEquals(NETWORK_VISUALIZATION_PARAMETERS_UUID, studyEntity.getNetworkVisualizationParametersUuid());
+        assertEquals(SPREADSHEET_CONFIG_COLLECTION_UUID, studyEntity.getSpreadsheetConfigCollectionUuid());
+        assertEquals(WORKSPACES_CONFIG_UUID, studyEntity.getWorkspacesConfigUuid());
+        assertEquals(computationParametersUuids.get(loadFlowRestService), studyEntity.getLoadFlowParametersUuid());
+        assertEquals(computationParametersUuids.get(pccMinService), studyEntity.getPccMinParametersUuid());
+        wireMockServer.verify(0, WireMock.deleteRequestedFor(WireMock.anyUrl()));
+    }
+
+    @Test
+    void testDefaultResourcesAreDeletedWhenStudyCreationFails() throws JsonProcessingException {
+        UUID studyUuid = UUID.randomUUID();
+        studyCreationRequestRepository.save(new StudyCreationRequestEntity(studyUuid, "firstRootNetworkName"));
+        // a failing default resource creation does not prevent the study creation, but a failing study insertion does
+        wireMockServer.stubFor(WireMock.post(WireMock.urlPathEqualTo("/v1/workspaces-configs")).willReturn(WireMock.serverError()));
+        doThrow(new IllegalStateException("insertion failed")).when(studyService).insertStudy(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+
+        consumerService.consumeCaseImportSucceeded().accept(MessageBuilder.createMessage("", prepareMessageHeaders(studyUuid)));
+
+        assertTrue(studyRepository.findById(studyUuid).isEmpty());
+        // no orphan resource left
+        wireMockServer.verify(1, WireMock.deleteRequestedFor(WireMock.urlPathEqualTo("/v1/network-visualizations-params/" + NETWORK_VISUALIZATION_PARAMETERS_UUID)));
+        wireMockServer.verify(1, WireMock.deleteRequestedFor(WireMock.urlPathEqualTo("/v1/spreadsheet-config-collections/" + SPREADSHEET_CONFIG_COLLECTION_UUID)));
+        wireMockServer.verify(0, WireMock.deleteRequestedFor(WireMock.urlPathMatching("/v1/workspaces-configs/.*")));
+        assertEquals(10, computationParametersUuids.size());
+        computationParametersUuids.forEach((computationParameters, parametersUuid) ->
+            verify(computationParameters).doDeleteComputationParameters(eq(parametersUuid), any(), any()));
+    }
+
+    @Test
+    void testDefaultResourcesAreDeletedWhenTheirCreationCanNotBeSubmitted() throws JsonProcessingException {
+        UUID studyUuid = UUID.randomUUID();
+        studyCreationRequestRepository.save(new StudyCreationRequestEntity(studyUuid, "firstRootNetworkName"));
+        // the executor is saturated once the computation parameters and network visualization parameters creations are submitted
+        doCallRealMethod().doCallRealMethod().doThrow(new StudyException(StudyBusinessErrorCode.EXECUTOR_SATURATED)).doCallRealMethod()
+            .when(studyServerExecutionService).supplyAsync(any());
+
+        consumerService.consumeCaseImportSucceeded().accept(MessageBuilder.createMessage("", prepareMessageHeaders(studyUuid)));
+
+        assertTrue(studyRepository.findById(studyUuid).isEmpty());
+        verify(studyService, never()).insertStudy(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        // the creations already started are deleted once done, the others are never started
+        wireMockServer.verify(1, WireMock.deleteRequestedFor(WireMock.urlPathEqualTo("/v1/network-visualizations-params/" + NETWORK_VISUALIZATION_PARAMETERS_UUID)));
+        wireMockServer.verify(0, WireMock.postRequestedFor(WireMock.urlPathEqualTo("/v1/spreadsheet-config-collections/default")));
+        wireMockServer.verify(0, WireMock.postRequestedFor(WireMock.urlPathEqualTo("/v1/workspaces-configs")));
+        assertEquals(10, computationParametersUuids.size());
+        computationParametersUuids.forEach((computationParameters, parametersUuid) ->
+            verify(computationParameters).doDeleteComputationParameters(eq(parametersUuid), any(), any()));
+    }
+
+    private void stubCreation(String path, UUID createdUuid) {
+        wireMockServer.stubFor(WireMock.post(WireMock.urlPathEqualTo(path))
+            .willReturn(WireMock.okJson("\"" + createdUuid + "\"").withFixedDelay(DELAY_IN_MS)));
+    }
+
+    private MessageHeaders prepareMessageHeaders(UUID studyUuid) throws JsonProcessingException {
+        CaseImportReceiver receiver = new CaseImportReceiver(studyUuid, null, UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), USER_ID, System.nanoTime(), CaseImportAction.STUDY_CREATION);
+        return new MessageHeaders(Map.of(
+            HEADER_USER_ID, USER_ID,
+            QUERY_PARAM_NETWORK_UUID, UUID.randomUUID().toString(),
+            "networkId", "networkId",
+            CASE_FORMAT, "UCTE",
+            "caseName", "nameOfCase",
+            HEADER_IMPORT_PARAMETERS, new HashMap<>(),
+            HEADER_RECEIVER, mapper.writeValueAsString(receiver)));
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.dto.CaseInfos;
+import org.gridsuite.study.server.dto.studyexport.RootNetworkExportInfos;
+import org.gridsuite.study.server.dto.studyexport.TreeExportInfos;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Check the cases of an exported study are downloaded concurrently and written in the zip in the tree order
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class StudyExportServiceTest {
+    private static final UUID STUDY_UUID = UUID.randomUUID();
+    private static final String USER_ID = "userId";
+    private static final int CASE_COUNT = 4;
+    private static final int CASE_SIZE = 4 * 1024 * 1024;
+    private static final int SERVER_DELAY_IN_MS = 1000;
+
+    @Autowired
+    private StudyExportService studyExportService;
+    @Autowired
+    private CaseService caseService;
+
+    @MockitoBean
+    private StudyService studyService;
+    @MockitoBean
+    private DirectoryService directoryService;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        caseService.setCaseServerBaseUri(wireMockServer.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testCasesAreDownloadedConcurrently() throws Exception {
+        List<RootNetworkExportInfos> rootNetworks = new ArrayList<>();
+        Map<String, byte[]> expectedEntries = new LinkedHashMap<>();
+        for (int i = 0; i < CASE_COUNT; i++) {
+            UUID caseUuid = UUID.randomUUID();
+            String caseName = "case" + i + ".xiidm";
+            byte[] content = new byte[CASE_SIZE];
+            Arrays.fill(content, (byte) ('a' + i));
+            rootNetworks.add(new RootNetworkExportInfos("rootNetwork" + i, "rn" + i, i, new CaseInfos(caseUuid, caseUuid, caseName, "XIIDM"), Map.of()));
+            expectedEntries.put("cases/" + caseUuid + "/" + caseName, content);
+            wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/cases/" + caseUuid))
+                .willReturn(WireMock.ok()
+                    .withHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .withBody(gzip(content))
+                    .withFixedDelay(SERVER_DELAY_IN_MS)));
+        }
+        // a case shared by two root networks is exported once
+        rootNetworks.add(new RootNetworkExportInfos("rootNetwork" + CASE_COUNT, "rn" + CASE_COUNT, CASE_COUNT, rootNetworks.getFirst().caseInfos(), Map.of()));
+        when(studyService.buildTreeExport(STUDY_UUID)).thenReturn(new TreeExportInfos(STUDY_UUID, rootNetworks, null));
+
+        long start = System.nanoTime();
+        InputStreamResource resource = studyExportService.exportStudy(STUDY_UUID, USER_ID);
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        List<String> entryNames = new ArrayList<>();
+        try (InputStream in = resource.getInputStream(); ZipInputStream zis = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                byte[] expectedContent = expectedEntries.get(entry.getName());
+                if (expectedContent != null) {
+                    assertArrayEquals(expectedContent, zis.readAllBytes(), entry.getName());
+                }
+            }
+        }
+        List<String> expectedEntryNames = new ArrayList<>(List.of(StudyExportService.TREE_JSON_FILE_NAME));
+        expectedEntryNames.addAll(expectedEntries.keySet());
+        assertEquals(expectedEntryNames, entryNames);
+        // close to the slowest case download rather than the sum of all the downloads
+        assertTrue(elapsedInMs < 2L * SERVER_DELAY_IN_MS, "Study exported in " + elapsedInMs + " ms");
+        wireMockServer.verify(CASE_COUNT, WireMock.getRequestedFor(WireMock.urlPathMatching("/v1/cases/.*")));
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(content);
+        }
+        return out.toByteArray();
+    }
+}
@@ -9,12 +9,30 @@ package org.gridsuite.study.server.service;
 import io.micrometer.context.ContextExecutorService;
 import io.micrometer.context.ContextRegistry;
 import io.micrometer.context.ThreadLocalAccessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gridsuite.study.server.error.StudyBusinessErrorCode;
+import org.gridsuite.study.server.error.StudyException;
+import org.gridsuite.study.server.service.StudyServerExecutionService.ExecutorType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +42,10 @@ import static org.junit.jupiter.api.Assertions.*;
 class StudyServerExecutionServiceTest {
 
     private static final String THREAD_LOCAL_KEY = "study-server-thread-local";
+    private static final int TASK_COUNT = 10_000;
+    private static final int MAX_CONCURRENCY = 8;
+    private static final int QUEUE_CAPACITY = 100;
+
     private final ThreadLocal<String> threadLocal = new ThreadLocal<>();
 
     @AfterEach
@@ -56,18 +78,170 @@ class StudyServerExecutionServiceTest {
             }
         });
 
-        StudyServerExecutionService service = new StudyServerExecutionService();
-        Method postConstruct = StudyServerExecutionService.class.getDeclaredMethod("postConstruct");
-        postConstruct.setAccessible(true);
-        postConstruct.invoke(service);
+        StudyServerExecutionService service = new StudyServerExecutionService(new SimpleMeterRegistry(), ExecutorType.PLATFORM, MAX_CONCURRENCY, QUEUE_CAPACITY);
+        try {
+            Field executorField = StudyServerExecutionService.class.getDeclaredField("executorService");
+            executorField.setAccessible(true);
+
+            ExecutorService executorService = (ExecutorService) executorField.get(service);
+            assertInstanceOf(ContextExecutorService.class, executorService, "executor should be wrapped in ContextExecutorService");
+
+            threadLocal.set("expected-context");
+            assertEquals("expected-context", executorService.submit(threadLocal::get).get());
+            assertEquals("expected-context", service.supplyAsync(threadLocal::get).get());
+        } finally {
+            ReflectionTestUtils.invokeMethod(service, "preDestroy");
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutorType.class)
+    void testConcurrencyIsBounded(ExecutorType executorType) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StudyServerExecutionService executionService = new StudyServerExecutionService(meterRegistry, executorType, MAX_CONCURRENCY, QUEUE_CAPACITY);
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger maxRunningTasks = new AtomicInteger();
+        AtomicInteger subTasks = new AtomicInteger();
+        Set<Thread> platformThreads = ConcurrentHashMap.newKeySet();
+        int rejectedTasks = 0;
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < TASK_COUNT; i++) {
+                futures.add(executionService.runAsync(() -> {
+                    maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+                    if (!Thread.currentThread().isVirtual()) {
+                        platformThreads.add(Thread.currentThread());
+                    }
+                    // a task waiting for its sub task does not need another thread
+                    executionService.runAsync(subTasks::incrementAndGet).join();
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    runningTasks.decrementAndGet();
+                }));
+            }
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    StudyException exception = assertInstanceOf(StudyException.class, e.getCause());
+                    assertEquals(StudyBusinessErrorCode.EXECUTOR_SATURATED, exception.getBusinessErrorCode());
+                    rejectedTasks++;
+                }
+            }
+            assertEquals(futures.size() - rejectedTasks, subTasks.get());
+        } finally {
+            ReflectionTestUtils.invokeMethod(executionService, "preDestroy");
+        }
+
+        // the burst is dropped rather than run by the submitting thread
+        assertTrue(rejectedTasks > 0);
+        assertEquals(rejectedTasks, meterRegistry.get("study.executor.rejected").counter().count());
+        assertEquals(rejectedTasks, meterRegistry.get("study.executor.dropped").counter().count());
+        assertTrue(maxRunningTasks.get() <= MAX_CONCURRENCY, maxRunningTasks.get() + " tasks running at the same time");
+        if (executorType == ExecutorType.PLATFORM) {
+            assertTrue(platformThreads.size() <= MAX_CONCURRENCY, platformThreads.size() + " threads used");
+        } else {
+            assertTrue(platformThreads.isEmpty());
+        }
+        assertNotNull(meterRegistry.find("study.executor.active").gauge());
+        assertEquals(0, meterRegistry.get("study.executor.queued").gauge().value());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExecutorType.class)
+    void testSaturatedExecutorRejectsTasks(ExecutorType executorType) throws InterruptedException {
+        StudyServerExecutionService executionService = new StudyServerExecutionService(new SimpleMeterRegistry(), executorType, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Void> running = executionService.runAsync(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            CompletableFuture<Integer> waiting = executionService.supplyAsync(() -> 1);
+
+            StudyException exception = assertThrows(StudyException.class, () -> executionService.supplyAsync(() -> 2));
+            assertEquals(StudyBusinessErrorCode.EXECUTOR_SATURATED, exception.getBusinessErrorCode());
+            // a fire and forget task is dropped without throwing
+            AtomicBoolean droppedTaskRun = new AtomicBoolean();
+            CompletableFuture<Void> dropped = assertDoesNotThrow(() -> executionService.runAsync(() -> droppedTaskRun.set(true)));
+            assertTrue(dropped.isCompletedExceptionally());
+
+            // the items are processed by the calling thread when no thread is available
+            assertEquals(List.of(0, 2, 4), executionService.mapConcurrently(List.of(0, 1, 2), item -> 2 * item, 3));
+
+            release.countDown();
+            running.join();
+            assertEquals(1, waiting.join());
+            assertEquals(2, executionService.supplyAsync(() -> 2).join());
+            assertFalse(droppedTaskRun.get());
+        } finally {
+            release.countDown();
+            ReflectionTestUtils.invokeMethod(executionService, "preDestroy");
+        }
+    }
+
+    @Test
+    void testTaskInterruptedWhileWaitingIsFailed() throws Exception {
+        StudyServerExecutionService executionService = new StudyServerExecutionService(new SimpleMeterRegistry(), ExecutorType.VIRTUAL, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> running = executionService.runAsync(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // waits for the permit held by the running task
+        CompletableFuture<Integer> waiting = executionService.supplyAsync(() -> 1);
+
+        ExecutorService executorService = (ExecutorService) ReflectionTestUtils.getField(executionService, "executorService");
+        executorService.shutdownNow();
 
-        Field executorField = StudyServerExecutionService.class.getDeclaredField("executorService");
-        executorField.setAccessible(true);
+        CompletionException exception = assertThrows(CompletionException.class, () -> waiting.orTimeout(5, TimeUnit.SECONDS).join());
+        assertInstanceOf(InterruptedException.class, exception.getCause());
+        running.orTimeout(5, TimeUnit.SECONDS).join();
+    }
 
-        ExecutorService executorService = (ExecutorService) executorField.get(service);
-        assertInstanceOf(ContextExecutorService.class, executorService, "executor should be wrapped in ContextExecutorService");
+    @ParameterizedTest
+    @EnumSource(ExecutorType.class)
+    void testMapConcurrentlyFromRunningTasks(ExecutorType executorType) {
+        StudyServerExecutionService executionService = new StudyServerExecutionService(new SimpleMeterRegistry(), executorType, MAX_CONCURRENCY, QUEUE_CAPACITY);
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        try {
+            // all the threads or permits are used by tasks waiting for their items
+            List<CompletableFuture<List<Integer>>> futures = IntStream.range(0, 2 * MAX_CONCURRENCY)
+                .mapToObj(i -> executionService.supplyAsync(() -> executionService.mapConcurrently(items, item -> {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 2 * item;
+                }, MAX_CONCURRENCY)))
+                .toList();
+            futures.forEach(future -> assertEquals(items.stream().map(item -> 2 * item).toList(), future.join()));
 
-        threadLocal.set("expected-context");
-        assertEquals("expected-context", executorService.submit(threadLocal::get).get());
+            AtomicInteger processedItems = new AtomicInteger();
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> executionService.mapConcurrently(items, item -> {
+                processedItems.incrementAndGet();
+                if (item == 10) {
+                    throw new IllegalStateException("item " + item);
+                }
+                return item;
+            }, 1));
+            assertEquals("item 10", exception.getMessage());
+            // the items following the failure are skipped
+            assertEquals(11, processedItems.get());
+        } finally {
+            ReflectionTestUtils.invokeMethod(executionService, "preDestroy");
+        }
     }
 }
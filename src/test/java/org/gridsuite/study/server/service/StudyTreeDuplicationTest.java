@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service;
+
+import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
+import org.gridsuite.study.server.networkmodificationtree.dto.AbstractNode;
+import org.gridsuite.study.server.networkmodificationtree.dto.InsertMode;
+import org.gridsuite.study.server.networkmodificationtree.dto.NetworkModificationNode;
+import org.gridsuite.study.server.networkmodificationtree.entities.NodeEntity;
+import org.gridsuite.study.server.repository.StudyEntity;
+import org.gridsuite.study.server.repository.StudyRepository;
+import org.gridsuite.study.server.utils.TestUtils;
+import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.gridsuite.study.server.utils.TestUtils.createModificationNodeInfo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Check the modification groups of a large study tree are duplicated concurrently
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisableElasticsearch
+@ContextConfigurationWithTestChannel
+class StudyTreeDuplicationTest {
+    private static final int NODE_COUNT = 200;
+    private static final long DUPLICATION_DELAY_IN_MS = 50;
+
+    @Autowired
+    private NetworkModificationTreeService networkModificationTreeService;
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @MockitoBean
+    private NetworkModificationService networkModificationService;
+
+    @Test
+    void testModificationGroupsAreDuplicatedConcurrently() {
+        StudyEntity sourceStudy = studyRepository.save(TestUtils.createDummyStudy(UUID.randomUUID(), UUID.randomUUID(), "caseName", "caseFormat", UUID.randomUUID()));
+        NodeEntity rootNode = networkModificationTreeService.createRoot(sourceStudy);
+        // binary tree of modification nodes
+        List<UUID> nodeUuids = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            UUID parentUuid = i == 0 ? rootNode.getIdNode() : nodeUuids.get((i - 1) / 2);
+            nodeUuids.add(networkModificationTreeService.createNode(sourceStudy, parentUuid, createModificationNodeInfo("node" + i), InsertMode.CHILD, null).getId());
+        }
+        StudyEntity targetStudy = studyRepository.save(TestUtils.createDummyStudy(UUID.randomUUID(), UUID.randomUUID(), "caseName", "caseFormat", UUID.randomUUID()));
+
+        // network-modification-server duplication latency
+        AtomicInteger runningDuplications = new AtomicInteger();
+        AtomicInteger maxRunningDuplications = new AtomicInteger();
+        Map<UUID, UUID> duplicatedGroups = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            maxRunningDuplications.accumulateAndGet(runningDuplications.incrementAndGet(), Math::max);
+            Thread.sleep(DUPLICATION_DELAY_IN_MS);
+            duplicatedGroups.put(invocation.getArgument(1), invocation.getArgument(0));
+            runningDuplications.decrementAndGet();
+            return Map.of();
+        }).when(networkModificationService).duplicateModificationsGroup(any(), any());
+
+        long start = System.nanoTime();
+        networkModificationTreeService.duplicateStudyNodes(targetStudy, sourceStudy);
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // one duplication by node
+        verify(networkModificationService, times(NODE_COUNT)).duplicateModificationsGroup(any(), any());
+        assertTrue(maxRunningDuplications.get() > 1, "At most " + maxRunningDuplications.get() + " duplications at the same time");
+        assertTrue(elapsedInMs < NODE_COUNT * DUPLICATION_DELAY_IN_MS / 2, "Study tree duplicated in " + elapsedInMs + " ms");
+
+        // each duplicated node uses the duplicated group of its origin node
+        List<NetworkModificationNode> duplicatedNodes = new ArrayList<>();
+        collectNetworkModificationNodes(networkModificationTreeService.getStudyTree(targetStudy.getId(), null), duplicatedNodes);
+        assertEquals(NODE_COUNT, duplicatedNodes.size());
+        Set<UUID> sourceGroupUuids = new HashSet<>();
+        nodeUuids.forEach(nodeUuid -> sourceGroupUuids.add(networkModificationTreeService.getModificationGroupUuid(nodeUuid)));
+        duplicatedNodes.forEach(node -> assertTrue(sourceGroupUuids.contains(duplicatedGroups.get(node.getModificationGroupUuid()))));
+    }
+
+    private static void collectNetworkModificationNodes(AbstractNode node, List<NetworkModificationNode> networkModificationNodes) {
+        if (node instanceof NetworkModificationNode networkModificationNode) {
+            networkModificationNodes.add(networkModificationNode);
+        }
+        node.getChildren().forEach(child -> collectNetworkModificationNodes(child, networkModificationNodes));
+    }
+}
@@ -6,9 +6,11 @@
  */
 package org.gridsuite.study.server.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.gridsuite.study.server.ContextConfigurationWithTestChannel;
 import org.gridsuite.study.server.dto.QuotaType;
 import org.gridsuite.study.server.utils.elasticsearch.DisableElasticsearch;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,20 +37,30 @@ import static org.mockito.Mockito.when;
  * @author Ghiles Abdellah {@literal <ghiles.abdellah at rte-france.com>}
 
  * Unit tests for {@link UserAdminService}, focusing on the operation quota REST calls
- * (get max/current quota, start/end operation with quota) introduced alongside {@link QuotaType}.
+ * (get max/current quota, start/end operation with quota) introduced alongside {@link QuotaType}, and on the cache of the
+ * max quotas.
  */
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {"study.user-admin.quota-cache-ttl=1m"})
 @DisableElasticsearch
 @ContextConfigurationWithTestChannel
 class UserAdminServiceTest {
     private static final String USER_ID = "userId";
+    private static final int BUILD_COUNT = 100;
 
     @Autowired
     private UserAdminService userAdminService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private RestTemplate restTemplate;
 
+    @BeforeEach
+    void setup() {
+        userAdminService.evictAllUserMaxQuotas();
+    }
+
     @Test
     void testGetUserMaxQuota() {
         Map<QuotaType, Integer> expectedQuotas = Map.of(QuotaType.LOAD_FLOW, 5, QuotaType.BUILD, 10);
@@ -112,4 +124,53 @@ class UserAdminServiceTest {
                 isNull(),
                 eq(Void.class));
     }
+
+    @Test
+    void testMaxQuotaIsRequestedOnce() {
+        mockUserMaxQuota(Map.of(QuotaType.BUILD, 200));
+        double hitsBefore = getCacheGets("hit");
+        double missesBefore = getCacheGets("miss");
+
+        // one quota check per node build
+        for (int i = 0; i < BUILD_COUNT; i++) {
+            assertEquals(Map.of(QuotaType.BUILD, 200), userAdminService.getUserMaxQuota(USER_ID));
+        }
+
+        verify(restTemplate, times(1)).exchange(
+                matches(".*/users/" + USER_ID + "/quota/max$"),
+                eq(HttpMethod.GET),
+                isNull(),
+                Mockito.<ParameterizedTypeReference<Map<QuotaType, Integer>>>any());
+        assertEquals(BUILD_COUNT - 1, getCacheGets("hit") - hitsBefore);
+        assertEquals(1, getCacheGets("miss") - missesBefore);
+    }
+
+    @Test
+    void testEvictedMaxQuotaIsRequestedAgain() {
+        mockUserMaxQuota(Map.of(QuotaType.BUILD, 200));
+        userAdminService.getUserMaxQuota(USER_ID);
+        mockUserMaxQuota(Map.of(QuotaType.BUILD, 300));
+        assertEquals(Map.of(QuotaType.BUILD, 200), userAdminService.getUserMaxQuota(USER_ID));
+
+        userAdminService.evictUserMaxQuota(USER_ID);
+        assertEquals(Map.of(QuotaType.BUILD, 300), userAdminService.getUserMaxQuota(USER_ID));
+        verify(restTemplate, times(2)).exchange(
+                matches(".*/users/" + USER_ID + "/quota/max$"),
+                eq(HttpMethod.GET),
+                isNull(),
+                Mockito.<ParameterizedTypeReference<Map<QuotaType, Integer>>>any());
+    }
+
+    private void mockUserMaxQuota(Map<QuotaType, Integer> quotas) {
+        when(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                isNull(),
+                Mockito.<ParameterizedTypeReference<Map<QuotaType, Integer>>>any()))
+                .thenReturn(ResponseEntity.ok(quotas));
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "userMaxQuotas").tag("result", result).functionCounter().count();
+    }
 }
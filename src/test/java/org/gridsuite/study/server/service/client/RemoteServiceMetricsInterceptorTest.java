@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.gridsuite.study.server.RemoteServicesProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check the requests to the remote services are exported as prometheus series tagged by service and URI template
+ */
+class RemoteServiceMetricsInterceptorTest {
+    private PrometheusMeterRegistry meterRegistry;
+    private WireMockServer wireMockServer;
+    private RemoteServicesProperties remoteServicesProperties;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setup() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        remoteServicesProperties = new RemoteServicesProperties();
+        remoteServicesProperties.setServices(List.of(new RemoteServicesProperties.Service("network-map-server", wireMockServer.baseUrl(), false)));
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new RemoteServiceMetricsInterceptor(meterRegistry, remoteServicesProperties, new MockEnvironment()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testRequestsAreTimedByServiceAndUriTemplate() {
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/networks/.*/voltage-levels")).willReturn(WireMock.ok("[]")));
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/networks/.*/branches/.*")).willReturn(WireMock.serverError()));
+
+        restTemplate.getForObject(wireMockServer.baseUrl() + "/v1/networks/" + UUID.randomUUID() + "/voltage-levels?variantId=variant_1", String.class);
+        restTemplate.getForObject(wireMockServer.baseUrl() + "/v1/networks/" + UUID.randomUUID() + "/voltage-levels", String.class);
+        String branchUri = wireMockServer.baseUrl() + "/v1/networks/" + UUID.randomUUID() + "/branches/12";
+        assertThrows(HttpServerErrorException.class, () -> restTemplate.getForObject(branchUri, String.class));
+
+        String scrape = meterRegistry.scrape();
+        assertSeries(scrape, "study_remote_requests_seconds_count", 2,
+            "service=\"network-map-server\"", "uri=\"/v1/networks/{uuid}/voltage-levels\"", "method=\"GET\"", "status=\"200\"");
+        assertSeries(scrape, "study_remote_requests_seconds_count", 1,
+            "service=\"network-map-server\"", "uri=\"/v1/networks/{uuid}/branches/{id}\"", "status=\"500\"");
+        // percentile histogram
+        assertTrue(scrape.lines().anyMatch(line -> line.startsWith("study_remote_requests_seconds_bucket{") && line.contains("le=\"+Inf\"")));
+        assertSeries(scrape, "study_remote_requests_inflight", 0, "service=\"network-map-server\"");
+    }
+
+    @Test
+    void testRequestsToUnknownServices() {
+        // same server, but not the configured base URI
+        String uri = "http://127.0.0.1:" + wireMockServer.port() + "/v1/cases/" + UUID.randomUUID();
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/cases/.*")).willReturn(WireMock.ok("content")));
+        restTemplate.getForObject(uri, String.class);
+        wireMockServer.stop();
+        assertThrows(Exception.class, () -> restTemplate.getForObject(uri, String.class));
+
+        String scrape = meterRegistry.scrape();
+        assertSeries(scrape, "study_remote_requests_seconds_count", 1,
+            "service=\"unknown\"", "uri=\"/v1/cases/{uuid}\"", "status=\"200\"");
+        assertSeries(scrape, "study_remote_requests_seconds_count", 1,
+            "service=\"unknown\"", "uri=\"/v1/cases/{uuid}\"", "status=\"IO_ERROR\"");
+    }
+
+    @Test
+    void testEquipmentIdentifiersAreTemplated() {
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/networks/.*/voltage-levels/.*/substation-id")).willReturn(WireMock.ok("S1")));
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/networks/.*/branch-or-3wt/.*/voltage-level-id")).willReturn(WireMock.ok("VL1")));
+
+        UUID networkUuid = UUID.randomUUID();
+        List.of("VL1", "VL2", "VL3").forEach(voltageLevelId ->
+            restTemplate.getForObject(wireMockServer.baseUrl() + "/v1/networks/" + networkUuid + "/voltage-levels/" + voltageLevelId + "/substation-id", String.class));
+        restTemplate.getForObject(wireMockServer.baseUrl() + "/v1/networks/" + networkUuid + "/branch-or-3wt/LINE1/voltage-level-id?side=ONE", String.class);
+
+        String scrape = meterRegistry.scrape();
+        assertSeries(scrape, "study_remote_requests_seconds_count", 3,
+            "service=\"network-map-server\"", "uri=\"/v1/networks/{uuid}/voltage-levels/{voltageLevelId}/substation-id\"");
+        assertSeries(scrape, "study_remote_requests_seconds_count", 1,
+            "service=\"network-map-server\"", "uri=\"/v1/networks/{uuid}/branch-or-3wt/{equipmentId}/voltage-level-id\"");
+        assertFalse(scrape.contains("VL1"));
+        assertFalse(scrape.contains("LINE1"));
+    }
+
+    @Test
+    void testServiceUriChangesAreFollowed() {
+        wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/cases/.*")).willReturn(WireMock.ok("content")));
+        String uri = "http://127.0.0.1:" + wireMockServer.port() + "/v1/cases/" + UUID.randomUUID();
+        restTemplate.getForObject(uri, String.class);
+
+        remoteServicesProperties.setServiceUri("network-map-server", "http://127.0.0.1:" + wireMockServer.port());
+        restTemplate.getForObject(uri, String.class);
+        restTemplate.getForObject(wireMockServer.baseUrl() + "/v1/cases/" + UUID.randomUUID(), String.class);
+
+        String scrape = meterRegistry.scrape();
+        assertSeries(scrape, "study_remote_requests_seconds_count", 1,
+            "service=\"network-map-server\"", "uri=\"/v1/cases/{uuid}\"");
+        assertSeries(scrape, "study_remote_requests_seconds_count", 2,
+            "service=\"unknown\"", "uri=\"/v1/cases/{uuid}\"");
+    }
+
+    private static void assertSeries(String scrape, String name, double expectedValue, String... labels) {
+        String series = scrape.lines()
+            .filter(line -> line.startsWith(name + "{") && List.of(labels).stream().allMatch(line::contains))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No series " + name + " with labels " + List.of(labels) + " in\n" + scrape));
+        assertEquals(expectedValue, Double.parseDouble(series.substring(series.lastIndexOf(' ') + 1)), series);
+    }
+}
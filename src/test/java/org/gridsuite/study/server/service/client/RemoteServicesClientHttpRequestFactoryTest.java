@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.gridsuite.study.server.RemoteServicesProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check the timeouts and the connection pool of each remote service
+ */
+class RemoteServicesClientHttpRequestFactoryTest {
+    private static final int NETWORK_MAP_MAX_CONNECTIONS = 2;
+    private static final long SLOW_RESPONSE_DELAY_IN_MS = 1500;
+
+    private WireMockServer networkMapServer;
+    private WireMockServer caseServer;
+    private RemoteServicesProperties remoteServicesProperties;
+    private MeterRegistry meterRegistry;
+    private RemoteServicesClientHttpRequestFactory requestFactory;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setup() {
+        networkMapServer = new WireMockServer(wireMockConfig().dynamicPort());
+        networkMapServer.start();
+        caseServer = new WireMockServer(wireMockConfig().dynamicPort());
+        caseServer.start();
+
+        RemoteServicesProperties.Service networkMapService = new RemoteServicesProperties.Service("network-map-server", networkMapServer.baseUrl(), false);
+        networkMapService.setMaxConnections(NETWORK_MAP_MAX_CONNECTIONS);
+        networkMapService.setReadTimeout(Duration.ofSeconds(3));
+        remoteServicesProperties = new RemoteServicesProperties();
+        remoteServicesProperties.setServices(List.of(networkMapService, new RemoteServicesProperties.Service("case-server", caseServer.baseUrl(), false)));
+        remoteServicesProperties.getHttpClient().setReadTimeout(Duration.ofMillis(300));
+        remoteServicesProperties.getHttpClient().setConnectionRequestTimeout(Duration.ofMillis(200));
+
+        meterRegistry = new SimpleMeterRegistry();
+        requestFactory = new RemoteServicesClientHttpRequestFactory(remoteServicesProperties, new MockEnvironment(), meterRegistry);
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        requestFactory.destroy();
+        networkMapServer.stop();
+        caseServer.stop();
+    }
+
+    @Test
+    void testReadTimeout() {
+        caseServer.stubFor(WireMock.get("/v1/cases").willReturn(WireMock.ok("[]").withFixedDelay((int) SLOW_RESPONSE_DELAY_IN_MS)));
+
+        long start = System.nanoTime();
+        ResourceAccessException exception = assertThrows(ResourceAccessException.class,
+            () -> restTemplate.getForObject(caseServer.baseUrl() + "/v1/cases", String.class));
+        long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertInstanceOf(SocketTimeoutException.class, exception.getCause());
+        assertTrue(elapsedInMs < SLOW_RESPONSE_DELAY_IN_MS, "Request failed after " + elapsedInMs + " ms");
+    }
+
+    @Test
+    void testServiceReadTimeout() {
+        networkMapServer.stubFor(WireMock.get("/v1/networks").willReturn(WireMock.ok("[]").withFixedDelay(500)));
+
+        // the read timeout of the service is longer than the default one
+        assertEquals("[]", restTemplate.getForObject(networkMapServer.baseUrl() + "/v1/networks", String.class));
+    }
+
+    @Test
+    void testPoolExhaustion() throws Exception {
+        networkMapServer.stubFor(WireMock.get("/v1/networks/slow").willReturn(WireMock.ok("slow").withFixedDelay((int) SLOW_RESPONSE_DELAY_IN_MS)));
+        networkMapServer.stubFor(WireMock.get("/v1/networks/fast").willReturn(WireMock.ok("fast")));
+        caseServer.stubFor(WireMock.get("/v1/cases").willReturn(WireMock.ok("[]")));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(NETWORK_MAP_MAX_CONNECTIONS);
+        try {
+            // all the connections of the network map server pool are used by slow requests
+            List<CompletableFuture<String>> slowRequests = IntStream.range(0, NETWORK_MAP_MAX_CONNECTIONS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> restTemplate.getForObject(networkMapServer.baseUrl() + "/v1/networks/slow", String.class), executorService))
+                .toList();
+            Thread.sleep(300);
+            assertEquals(NETWORK_MAP_MAX_CONNECTIONS, getPoolGauge(RemoteServicesClientHttpRequestFactory.LEASED_CONNECTIONS_METER_NAME, "network-map-server"));
+
+            long start = System.nanoTime();
+            CompletableFuture<String> pendingRequest = CompletableFuture.supplyAsync(() -> restTemplate.getForObject(networkMapServer.baseUrl() + "/v1/networks/fast", String.class));
+            Thread.sleep(100);
+            // the request waiting for a connection is visible
+            assertEquals(1, getPoolGauge(RemoteServicesClientHttpRequestFactory.PENDING_CONNECTIONS_METER_NAME, "network-map-server"));
+            CompletionException exception = assertThrows(CompletionException.class, pendingRequest::join);
+            long elapsedInMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            assertInstanceOf(ResourceAccessException.class, exception.getCause());
+            assertInstanceOf(ConnectionRequestTimeoutException.class, exception.getCause().getCause());
+            assertEquals(0, getPoolGauge(RemoteServicesClientHttpRequestFactory.PENDING_CONNECTIONS_METER_NAME, "network-map-server"));
+            assertTrue(elapsedInMs < SLOW_RESPONSE_DELAY_IN_MS, "Connection request failed after " + elapsedInMs + " ms");
+
+            // the other services are not impacted
+            assertEquals("[]", restTemplate.getForObject(caseServer.baseUrl() + "/v1/cases", String.class));
+
+            for (CompletableFuture<String> slowRequest : slowRequests) {
+                assertEquals("slow", slowRequest.get());
+            }
+            // the connections are back in the pool
+            assertEquals("fast", restTemplate.getForObject(networkMapServer.baseUrl() + "/v1/networks/fast", String.class));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDefaultMaxConnectionsFollowTheThreadsSendingRequests() throws Exception {
+        caseServer.stubFor(WireMock.get("/v1/cases").willReturn(WireMock.ok("[]").withFixedDelay(500)));
+        remoteServicesProperties.getHttpClient().setReadTimeout(Duration.ofSeconds(3));
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("study.executor.max-concurrency", "2")
+            .withProperty("server.tomcat.threads.max", "3");
+        RemoteServicesClientHttpRequestFactory threadsRequestFactory = new RemoteServicesClientHttpRequestFactory(remoteServicesProperties, environment, new SimpleMeterRegistry());
+        RestTemplate threadsRestTemplate = new RestTemplate(threadsRequestFactory);
+
+        // one more thread than the executor and servlet threads
+        int threadCount = 2 + 3 + 1;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<CompletableFuture<String>> requests = IntStream.range(0, threadCount)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> threadsRestTemplate.getForObject(caseServer.baseUrl() + "/v1/cases", String.class), executorService))
+                .toList();
+            // only the extra thread waits for a connection
+            assertEquals(1, requests.stream().filter(request -> {
+                try {
+                    assertEquals("[]", request.join());
+                    return false;
+                } catch (CompletionException e) {
+                    assertInstanceOf(ResourceAccessException.class, e.getCause());
+                    assertInstanceOf(ConnectionRequestTimeoutException.class, e.getCause().getCause());
+                    return true;
+                }
+            }).count());
+        } finally {
+            executorService.shutdownNow();
+            threadsRequestFactory.destroy();
+        }
+    }
+
+    private double getPoolGauge(String name, String pool) {
+        return meterRegistry.get(name).tag("pool", pool).gauge().value();
+    }
+}
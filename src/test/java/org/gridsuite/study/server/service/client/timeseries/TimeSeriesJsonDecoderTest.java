@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.gridsuite.study.server.service.client.timeseries;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.timeseries.DoubleTimeSeries;
+import com.powsybl.timeseries.IrregularTimeSeriesIndex;
+import com.powsybl.timeseries.TimeSeries;
+import com.powsybl.timeseries.TimeSeriesIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Check the time series are decoded while reading the json, keeping only the requested ones
+ */
+class TimeSeriesJsonDecoderTest {
+    private static final int CURVE_COUNT = 20;
+    private static final int POINT_COUNT = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testDecodeAllTimeSeries() throws IOException {
+        List<TimeSeries> timeSeries = createTimeSeries();
+        String json = TimeSeries.toJson(timeSeries);
+
+        List<TimeSeries> result = decode(json, null);
+
+        assertThat(result).hasSize(timeSeries.size());
+        assertThat(objectMapper.readTree(TimeSeries.toJson(result))).isEqualTo(objectMapper.readTree(json));
+    }
+
+    @Test
+    void testDecodeRequestedTimeSeries() throws IOException {
+        List<TimeSeries> timeSeries = createTimeSeries();
+
+        List<TimeSeries> result = decode(TimeSeries.toJson(timeSeries), List.of("curve_1", "unknown"));
+
+        assertThat(result).hasSize(1);
+        assertThat(objectMapper.readTree(TimeSeries.toJson(result))).isEqualTo(objectMapper.readTree(TimeSeries.toJson(List.of(timeSeries.get(1)))));
+        assertThat(decode(TimeSeries.toJson(timeSeries), List.of("unknown"))).isEmpty();
+        assertThat(decode(TimeSeries.toJson(timeSeries), List.of("timeline", "curve_0"))).hasSize(2);
+    }
+
+    @Test
+    void testDecodeEmptyJson() throws IOException {
+        assertThat(decode("", null)).isEmpty();
+        assertThat(decode("[]", List.of("curve_1"))).isEmpty();
+        assertThrows(IOException.class, () -> decode("{}", null));
+        assertThrows(IOException.class, () -> decode("[{\"chunks\": []}]", List.of("curve_1")));
+    }
+
+    @Test
+    void testDecodeRequestedTimeSeriesFromFile(@TempDir Path tempDir) throws IOException {
+        // 2 millions points, written one curve at a time
+        Path file = tempDir.resolve("timeseries.json");
+        TimeSeriesIndex index = new IrregularTimeSeriesIndex(IntStream.range(0, POINT_COUNT).mapToLong(i -> i * 10L).toArray());
+        try (JsonGenerator generator = new JsonFactory().createGenerator(Files.newBufferedWriter(file))) {
+            generator.writeStartArray();
+            for (int curve = 0; curve < CURVE_COUNT; curve++) {
+                int offset = curve;
+                TimeSeries.createDouble("curve_" + curve, index, IntStream.range(0, POINT_COUNT).mapToDouble(i -> offset + i / 1000.).toArray())
+                    .writeJson(generator);
+            }
+            generator.writeEndArray();
+        }
+
+        // the curves before and after the requested one are skipped
+        List<TimeSeries> result;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            result = TimeSeriesJsonDecoder.decode(inputStream, List.of("curve_7"));
+        }
+
+        assertThat(result).hasSize(1);
+        DoubleTimeSeries curve = (DoubleTimeSeries) result.getFirst();
+        assertThat(curve.getMetadata().getName()).isEqualTo("curve_7");
+        double[] values = curve.toArray();
+        assertThat(values).hasSize(POINT_COUNT);
+        assertThat(values[0]).isEqualTo(7.);
+        assertThat(values[POINT_COUNT - 1]).isEqualTo(7 + (POINT_COUNT - 1) / 1000.);
+    }
+
+    private static List<TimeSeries> decode(String json, List<String> timeSeriesNames) throws IOException {
+        return TimeSeriesJsonDecoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), timeSeriesNames);
+    }
+
+    private static List<TimeSeries> createTimeSeries() {
+        TimeSeriesIndex index = new IrregularTimeSeriesIndex(new long[]{32, 64, 128, 256});
+        return List.of(
+            TimeSeries.createDouble("curve_0", index, 333.847331, 333.847321, 333.847300, 333.847259),
+            TimeSeries.createDouble("curve_1", index, 1.059970, 1.059970, 1.059970, 1.059970),
+            TimeSeries.createString("timeline", index, "event 1", "event 2", "event 3", "event 4"));
+    }
+}
@@ -7,6 +7,10 @@
 package org.gridsuite.study.server.service.securityanalysis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
 import org.gridsuite.study.server.RemoteServicesProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,17 +18,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.gridsuite.study.server.StudyConstants.SECURITY_ANALYSIS_API_VERSION;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SecurityAnalysisRestServiceTest {
@@ -81,4 +92,85 @@ class SecurityAnalysisRestServiceTest {
         assertThat(captor.getValue().getBody()).isEqualTo(parameters);
         assertThat(captor.getValue().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
     }
+
+    @Test
+    void testCsvExportIsStreamed() throws Exception {
+        long exportSize = 256L * 1024 * 1024;
+        byte[] chunk = new byte[64 * 1024];
+        AtomicLong receivedSize = new AtomicLong();
+        AtomicBoolean forwardedWhileExported = new AtomicBoolean();
+
+        // the computation server generates the export on the fly, and checks half of it has already been forwarded before sending the rest
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "text/csv");
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"n-result.csv\"");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (long sent = 0; sent < exportSize; sent += chunk.length) {
+                    if (sent == exportSize / 2) {
+                        forwardedWhileExported.set(waitForReceivedSize(receivedSize, exportSize / 4));
+                    }
+                    body.write(chunk);
+                }
+            }
+        });
+        server.start();
+
+        ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // not used
+            }
+
+            @Override
+            public void write(int b) {
+                receivedSize.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                receivedSize.addAndGet(len);
+            }
+        };
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        try {
+            SecurityAnalysisRestService streamingRestService = new SecurityAnalysisRestService(remoteServicesProperties, new ObjectMapper(), new RestTemplate());
+            streamingRestService.setBaseUri("http://localhost:" + server.getAddress().getPort());
+            streamingRestService.getSecurityAnalysisResultCsv(UUID.randomUUID(), UUID.randomUUID(), "variantId", SecurityAnalysisResultType.N, null, null, Sort.unsorted(), "{}", response);
+        } finally {
+            server.stop(0);
+        }
+
+        assertThat(forwardedWhileExported).isTrue();
+        assertThat(receivedSize.get()).isEqualTo(exportSize);
+        verify(response).setStatus(200);
+        verify(response).addHeader(argThat(HttpHeaders.CONTENT_TYPE::equalsIgnoreCase), eq("text/csv"));
+        verify(response).addHeader(argThat(HttpHeaders.CONTENT_DISPOSITION::equalsIgnoreCase), eq("attachment; filename=\"n-result.csv\""));
+        verify(response, never()).addHeader(argThat(HttpHeaders.TRANSFER_ENCODING::equalsIgnoreCase), anyString());
+    }
+
+    private static boolean waitForReceivedSize(AtomicLong receivedSize, long expectedSize) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (receivedSize.get() < expectedSize) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+        return true;
+    }
 }
@@ -6,9 +6,11 @@
  */
 package org.gridsuite.study.server.studycontroller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import com.powsybl.network.store.client.PreloadingStrategy;
 import com.powsybl.network.store.model.VariantInfos;
 import com.powsybl.ws.commons.error.PowsyblWsProblemDetail;
@@ -57,6 +59,7 @@ import static org.gridsuite.study.server.utils.MatcherCreatedStudyBasicInfos.cre
 import static org.gridsuite.study.server.utils.MatcherStudyInfos.createMatcherStudyInfos;
 import static org.gridsuite.study.server.utils.TestUtils.USER_DEFAULT_PROFILE_JSON;
 import static org.gridsuite.study.server.utils.TestUtils.checkUpdateStatusMessagesReceived;
+import static org.gridsuite.study.server.utils.wiremock.WireMockUtils.removeRequestForStub;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -258,6 +261,91 @@ class StudyTest extends StudyTestBase {
         deleteStudyStubs.verify(wireMockStubs, computationServerStubs, 10); // voltageInit, loadFlow, securityAnalysis, sensitivityAnalysis, stateEstimation, pccMin, dynamic, shortCircuit
     }
 
+    @Test
+    void testDeleteStudyRemovesReferencesByBatches() throws Exception {
+        UUID studyUuid = createStudyWithStubs("userId", CASE_UUID);
+        List<UUID> nodeUuids = networkModificationTreeService.getChildrenUuids(getRootNodeUuid(studyUuid));
+        assertEquals(1, nodeUuids.size());
+        // 1200 shared modifications referenced by the group : 3 batches of 500 references
+        Map<UUID, UUID> references = new HashMap<>();
+        for (int i = 0; i < 1200; i++) {
+            references.put(UUID.randomUUID(), i % 2 == 0 ? null : UUID.randomUUID());
+        }
+        UUID stubReferencesUuid = wireMockServer.stubFor(WireMock.get(WireMock.urlPathMatching("/v1/groups/.*/references"))
+            .willReturn(WireMock.okJson(mapper.writeValueAsString(references)))).getId();
+        wireMockStubs.directoryServer.stubRemoveReferences();
+        UUID stubUuid = wireMockStubs.stubNetworkModificationDeleteGroup();
+        UUID stubDeleteCaseId = wireMockStubs.caseServer.stubDeleteCase(CASE_UUID_STRING);
+        DeleteStudyStubs deleteStudyStubs = setupDeleteStudyStubs();
+
+        mockMvc.perform(delete("/v1/studies/{studyUuid}", studyUuid).header(USER_ID_HEADER, "userId"))
+            .andExpect(status().isOk());
+
+        wireMockServer.verify(0, WireMock.deleteRequestedFor(WireMock.urlPathMatching("/v1/elements/.*/references/.*")));
+        List<List<ElementReferenceInfos>> batches = getRemovedReferencesBatches();
+        wireMockStubs.directoryServer.verifyRemoveReferences(3);
+        assertEquals(List.of(500, 500, 200), batches.stream().map(List::size).toList());
+        // the modifications without reference are referenced by the node of the group
+        Set<ElementReferenceInfos> expectedReferences = references.entrySet().stream()
+            .map(entry -> new ElementReferenceInfos(entry.getKey(), entry.getValue() != null ? entry.getValue() : nodeUuids.getFirst()))
+            .collect(Collectors.toSet());
+        assertEquals(expectedReferences, batches.stream().flatMap(List::stream).collect(Collectors.toSet()));
+        removeRequestForStub(wireMockServer, stubReferencesUuid, 1);
+        wireMockStubs.verifyNetworkModificationDeleteGroup(stubUuid, false);
+        wireMockStubs.caseServer.verifyDeleteCase(stubDeleteCaseId, CASE_UUID_STRING);
+        deleteStudyStubs.verify(wireMockStubs, computationServerStubs, 10);
+    }
+
+    @Test
+    void testDeleteStudyDeletesTheModificationGroupsIndependently() throws Exception {
+        UUID studyUuid = createStudyWithStubs("userId", CASE_UUID);
+        UUID rootNodeUuid = getRootNodeUuid(studyUuid);
+        UUID unresolvedGroupUuid = UUID.randomUUID();
+        UUID failingGroupUuid = UUID.randomUUID();
+        UUID referencedGroupUuid = UUID.randomUUID();
+        createNetworkModificationNode(studyUuid, rootNodeUuid, unresolvedGroupUuid, VARIANT_ID, "unresolved", "userId");
+        createNetworkModificationNode(studyUuid, rootNodeUuid, failingGroupUuid, VARIANT_ID_2, "failing", "userId");
+        UUID referencedNodeUuid = createNetworkModificationNode(studyUuid, rootNodeUuid, referencedGroupUuid, VARIANT_ID_3, "referenced", "userId").getId();
+
+        // the most recent stubs take precedence over the stubs of all the groups
+        UUID stubReferencesUuid = wireMockStubs.stubGetAllReferencesDataFromGroup();
+        UUID stubDeleteGroupUuid = wireMockStubs.stubNetworkModificationDeleteGroup();
+        UUID modificationUuid = UUID.randomUUID();
+        UUID stubUnresolvedReferencesUuid = wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/groups/" + unresolvedGroupUuid + "/references"))
+            .willReturn(WireMock.serverError())).getId();
+        UUID stubReferencedReferencesUuid = wireMockServer.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/groups/" + referencedGroupUuid + "/references"))
+            .willReturn(WireMock.okJson("{\"" + modificationUuid + "\":null}"))).getId();
+        UUID stubFailingDeleteGroupUuid = wireMockServer.stubFor(WireMock.delete(WireMock.urlPathEqualTo("/v1/groups/" + failingGroupUuid))
+            .willReturn(WireMock.serverError())).getId();
+        wireMockStubs.directoryServer.stubRemoveReferences();
+        UUID stubDeleteCaseId = wireMockStubs.caseServer.stubDeleteCase(CASE_UUID_STRING);
+        DeleteStudyStubs deleteStudyStubs = setupDeleteStudyStubs();
+
+        mockMvc.perform(delete("/v1/studies/{studyUuid}", studyUuid).header(USER_ID_HEADER, "userId"))
+            .andExpect(status().isOk());
+
+        // the group whose references could not be fetched is kept, the others are deleted even if one deletion fails
+        removeRequestForStub(wireMockServer, stubUnresolvedReferencesUuid, 1);
+        removeRequestForStub(wireMockServer, stubReferencedReferencesUuid, 1);
+        removeRequestForStub(wireMockServer, stubReferencesUuid, 2);
+        assertEquals(List.of(List.of(new ElementReferenceInfos(modificationUuid, referencedNodeUuid))), getRemovedReferencesBatches());
+        wireMockStubs.directoryServer.verifyRemoveReferences(1);
+        wireMockServer.verify(0, WireMock.deleteRequestedFor(WireMock.urlPathEqualTo("/v1/groups/" + unresolvedGroupUuid)));
+        wireMockServer.verify(1, WireMock.deleteRequestedFor(WireMock.urlPathEqualTo("/v1/groups/" + referencedGroupUuid)));
+        removeRequestForStub(wireMockServer, stubFailingDeleteGroupUuid, 1);
+        removeRequestForStub(wireMockServer, stubDeleteGroupUuid, 2);
+        wireMockStubs.caseServer.verifyDeleteCase(stubDeleteCaseId, CASE_UUID_STRING);
+        deleteStudyStubs.verify(wireMockStubs, computationServerStubs, 10);
+    }
+
+    private List<List<ElementReferenceInfos>> getRemovedReferencesBatches() throws JsonProcessingException {
+        List<List<ElementReferenceInfos>> batches = new ArrayList<>();
+        for (LoggedRequest request : wireMockServer.findAll(WireMock.deleteRequestedFor(WireMock.urlPathEqualTo("/v1/elements/references")))) {
+            batches.add(mapper.readValue(request.getBodyAsString(), new TypeReference<List<ElementReferenceInfos>>() { }));
+        }
+        return batches;
+    }
+
     @Test
     @ExtendWith(OutputCaptureExtension.class)
     void testDeleteStudyWithError(final CapturedOutput capturedOutput) throws Exception {
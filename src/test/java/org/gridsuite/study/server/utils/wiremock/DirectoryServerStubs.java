@@ -88,6 +88,15 @@ public class DirectoryServerStubs {
         WireMockUtilsCriteria.verifyGetRequest(wireMock, pathBuilder.buildAndExpand().toUriString(), Map.of());
     }
 
+    public void stubRemoveReferences() {
+        wireMock.stubFor(WireMock.delete(WireMock.urlPathEqualTo("/v1/elements/references"))
+            .willReturn(WireMock.ok()));
+    }
+
+    public void verifyRemoveReferences(int nbRequests) {
+        WireMockUtilsCriteria.verifyDeleteRequest(wireMock, "/v1/elements/references", false, Map.of(), nbRequests);
+    }
+
     public void stubGetElementNames(String responseBody) {
         wireMock.stubFor(WireMock.get(WireMock.urlPathEqualTo("/v1/elements/names"))
             .withQueryParam(PARAM_IDS, WireMock.matching(".*"))